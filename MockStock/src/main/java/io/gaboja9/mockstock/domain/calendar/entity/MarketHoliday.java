@@ -0,0 +1,36 @@
+package io.gaboja9.mockstock.domain.calendar.entity;
+
+import io.gaboja9.mockstock.global.common.BaseEntity;
+
+import jakarta.persistence.*;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "market_holidays",
+        indexes = {
+                @Index(name = "idx_market_holidays_date", columnList = "holiday_date", unique = true)
+        })
+public class MarketHoliday extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDate holidayDate;
+
+    private String name;
+
+    public MarketHoliday(LocalDate holidayDate, String name) {
+        this.holidayDate = holidayDate;
+        this.name = name;
+    }
+}
@@ -0,0 +1,15 @@
+package io.gaboja9.mockstock.domain.calendar.repository;
+
+import io.gaboja9.mockstock.domain.calendar.entity.MarketHoliday;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface MarketHolidayRepository extends JpaRepository<MarketHoliday, Long> {
+
+    List<MarketHoliday> findByHolidayDateBetween(LocalDate start, LocalDate end);
+
+    void deleteByHolidayDateBetween(LocalDate start, LocalDate end);
+}
@@ -0,0 +1,69 @@
+package io.gaboja9.mockstock.domain.calendar.service;
+
+import io.gaboja9.mockstock.domain.calendar.entity.MarketHoliday;
+import io.gaboja9.mockstock.domain.calendar.repository.MarketHolidayRepository;
+import io.gaboja9.mockstock.domain.notifications.dto.HolidayApiResponseDto;
+import io.gaboja9.mockstock.domain.notifications.service.HolidayService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MarketHolidayService {
+
+    private static final DateTimeFormatter LOCDATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final MarketHolidayRepository marketHolidayRepository;
+    private final HolidayService holidayService;
+
+    @Transactional(readOnly = true)
+    public List<LocalDate> findHolidays(int year) {
+        return marketHolidayRepository
+                .findByHolidayDateBetween(LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31))
+                .stream()
+                .map(MarketHoliday::getHolidayDate)
+                .toList();
+    }
+
+    /**
+     * 공휴일 API에서 한 해 공휴일을 받아 DB에 저장합니다.
+     *
+     * @return 저장한 공휴일, API 오류이거나 아직 공개되지 않은 연도면 빈 Optional
+     */
+    @Transactional
+    public Optional<List<LocalDate>> refreshYear(int year) {
+        Optional<List<HolidayApiResponseDto.HolidayItem>> items = holidayService.getYearHolidays(year);
+        if (items.isEmpty() || items.get().isEmpty()) {
+            return Optional.empty();
+        }
+
+        // 어린이날과 부처님오신날처럼 같은 날짜에 겹치는 공휴일은 하나로 저장합니다.
+        Map<LocalDate, MarketHoliday> byDate = new LinkedHashMap<>();
+        for (HolidayApiResponseDto.HolidayItem item : items.get()) {
+            LocalDate date = LocalDate.parse(String.valueOf(item.getLocdate()), LOCDATE_FORMAT);
+            byDate.putIfAbsent(date, new MarketHoliday(date, item.getDateName()));
+        }
+        List<MarketHoliday> holidays = List.copyOf(byDate.values());
+
+        // 같은 날짜의 유니크 인덱스와 부딪히지 않도록 삭제를 먼저 반영합니다.
+        marketHolidayRepository.deleteByHolidayDateBetween(
+                LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31));
+        marketHolidayRepository.flush();
+        marketHolidayRepository.saveAll(holidays);
+
+        log.info("{}년 공휴일 {}건 저장 완료", year, holidays.size());
+        return Optional.of(holidays.stream().map(MarketHoliday::getHolidayDate).toList());
+    }
+}
@@ -0,0 +1,172 @@
+package io.gaboja9.mockstock.domain.calendar.service;
+
+import jakarta.annotation.PostConstruct;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 한국거래소(KRX) 거래일/정규장 시간 판단.
+ *
+ * <p>연도별 거래일을 비트셋으로 만들어 두고 조회만 하므로 주문·랭킹·알림 경로에서 외부 API를 호출하지 않습니다. 기동할 때는 DB에
+ * 저장된 휴장일만 읽고, 공휴일 API는 스케줄러에서만 호출해 DB에 저장합니다. API가 실패하면 DB에 저장된 공휴일(없으면 주말과 KRX 자체
+ * 휴장일만)로 판단합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TradingCalendar {
+
+    public static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private static final LocalTime SESSION_OPEN = LocalTime.of(9, 0);
+    // 연초 개장일은 1시간 늦게 시작합니다.
+    private static final LocalTime FIRST_DAY_SESSION_OPEN = LocalTime.of(10, 0);
+    private static final LocalTime SESSION_CLOSE = LocalTime.of(15, 30);
+
+    private final MarketHolidayService marketHolidayService;
+
+    private final Map<Integer, YearCalendar> years = new ConcurrentHashMap<>();
+
+    // 기동 시에는 외부 API를 부르지 않고 저장된 휴장일로 시작합니다.
+    @PostConstruct
+    public void init() {
+        for (int target : targetYears()) {
+            years.computeIfAbsent(target, this::loadFromDatabase);
+        }
+    }
+
+    // 올해와 내년 중 아직 API로 확정되지 않은 연도만 다시 받아옵니다. 확정된 연도는 건너뛰므로 매시간 돌아도
+    // API 호출은 드물고, DB가 비어 있던 첫 기동 뒤에도 한 시간 안에 공휴일이 채워집니다.
+    @Scheduled(cron = "0 5 * * * *", zone = "Asia/Seoul")
+    public void refresh() {
+        for (int target : targetYears()) {
+            YearCalendar calendar = years.get(target);
+            if (calendar == null || calendar.provisional()) {
+                refreshFromApi(target);
+            }
+        }
+    }
+
+    public boolean isTradingDay() {
+        return isTradingDay(LocalDate.now(KST));
+    }
+
+    public boolean isTradingDay(LocalDate date) {
+        return yearOf(date.getYear()).isTradingDay(date);
+    }
+
+    public boolean isSessionOpen() {
+        return isSessionOpen(ZonedDateTime.now(KST));
+    }
+
+    public boolean isSessionOpen(ZonedDateTime time) {
+        ZonedDateTime kst = time.withZoneSameInstant(KST);
+        LocalDate date = kst.toLocalDate();
+        YearCalendar calendar = yearOf(date.getYear());
+
+        if (!calendar.isTradingDay(date)) {
+            return false;
+        }
+
+        LocalTime open = calendar.isFirstTradingDay(date) ? FIRST_DAY_SESSION_OPEN : SESSION_OPEN;
+        LocalTime now = kst.toLocalTime();
+        return !now.isBefore(open) && !now.isAfter(SESSION_CLOSE);
+    }
+
+    private List<Integer> targetYears() {
+        int year = LocalDate.now(KST).getYear();
+        return List.of(year, year + 1);
+    }
+
+    private YearCalendar yearOf(int year) {
+        YearCalendar calendar = years.get(year);
+        if (calendar == null) {
+            calendar = years.computeIfAbsent(year, this::loadFromDatabase);
+        }
+        return calendar;
+    }
+
+    private YearCalendar loadFromDatabase(int year) {
+        List<LocalDate> holidays;
+        try {
+            holidays = marketHolidayService.findHolidays(year);
+        } catch (Exception e) {
+            log.error("{}년 휴장일 DB 조회 실패, 주말과 KRX 휴장일만 적용합니다.", year, e);
+            holidays = List.of();
+        }
+        return YearCalendar.of(year, holidays, holidays.isEmpty());
+    }
+
+    private void refreshFromApi(int year) {
+        try {
+            Optional<List<LocalDate>> holidays = marketHolidayService.refreshYear(year);
+            if (holidays.isPresent()) {
+                years.put(year, YearCalendar.of(year, holidays.get(), false));
+                log.info("{}년 거래일 캘린더 갱신 완료 (공휴일 {}건)", year, holidays.get().size());
+                return;
+            }
+            log.warn("{}년 공휴일을 API에서 받지 못했습니다. 저장된 휴장일로 판단합니다.", year);
+        } catch (Exception e) {
+            log.error("{}년 공휴일 갱신 실패, 저장된 휴장일로 판단합니다.", year, e);
+        }
+        years.computeIfAbsent(year, this::loadFromDatabase);
+    }
+
+    /** 1월 1일을 0번으로 하는 거래일 비트셋. provisional이면 공휴일이 확정되지 않은 상태입니다. */
+    record YearCalendar(int year, BitSet tradingDays, int firstTradingDay, boolean provisional) {
+
+        static YearCalendar of(int year, Collection<LocalDate> holidays, boolean provisional) {
+            Set<LocalDate> closed = new HashSet<>(holidays);
+            // 근로자의 날(노동절)은 거래소 휴장일입니다.
+            closed.add(LocalDate.of(year, Month.MAY, 1));
+
+            BitSet tradingDays = new BitSet(366);
+            for (LocalDate date = LocalDate.of(year, 1, 1);
+                    date.getYear() == year;
+                    date = date.plusDays(1)) {
+                DayOfWeek dayOfWeek = date.getDayOfWeek();
+                if (dayOfWeek != DayOfWeek.SATURDAY
+                        && dayOfWeek != DayOfWeek.SUNDAY
+                        && !closed.contains(date)) {
+                    tradingDays.set(date.getDayOfYear() - 1);
+                }
+            }
+
+            // 연말 휴장일: 12월의 마지막 평일은 거래하지 않습니다.
+            int lastTradingDay = tradingDays.previousSetBit(tradingDays.size() - 1);
+            if (lastTradingDay >= 0
+                    && LocalDate.ofYearDay(year, lastTradingDay + 1).getMonth() == Month.DECEMBER) {
+                tradingDays.clear(lastTradingDay);
+            }
+
+            return new YearCalendar(year, tradingDays, tradingDays.nextSetBit(0), provisional);
+        }
+
+        boolean isTradingDay(LocalDate date) {
+            return tradingDays.get(date.getDayOfYear() - 1);
+        }
+
+        boolean isFirstTradingDay(LocalDate date) {
+            return date.getDayOfYear() - 1 == firstTradingDay;
+        }
+    }
+}
@@ -17,8 +17,14 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Mails extends BaseEntity {
 
+    // 매매 알림 메일을 묶어서 INSERT 할 수 있도록 시퀀스로 ID를 할당합니다.
+    // 기존 DB의 시퀀스 테이블은 IdSequenceInitializer가 max(id) 뒤로 맞춰 둡니다.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "mails_seq_generator")
+    @SequenceGenerator(
+            name = "mails_seq_generator",
+            sequenceName = "mails_seq",
+            allocationSize = 50)
     private Long id;
 
     private boolean deleted = false;
@@ -5,8 +5,12 @@ import io.gaboja9.mockstock.domain.mails.dto.request.MailsRequestDto;
 import io.gaboja9.mockstock.domain.mails.dto.response.MailsResponseDto;
 import io.gaboja9.mockstock.domain.mails.service.MailsService;
 import io.gaboja9.mockstock.domain.members.dto.request.MemosCreateRequestDto;
+import io.gaboja9.mockstock.domain.members.dto.response.EquityCurveResponseDto;
 import io.gaboja9.mockstock.domain.members.dto.response.MemberInfoDto;
 import io.gaboja9.mockstock.domain.members.dto.response.MemoResponseDto;
+import io.gaboja9.mockstock.domain.members.enums.EquityInterval;
+import io.gaboja9.mockstock.domain.members.ledger.MemberAccountLedger;
+import io.gaboja9.mockstock.domain.members.service.MemberEquityService;
 import io.gaboja9.mockstock.domain.members.service.MembersService;
 import io.gaboja9.mockstock.domain.portfolios.dto.response.PortfoliosResponseDto;
 import io.gaboja9.mockstock.domain.portfolios.service.PortfoliosService;
@@ -24,11 +28,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+
 @RestController
 @RequestMapping("/members/me")
 @RequiredArgsConstructor
@@ -38,6 +45,8 @@ public class MembersController implements MembersControllerSpec {
     private final MembersService membersService;
     private final TradesService tradesService;
     private final MailsService mailsService;
+    private final MemberEquityService memberEquityService;
+    private final MemberAccountLedger memberAccountLedger;
 
     @GetMapping("/info")
     public ResponseEntity<MemberInfoDto> getMemberInfo(
@@ -63,6 +72,23 @@ public class MembersController implements MembersControllerSpec {
         return ResponseEntity.ok(portfolios);
     }
 
+    @GetMapping("/equity")
+    public ResponseEntity<EquityCurveResponseDto> getEquityCurve(
+            @AuthenticationPrincipal MembersDetails membersDetails,
+            @RequestParam(defaultValue = "DAILY") EquityInterval interval,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                    LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                    LocalDate to) {
+
+        Long currentId = membersDetails.getId();
+
+        EquityCurveResponseDto equityCurve =
+                memberEquityService.getEquityCurve(currentId, interval, from, to);
+
+        return ResponseEntity.ok(equityCurve);
+    }
+
     @GetMapping("/trades")
     public ResponseEntity<Page<TradesResponseDto>> getTrades(
             @AuthenticationPrincipal MembersDetails membersDetails,
@@ -147,7 +173,13 @@ public class MembersController implements MembersControllerSpec {
 
         Long currentId = membersDetails.getId();
 
-        membersService.processBankruptcy(currentId);
+        // 주문과 같은 회원 원장에서 처리해 진행 중인 주문과 겹치지 않게 합니다.
+        memberAccountLedger.execute(
+                currentId,
+                () -> {
+                    membersService.processBankruptcy(currentId);
+                    return null;
+                });
         return ResponseEntity.noContent().build();
     }
 
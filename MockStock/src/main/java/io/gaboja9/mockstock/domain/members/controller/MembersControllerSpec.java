@@ -4,22 +4,28 @@ import io.gaboja9.mockstock.domain.auth.dto.MembersDetails;
 import io.gaboja9.mockstock.domain.mails.dto.request.MailsRequestDto;
 import io.gaboja9.mockstock.domain.mails.dto.response.MailsResponseDto;
 import io.gaboja9.mockstock.domain.members.dto.request.MemosCreateRequestDto;
+import io.gaboja9.mockstock.domain.members.dto.response.EquityCurveResponseDto;
 import io.gaboja9.mockstock.domain.members.dto.response.MemberInfoDto;
 import io.gaboja9.mockstock.domain.members.dto.response.MemoResponseDto;
+import io.gaboja9.mockstock.domain.members.enums.EquityInterval;
 import io.gaboja9.mockstock.domain.portfolios.dto.response.PortfoliosResponseDto;
 import io.gaboja9.mockstock.domain.trades.dto.request.TradesRequestDto;
 import io.gaboja9.mockstock.domain.trades.dto.response.TradesResponseDto;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+
 @Tag(name = "마이페이지 컨트롤러", description = "마이페이지 API입니다.")
 @RequestMapping("/members/me")
 public interface MembersControllerSpec {
@@ -58,6 +64,35 @@ public interface MembersControllerSpec {
     ResponseEntity<PortfoliosResponseDto> getPortfolios(
             @AuthenticationPrincipal MembersDetails membersDetails);
 
+    @Operation(
+            summary = "자산 추이를 불러옵니다.",
+            description = "장 마감 때 저장한 일별 자산 스냅샷을 일간·주간·월간 단위로 불러옵니다.",
+            responses =
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "성공적으로 자산 추이를 불러왔습니다.",
+                            content =
+                                    @Content(
+                                            mediaType = "application/json",
+                                            schema =
+                                                    @Schema(
+                                                            implementation =
+                                                                    EquityCurveResponseDto.class))))
+    @GetMapping("/equity")
+    ResponseEntity<EquityCurveResponseDto> getEquityCurve(
+            @AuthenticationPrincipal MembersDetails membersDetails,
+            @Parameter(description = "집계 단위 (DAILY, WEEKLY, MONTHLY)")
+                    @RequestParam(defaultValue = "DAILY")
+                    EquityInterval interval,
+            @Parameter(description = "시작일 (기본: 일간 3개월, 주간 1년, 월간 3년 전)")
+                    @RequestParam(required = false)
+                    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                    LocalDate from,
+            @Parameter(description = "종료일 (기본: 오늘)")
+                    @RequestParam(required = false)
+                    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                    LocalDate to);
+
     @Operation(
             summary = "전체 거래내역을 불러옵니다.",
             description = "해당 유저의 모든 거래내역을 불러옵니다.",
@@ -0,0 +1,27 @@
+package io.gaboja9.mockstock.domain.members.dto.response;
+
+import io.gaboja9.mockstock.domain.members.enums.EquityInterval;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Builder
+public class EquityCurveResponseDto {
+
+    @Schema(description = "집계 단위")
+    private EquityInterval interval;
+
+    @Schema(description = "조회 시작일")
+    private LocalDate from;
+
+    @Schema(description = "조회 종료일")
+    private LocalDate to;
+
+    @Schema(description = "자산 추이")
+    private List<EquityPointDto> points;
+}
@@ -0,0 +1,28 @@
+package io.gaboja9.mockstock.domain.members.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@Builder
+public class EquityPointDto {
+
+    @Schema(description = "기준일 (주간·월간은 구간의 마지막 스냅샷 날짜)")
+    private LocalDate date;
+
+    @Schema(description = "총 자산")
+    private long totalAsset;
+
+    @Schema(description = "총 투자원금")
+    private long totalInvestment;
+
+    @Schema(description = "누적 수익률")
+    private double profitRate;
+
+    @Schema(description = "직전 구간 대비 수익률 (충전금 제외)")
+    private double periodReturnRate;
+}
@@ -0,0 +1,61 @@
+package io.gaboja9.mockstock.domain.members.entity;
+
+import jakarta.persistence.*;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/** 장 마감 후 일별 정산 배치가 JDBC로 기록하는 회원별 일자 자산 스냅샷 */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "member_equity_snapshots",
+        indexes = {
+                @Index(
+                        name = "idx_equity_snapshots_member_date",
+                        columnList = "member_id, snapshot_date",
+                        unique = true)
+        })
+public class MemberEquitySnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long memberId;
+
+    @Column(nullable = false)
+    private LocalDate snapshotDate;
+
+    private long cashBalance;
+
+    private long stockValue;
+
+    private long totalAsset;
+
+    private long totalInvestment;
+
+    private double profitRate;
+
+    public MemberEquitySnapshot(
+            Long memberId,
+            LocalDate snapshotDate,
+            long cashBalance,
+            long stockValue,
+            long totalAsset,
+            long totalInvestment,
+            double profitRate) {
+        this.memberId = memberId;
+        this.snapshotDate = snapshotDate;
+        this.cashBalance = cashBalance;
+        this.stockValue = stockValue;
+        this.totalAsset = totalAsset;
+        this.totalInvestment = totalInvestment;
+        this.profitRate = profitRate;
+    }
+}
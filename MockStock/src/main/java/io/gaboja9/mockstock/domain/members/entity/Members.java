@@ -1,16 +1,20 @@
 package io.gaboja9.mockstock.domain.members.entity;
 
 import io.gaboja9.mockstock.domain.members.enums.Role;
+import io.gaboja9.mockstock.domain.members.position.PositionChangeListener;
 import io.gaboja9.mockstock.global.common.BaseEntity;
 
 import jakarta.persistence.*;
 
 import lombok.*;
 
+import org.hibernate.annotations.ColumnDefault;
+
 import java.time.LocalDateTime;
 
 @Getter
 @Entity
+@EntityListeners(PositionChangeListener.class)
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -52,6 +56,11 @@ public class Members extends BaseEntity {
     @Setter
     private double yesterdayProfitRate = 0.0;
 
+    // 낙관적 잠금 버전 (기존 행은 0부터 시작)
+    @Version
+    @ColumnDefault("0")
+    private long version;
+
     @Builder
     public Members(
             String email,
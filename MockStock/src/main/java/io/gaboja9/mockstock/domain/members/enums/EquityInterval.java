@@ -0,0 +1,7 @@
+package io.gaboja9.mockstock.domain.members.enums;
+
+public enum EquityInterval {
+    DAILY,
+    WEEKLY,
+    MONTHLY
+}
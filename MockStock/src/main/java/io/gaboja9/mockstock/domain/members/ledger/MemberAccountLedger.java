@@ -0,0 +1,92 @@
+package io.gaboja9.mockstock.domain.members.ledger;
+
+import io.gaboja9.mockstock.global.concurrent.StripedExecutor;
+
+import jakarta.annotation.PreDestroy;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * 회원 계좌(예수금·보유 종목)를 바꾸는 작업을 회원별로 한 줄로 세워 실행합니다.
+ *
+ * <p>같은 회원의 변경은 항상 같은 스레드에서 순서대로 실행되므로 DB 행 잠금 없이도 서로 겹치지 않습니다. 주문뿐 아니라 충전과 파산
+ * 처리도 이 원장을 거칩니다. 그 밖의 경로(다른 서버 등)와의 충돌은 엔티티 버전으로 감지하고, 충돌 시 작업을 처음부터 다시 실행하므로
+ * 작업은 매번 회원을 새로 읽어야 합니다.
+ */
+@Component
+@Slf4j
+public class MemberAccountLedger {
+
+    private static final int MAX_OPTIMISTIC_RETRIES = 3;
+
+    private final StripedExecutor executor;
+
+    public MemberAccountLedger(
+            @Value("${ledger.stripes:0}") int stripes,
+            @Value("${ledger.queue-capacity:1000}") int queueCapacity) {
+        int stripeCount = stripes > 0 ? stripes : Runtime.getRuntime().availableProcessors() * 2;
+        this.executor = new StripedExecutor("member-ledger", stripeCount, queueCapacity);
+    }
+
+    /** 회원 스트라이프에서 작업을 실행하고 결과를 기다립니다. 작업에서 발생한 예외는 그대로 전달됩니다. */
+    public <T> T execute(Long memberId, Supplier<T> mutation) {
+        if (executor.isStripeThread(memberId)) {
+            return withRetry(memberId, mutation);
+        }
+
+        try {
+            return submit(memberId, mutation).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("회원 원장 작업 대기 중 인터럽트. memberId=" + memberId);
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    /** 회원 스트라이프에 작업을 넣고 바로 반환합니다. 큐가 가득 차면 RejectedExecutionException이 발생합니다. */
+    public <T> CompletableFuture<T> submit(Long memberId, Supplier<T> mutation) {
+        return executor.submit(memberId, () -> withRetry(memberId, mutation));
+    }
+
+    private <T> T withRetry(Long memberId, Supplier<T> mutation) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return mutation.get();
+            } catch (ObjectOptimisticLockingFailureException e) {
+                if (attempt >= MAX_OPTIMISTIC_RETRIES) {
+                    throw e;
+                }
+                log.warn("회원 계좌 버전 충돌, 재시도합니다. memberId={}, attempt={}", memberId, attempt);
+            }
+        }
+    }
+
+    private RuntimeException unwrap(Throwable cause) {
+        if (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new CompletionException(cause);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
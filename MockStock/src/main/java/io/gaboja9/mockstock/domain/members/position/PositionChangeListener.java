@@ -0,0 +1,68 @@
+package io.gaboja9.mockstock.domain.members.position;
+
+import io.gaboja9.mockstock.domain.members.entity.Members;
+import io.gaboja9.mockstock.domain.portfolios.entity.Portfolios;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 회원 현금·보유 종목 변경을 실시간 평가(랭킹, 포트폴리오 푸시)에 알리는 JPA 엔티티 리스너.
+ *
+ * <p>주문·정산·파산·충전 경로마다 호출을 넣지 않고 엔티티 변경 시점에 한 번에 잡으며, 트랜잭션 안이면 커밋된 뒤에 알립니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PositionChangeListener {
+
+    private final ObjectProvider<PositionChangeObserver> observers;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        Long memberId = null;
+        if (entity instanceof Members member) {
+            memberId = member.getId();
+        } else if (entity instanceof Portfolios portfolio && portfolio.getMembers() != null) {
+            memberId = portfolio.getMembers().getId();
+        }
+        if (memberId == null) {
+            return;
+        }
+
+        Long changedMemberId = memberId;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            notifyObservers(changedMemberId);
+                        }
+                    });
+            return;
+        }
+        notifyObservers(changedMemberId);
+    }
+
+    private void notifyObservers(Long memberId) {
+        observers.forEach(
+                observer -> {
+                    try {
+                        observer.onPositionChanged(memberId);
+                    } catch (Exception e) {
+                        log.error("포지션 변경 알림 처리 실패: memberId={}", memberId, e);
+                    }
+                });
+    }
+}
@@ -0,0 +1,7 @@
+package io.gaboja9.mockstock.domain.members.position;
+
+/** 회원의 현금이나 보유 종목이 바뀌어 커밋된 뒤 호출됩니다. */
+public interface PositionChangeObserver {
+
+    void onPositionChanged(Long memberId);
+}
@@ -0,0 +1,105 @@
+package io.gaboja9.mockstock.domain.members.repository;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 일별 수익률 배치 전용 JDBC 접근.
+ *
+ * <p>회원을 ID 순으로 끊어 읽고, 청크마다 수익률 갱신과 자산 스냅샷 저장을 배치 SQL로 한 번에 커밋합니다. 영속성 컨텍스트를 거치지 않으므로
+ * 회원 수가 늘어도 메모리 사용량은 청크 크기만큼만 유지됩니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DailyProfitRateJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record MemberBalanceRow(long memberId, int cashBalance, int totalInvestedAmount) {}
+
+    public record HoldingRow(long memberId, String stockCode, int quantity) {}
+
+    public record EquityRow(
+            long memberId,
+            long cashBalance,
+            long stockValue,
+            long totalAsset,
+            long totalInvestment,
+            double profitRate) {}
+
+    /** afterId보다 큰 회원을 ID 순으로 최대 size명 조회합니다. */
+    public List<MemberBalanceRow> findMembersAfter(long afterId, int size) {
+        return jdbcTemplate.query(
+                "SELECT id, cash_balance, total_invested_amount FROM members"
+                        + " WHERE id > ? ORDER BY id LIMIT ?",
+                (rs, rowNum) ->
+                        new MemberBalanceRow(
+                                rs.getLong("id"),
+                                rs.getInt("cash_balance"),
+                                rs.getInt("total_invested_amount")),
+                afterId,
+                size);
+    }
+
+    public List<HoldingRow> findHoldingsBetween(long fromMemberId, long toMemberId) {
+        return jdbcTemplate.query(
+                "SELECT members_id, stock_code, quantity FROM portfolios"
+                        + " WHERE members_id BETWEEN ? AND ? AND quantity > 0",
+                (rs, rowNum) ->
+                        new HoldingRow(
+                                rs.getLong("members_id"),
+                                rs.getString("stock_code"),
+                                rs.getInt("quantity")),
+                fromMemberId,
+                toMemberId);
+    }
+
+    /** 한 청크의 전일 수익률 갱신과 일자 스냅샷 저장을 한 트랜잭션으로 처리합니다. 같은 날 다시 실행해도 스냅샷은 덮어씁니다. */
+    @Transactional
+    public void saveChunk(LocalDate snapshotDate, List<EquityRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        // JPA 쪽 동시 수정과 충돌을 감지할 수 있도록 버전도 올립니다.
+        jdbcTemplate.batchUpdate(
+                "UPDATE members SET yesterday_profit_rate = ?, version = version + 1 WHERE id = ?",
+                rows,
+                rows.size(),
+                (ps, row) -> {
+                    ps.setDouble(1, row.profitRate());
+                    ps.setLong(2, row.memberId());
+                });
+
+        Date date = Date.valueOf(snapshotDate);
+        jdbcTemplate.update(
+                "DELETE FROM member_equity_snapshots"
+                        + " WHERE snapshot_date = ? AND member_id BETWEEN ? AND ?",
+                date,
+                rows.get(0).memberId(),
+                rows.get(rows.size() - 1).memberId());
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO member_equity_snapshots"
+                        + " (member_id, snapshot_date, cash_balance, stock_value, total_asset,"
+                        + " total_investment, profit_rate) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                rows,
+                rows.size(),
+                (ps, row) -> {
+                    ps.setLong(1, row.memberId());
+                    ps.setDate(2, date);
+                    ps.setLong(3, row.cashBalance());
+                    ps.setLong(4, row.stockValue());
+                    ps.setLong(5, row.totalAsset());
+                    ps.setLong(6, row.totalInvestment());
+                    ps.setDouble(7, row.profitRate());
+                });
+    }
+}
@@ -0,0 +1,18 @@
+package io.gaboja9.mockstock.domain.members.repository;
+
+import io.gaboja9.mockstock.domain.members.entity.MemberEquitySnapshot;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface MemberEquitySnapshotRepository extends JpaRepository<MemberEquitySnapshot, Long> {
+
+    List<MemberEquitySnapshot> findByMemberIdAndSnapshotDateBetweenOrderBySnapshotDate(
+            Long memberId, LocalDate from, LocalDate to);
+
+    List<MemberEquitySnapshot> findByMemberIdOrderBySnapshotDate(Long memberId);
+}
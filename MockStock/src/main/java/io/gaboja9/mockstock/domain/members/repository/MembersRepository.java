@@ -1,24 +1,31 @@
 package io.gaboja9.mockstock.domain.members.repository;
 
 import io.gaboja9.mockstock.domain.members.entity.Members;
-
-import jakarta.persistence.LockModeType;
+import io.gaboja9.mockstock.domain.ranks.dto.RankingMemberRow;
 
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface MembersRepository extends JpaRepository<Members, Long> {
     Optional<Members> findByEmail(String email);
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("SELECT m FROM Members m WHERE m.id = :id")
-    Optional<Members> findByIdWithLock(@Param("id") Long id);
-
     int countByYesterdayProfitRateGreaterThan(double rate);
     int countByBankruptcyCntGreaterThan(int bankruptcyCnt);
+
+    @Query(
+            "SELECT new io.gaboja9.mockstock.domain.ranks.dto.RankingMemberRow("
+                    + "m.id, m.nickname, m.cashBalance, m.totalInvestedAmount, m.bankruptcyCnt) "
+                    + "FROM Members m")
+    List<RankingMemberRow> findAllRankingRows();
+
+    @Query(
+            "SELECT new io.gaboja9.mockstock.domain.ranks.dto.RankingMemberRow("
+                    + "m.id, m.nickname, m.cashBalance, m.totalInvestedAmount, m.bankruptcyCnt) "
+                    + "FROM Members m WHERE m.id IN :ids")
+    List<RankingMemberRow> findRankingRowsByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -1,34 +1,119 @@
 package io.gaboja9.mockstock.domain.members.service;
 
-import io.gaboja9.mockstock.domain.members.entity.Members;
-import io.gaboja9.mockstock.domain.members.repository.MembersRepository;
-import io.gaboja9.mockstock.domain.portfolios.dto.response.PortfoliosResponseDto;
-import io.gaboja9.mockstock.domain.portfolios.service.PortfoliosService;
+import io.gaboja9.mockstock.domain.members.repository.DailyProfitRateJdbcRepository;
+import io.gaboja9.mockstock.domain.members.repository.DailyProfitRateJdbcRepository.EquityRow;
+import io.gaboja9.mockstock.domain.members.repository.DailyProfitRateJdbcRepository.HoldingRow;
+import io.gaboja9.mockstock.domain.members.repository.DailyProfitRateJdbcRepository.MemberBalanceRow;
+import io.gaboja9.mockstock.global.websocket.HantuWebSocketHandler;
+
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+/**
+ * 장 마감 후 회원별 수익률을 전일 수익률로 저장하고 일자별 자산 스냅샷을 남깁니다.
+ *
+ * <p>회원을 ID 순으로 청크 단위로 읽어 메모리에서 평가하고, 청크마다 배치 SQL로 커밋합니다. 한 청크가 실패해도 이미 커밋한 청크는
+ * 유지되며 같은 날 다시 실행하면 스냅샷을 덮어씁니다.
+ */
+@Slf4j
 @Component
 @RequiredArgsConstructor
-@Transactional
 public class DailyProfitRateScheduler {
-    private final MembersRepository membersRepository;
-    private final PortfoliosService portfoliosService;
+
+    private static final long BASIC_AMOUNT = 30_000_000;
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final DailyProfitRateJdbcRepository dailyProfitRateJdbcRepository;
+    private final HantuWebSocketHandler hantuWebSocketHandler;
+    private final MemberEquityService memberEquityService;
+
+    @Value("${profit-rate.batch.chunk-size:1000}")
+    private int chunkSize;
 
     @Scheduled(cron = "0 0 16 * * *", zone = "Asia/Seoul")
     public void updateYesterdayProfitRate() {
+        LocalDate snapshotDate = LocalDate.now(KST);
+        Map<String, Integer> prices = new HashMap<>();
+        long lastId = 0;
+        int processed = 0;
+        long startedAt = System.currentTimeMillis();
+
+        while (true) {
+            List<MemberBalanceRow> members =
+                    dailyProfitRateJdbcRepository.findMembersAfter(lastId, chunkSize);
+            if (members.isEmpty()) {
+                break;
+            }
+
+            long fromId = members.get(0).memberId();
+            lastId = members.get(members.size() - 1).memberId();
+            List<HoldingRow> holdings =
+                    dailyProfitRateJdbcRepository.findHoldingsBetween(fromId, lastId);
+
+            dailyProfitRateJdbcRepository.saveChunk(
+                    snapshotDate, evaluate(members, holdings, prices));
+            processed += members.size();
 
-        List<Members> allMembers = membersRepository.findAll();
+            if (members.size() < chunkSize) {
+                break;
+            }
+        }
+
+        memberEquityService.evictRollups();
+
+        log.info(
+                "전일 수익률 저장 완료: date={}, members={}, {}ms",
+                snapshotDate,
+                processed,
+                System.currentTimeMillis() - startedAt);
+    }
 
-        for (Members member : allMembers) {
+    private List<EquityRow> evaluate(
+            List<MemberBalanceRow> members,
+            List<HoldingRow> holdings,
+            Map<String, Integer> prices) {
+        Map<Long, Long> stockValues = new HashMap<>();
+        for (HoldingRow holding : holdings) {
+            int price = prices.computeIfAbsent(holding.stockCode(), this::getCurrentPrice);
+            stockValues.merge(holding.memberId(), (long) holding.quantity() * price, Long::sum);
+        }
+
+        List<EquityRow> rows = new ArrayList<>(members.size());
+        for (MemberBalanceRow member : members) {
+            long stockValue = stockValues.getOrDefault(member.memberId(), 0L);
+            long totalAsset = member.cashBalance() + stockValue;
+            long totalInvestment = BASIC_AMOUNT + member.totalInvestedAmount();
 
-            PortfoliosResponseDto dto = portfoliosService.getPortfolios(member.getId());
-            double profitRate = dto.getTotalProfitRate();
+            // 포트폴리오 조회와 같은 방식으로 소수점 2자리까지 계산합니다.
+            double profitRate =
+                    Math.round((double) (totalAsset - totalInvestment) / totalInvestment * 10000.0)
+                            / 100.0;
 
-            member.setYesterdayProfitRate(profitRate);
+            rows.add(
+                    new EquityRow(
+                            member.memberId(),
+                            member.cashBalance(),
+                            stockValue,
+                            totalAsset,
+                            totalInvestment,
+                            profitRate));
         }
+        return rows;
+    }
+
+    // 체결가가 없으면 전일 종가, 그것도 없는 종목은 포트폴리오 조회와 마찬가지로 0원으로 평가합니다.
+    private int getCurrentPrice(String stockCode) {
+        return hantuWebSocketHandler.getQuote(stockCode).price();
     }
 }
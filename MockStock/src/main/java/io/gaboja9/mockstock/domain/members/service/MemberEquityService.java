@@ -0,0 +1,154 @@
+package io.gaboja9.mockstock.domain.members.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.gaboja9.mockstock.domain.members.dto.response.EquityCurveResponseDto;
+import io.gaboja9.mockstock.domain.members.dto.response.EquityPointDto;
+import io.gaboja9.mockstock.domain.members.entity.MemberEquitySnapshot;
+import io.gaboja9.mockstock.domain.members.enums.EquityInterval;
+import io.gaboja9.mockstock.domain.members.repository.MemberEquitySnapshotRepository;
+import io.gaboja9.mockstock.global.exception.BaseException;
+import io.gaboja9.mockstock.global.exception.ErrorCode;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일별 자산 스냅샷으로 회원의 자산 추이를 조회합니다.
+ *
+ * <p>일간은 요청 구간만 바로 읽고, 주간·월간은 회원 전체 이력을 한 번 집계해 캐시한 뒤 구간만 잘라 돌려줍니다. 스냅샷은 하루 한 번 장 마감
+ * 배치에서만 쌓이므로 배치가 끝나면 캐시를 비웁니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MemberEquityService {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final MemberEquitySnapshotRepository memberEquitySnapshotRepository;
+
+    private record RollupKey(Long memberId, EquityInterval interval) {}
+
+    private final Cache<RollupKey, List<EquityPointDto>> rollups =
+            Caffeine.newBuilder().maximumSize(10_000).expireAfterWrite(Duration.ofHours(1)).build();
+
+    public EquityCurveResponseDto getEquityCurve(
+            Long memberId, EquityInterval interval, LocalDate from, LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now(KST);
+        LocalDate start = from != null ? from : defaultFrom(interval, end);
+        if (start.isAfter(end)) {
+            throw new BaseException(ErrorCode.INVALID_INPUT_VALUE, "from은 to보다 늦을 수 없습니다.");
+        }
+
+        List<EquityPointDto> points =
+                interval == EquityInterval.DAILY
+                        ? daily(memberId, start, end)
+                        : rollups.get(
+                                        new RollupKey(memberId, interval),
+                                        key -> rollup(memberId, interval))
+                                .stream()
+                                .filter(
+                                        p -> !p.getDate().isBefore(start)
+                                                && !p.getDate().isAfter(end))
+                                .toList();
+
+        return EquityCurveResponseDto.builder()
+                .interval(interval)
+                .from(start)
+                .to(end)
+                .points(points)
+                .build();
+    }
+
+    /** 장 마감 배치가 새 스냅샷을 저장한 뒤 호출합니다. */
+    public void evictRollups() {
+        rollups.invalidateAll();
+    }
+
+    private List<EquityPointDto> daily(Long memberId, LocalDate start, LocalDate end) {
+        // 첫 날의 전일 대비 수익률을 계산하려고 하루 앞 스냅샷부터 읽습니다.
+        List<MemberEquitySnapshot> snapshots =
+                memberEquitySnapshotRepository
+                        .findByMemberIdAndSnapshotDateBetweenOrderBySnapshotDate(
+                                memberId, start.minusDays(1), end);
+
+        List<EquityPointDto> points = new ArrayList<>(snapshots.size());
+        MemberEquitySnapshot previous = null;
+        for (MemberEquitySnapshot snapshot : snapshots) {
+            if (!snapshot.getSnapshotDate().isBefore(start)) {
+                points.add(toPoint(snapshot, previous));
+            }
+            previous = snapshot;
+        }
+        return points;
+    }
+
+    private List<EquityPointDto> rollup(Long memberId, EquityInterval interval) {
+        List<MemberEquitySnapshot> snapshots =
+                memberEquitySnapshotRepository.findByMemberIdOrderBySnapshotDate(memberId);
+
+        // 구간마다 마지막 스냅샷(종가)을 대표값으로 씁니다.
+        List<EquityPointDto> points = new ArrayList<>();
+        MemberEquitySnapshot previousClose = null;
+        for (int i = 0; i < snapshots.size(); i++) {
+            MemberEquitySnapshot snapshot = snapshots.get(i);
+            boolean lastOfBucket =
+                    i == snapshots.size() - 1
+                            || !bucketOf(snapshots.get(i + 1).getSnapshotDate(), interval)
+                                    .equals(bucketOf(snapshot.getSnapshotDate(), interval));
+            if (lastOfBucket) {
+                points.add(toPoint(snapshot, previousClose));
+                previousClose = snapshot;
+            }
+        }
+        return List.copyOf(points);
+    }
+
+    private EquityPointDto toPoint(MemberEquitySnapshot snapshot, MemberEquitySnapshot previous) {
+        return EquityPointDto.builder()
+                .date(snapshot.getSnapshotDate())
+                .totalAsset(snapshot.getTotalAsset())
+                .totalInvestment(snapshot.getTotalInvestment())
+                .profitRate(snapshot.getProfitRate())
+                .periodReturnRate(periodReturnRate(snapshot, previous))
+                .build();
+    }
+
+    // 구간 중 충전한 금액은 수익에서 뺍니다.
+    private double periodReturnRate(MemberEquitySnapshot current, MemberEquitySnapshot previous) {
+        if (previous == null || previous.getTotalAsset() <= 0) {
+            return 0.0;
+        }
+        long deposit = current.getTotalInvestment() - previous.getTotalInvestment();
+        long profit = current.getTotalAsset() - previous.getTotalAsset() - deposit;
+        return Math.round((double) profit / previous.getTotalAsset() * 10000.0) / 100.0;
+    }
+
+    private static LocalDate bucketOf(LocalDate date, EquityInterval interval) {
+        return switch (interval) {
+            case DAILY -> date;
+            case WEEKLY -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTHLY -> date.withDayOfMonth(1);
+        };
+    }
+
+    private static LocalDate defaultFrom(EquityInterval interval, LocalDate end) {
+        return switch (interval) {
+            case DAILY -> end.minusMonths(3);
+            case WEEKLY -> end.minusYears(1);
+            case MONTHLY -> end.minusYears(3);
+        };
+    }
+}
@@ -38,7 +38,9 @@ public class MembersService {
                         .orElseThrow(() -> new NotFoundMemberException(memberId));
 
         int tradeCnt = tradesRepository.countByMembersId(memberId);
-        int ranking = ranksService.getMemberReturnRateRank(memberId);
+        // 랭킹이 아직 계산되지 않았으면 0(순위 없음)으로 보여줍니다.
+        Integer rank = ranksService.getMemberReturnRateRank(memberId);
+        int ranking = rank == null ? 0 : rank;
         int period =
                 (int) ChronoUnit.DAYS.between(member.getCreatedAt().toLocalDate(), LocalDate.now());
         int bankruptcyCnt = member.getBankruptcyCnt();
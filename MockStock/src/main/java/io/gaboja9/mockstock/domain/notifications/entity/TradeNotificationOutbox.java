@@ -0,0 +1,54 @@
+package io.gaboja9.mockstock.domain.notifications.entity;
+
+import io.gaboja9.mockstock.domain.trades.entity.TradeType;
+import io.gaboja9.mockstock.global.common.BaseEntity;
+
+import jakarta.persistence.*;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/** 체결 트랜잭션에서 함께 저장되고, 커밋 이후 디스패처가 메일/실시간 알림으로 보낸 뒤 삭제하는 매매 알림 대기열 */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "trade_notification_outbox")
+public class TradeNotificationOutbox extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "trade_notification_outbox_seq_generator")
+    @SequenceGenerator(
+            name = "trade_notification_outbox_seq_generator",
+            sequenceName = "trade_notification_outbox_seq",
+            allocationSize = 50)
+    private Long id;
+
+    private Long memberId;
+
+    private String stockCode;
+
+    private String stockName;
+
+    @Enumerated(EnumType.STRING)
+    private TradeType tradeType;
+
+    private int quantity;
+
+    private int price;
+
+    public TradeNotificationOutbox(
+            Long memberId,
+            String stockCode,
+            String stockName,
+            TradeType tradeType,
+            int quantity,
+            int price) {
+        this.memberId = memberId;
+        this.stockCode = stockCode;
+        this.stockName = stockName;
+        this.tradeType = tradeType;
+        this.quantity = quantity;
+        this.price = price;
+    }
+}
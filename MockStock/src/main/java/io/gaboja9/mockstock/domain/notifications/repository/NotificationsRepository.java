@@ -4,8 +4,12 @@ import io.gaboja9.mockstock.domain.notifications.entity.Notifications;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface NotificationsRepository extends JpaRepository<Notifications, Long> {
     Optional<Notifications> findByMembersId(Long memberId);
+
+    List<Notifications> findByMembersIdIn(Collection<Long> memberIds);
 }
@@ -0,0 +1,24 @@
+package io.gaboja9.mockstock.domain.notifications.repository;
+
+import io.gaboja9.mockstock.domain.notifications.entity.TradeNotificationOutbox;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
+
+public interface TradeNotificationOutboxRepository
+        extends JpaRepository<TradeNotificationOutbox, Long> {
+
+    // lock.timeout = -2 는 Hibernate의 SKIP LOCKED 로, 다른 인스턴스가 처리 중인 행은 건너뜁니다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM TradeNotificationOutbox o ORDER BY o.id")
+    List<TradeNotificationOutbox> findDispatchBatch(Pageable pageable);
+}
@@ -1,6 +1,6 @@
 package io.gaboja9.mockstock.domain.notifications.scheduler;
 
-import io.gaboja9.mockstock.domain.notifications.service.HolidayService;
+import io.gaboja9.mockstock.domain.calendar.service.TradingCalendar;
 import io.gaboja9.mockstock.domain.notifications.service.NotificationsService;
 
 import lombok.RequiredArgsConstructor;
@@ -9,7 +9,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.time.DayOfWeek;
 import java.time.LocalDate;
 
 @Slf4j
@@ -17,12 +16,12 @@ import java.time.LocalDate;
 @RequiredArgsConstructor
 public class MarketTimeScheduler {
     private final NotificationsService notificationsService;
-    private final HolidayService holidayService;
+    private final TradingCalendar tradingCalendar;
 
     // 매일 오전 8시 50분 - 개장 10분 전 알림 평일(월~금)에만 실행
     @Scheduled(cron = "0 50 8 * * MON-FRI", zone = "Asia/Seoul")
     public void sendMarketOpenNotification() {
-        if (!isTradingDay()) {
+        if (!tradingCalendar.isTradingDay()) {
             log.info("오늘은 거래일이 아닙니다.");
             return;
         }
@@ -40,7 +39,7 @@ public class MarketTimeScheduler {
     // 매일 오후 3시 20분 - 마감 10분 전 알림 평일(월~금)에만 실행
     @Scheduled(cron = "0 20 15 * * MON-FRI", zone = "Asia/Seoul")
     public void sendMarketCloseNotification() {
-        if (!isTradingDay()) {
+        if (!tradingCalendar.isTradingDay()) {
             log.info("오늘은 거래일이 아닙니다.");
             return;
         }
@@ -54,20 +53,4 @@ public class MarketTimeScheduler {
             log.error("시장 마감 알림 발송 실패", e);
         }
     }
-
-    public boolean isTradingDay() {
-        LocalDate today = LocalDate.now();
-        DayOfWeek dayOfWeek = today.getDayOfWeek();
-
-        if (dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY) {
-            return false;
-        }
-
-        if (holidayService.isHoliday(today)) {
-            log.info("오늘({})은 공휴일입니다.", today);
-            return false;
-        }
-
-        return true;
-    }
 }
@@ -0,0 +1,54 @@
+package io.gaboja9.mockstock.domain.notifications.scheduler;
+
+import io.gaboja9.mockstock.domain.notifications.service.TradeNotificationOutboxService;
+import io.gaboja9.mockstock.domain.notifications.service.TradeNotificationOutboxService.Delivery;
+import io.gaboja9.mockstock.domain.notifications.service.TradeNotificationOutboxService.DrainResult;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TradeNotificationDispatcher {
+
+    private static final int BATCH_SIZE = 200;
+    private static final int MAX_BATCHES_PER_RUN = 10;
+
+    private final TradeNotificationOutboxService tradeNotificationOutboxService;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    // 대기열이 밀려 있으면 한 번 실행에 여러 묶음을 처리합니다.
+    @Scheduled(fixedDelayString = "${notification.outbox.dispatch-interval-ms:500}")
+    public void dispatch() {
+        for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+            DrainResult result;
+            try {
+                result = tradeNotificationOutboxService.drain(BATCH_SIZE);
+            } catch (Exception e) {
+                log.error("매매 알림 대기열 처리 실패", e);
+                return;
+            }
+
+            // 메일 저장이 커밋된 뒤에 실시간 알림을 보냅니다.
+            result.deliveries().forEach(this::push);
+
+            if (result.drained() < BATCH_SIZE) {
+                return;
+            }
+        }
+    }
+
+    private void push(Delivery delivery) {
+        try {
+            messagingTemplate.convertAndSendToUser(
+                    String.valueOf(delivery.memberId()), "/queue/notifications", delivery.notification());
+        } catch (Exception e) {
+            log.error("실시간 알림 발송 실패 - 사용자: {}", delivery.memberId(), e);
+        }
+    }
+}
@@ -15,9 +15,8 @@ import java.io.BufferedReader;
 import java.io.InputStreamReader;
 import java.net.HttpURLConnection;
 import java.net.URL;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Optional;
 
 @Slf4j
 @Service
@@ -32,45 +31,26 @@ public class HolidayService {
     @Value("${holiday-api.service-key}")
     private String serviceKey;
 
-    public boolean isHoliday(LocalDate date) {
-        try {
-            log.info("=== 공휴일 확인 시작: {} ===", date);
-
-            HolidayApiResponseDto response = getHolidays(date.getYear(), date.getMonthValue());
-
-            if (!isValidResponse(response)) {
-                log.info("=== 공휴일 정보 없음 또는 API 응답 오류: {} ===", date);
-                return false;
-            }
-
-            List<HolidayApiResponseDto.HolidayItem> holidays = extractHolidayItems(response);
-
-            if (holidays.isEmpty()) {
-                log.info("=== 해당 월({}/{})에 공휴일 없음 ===", date.getYear(), date.getMonthValue());
-                return false;
-            }
-
-            int targetDate = Integer.parseInt(date.format(DateTimeFormatter.ofPattern("yyyyMMdd")));
+    @Value("${holiday-api.timeout:5000}")
+    private int timeout;
 
-            boolean result =
-                    response.getResponse().getBody().getItems().getItem().stream()
-                            .anyMatch(
-                                    item ->
-                                            "Y".equals(item.getIsHoliday())
-                                                    && item.getLocdate() == targetDate);
+    // 한 해의 공휴일을 한 번에 조회합니다. API 오류로 알 수 없으면 빈 Optional을 반환합니다.
+    public Optional<List<HolidayApiResponseDto.HolidayItem>> getYearHolidays(int year) {
+        String url =
+                String.format(
+                        "%s/getRestDeInfo?serviceKey=%s&solYear=%d&numOfRows=100&_type=json",
+                        baseUrl, serviceKey, year);
 
-            if (result) {
-                log.info("=== 공휴일입니다: {} ===", date);
-            } else {
-                log.info("=== 평일입니다: {} ===", date);
-            }
-
-            return result;
-
-        } catch (Exception e) {
-            log.error("=== 공휴일 확인 중 오류 발생: {} ===", date, e);
-            return false;
+        HolidayApiResponseDto response = requestHolidays(url);
+        if (!isValidResponse(response)) {
+            log.warn("=== {}년 공휴일 조회 실패 ===", year);
+            return Optional.empty();
         }
+
+        return Optional.of(
+                extractHolidayItems(response).stream()
+                        .filter(item -> "Y".equals(item.getIsHoliday()))
+                        .toList());
     }
 
     private boolean isValidResponse(HolidayApiResponseDto response) {
@@ -86,13 +66,13 @@ public class HolidayService {
 
             // items가 null인 경우
             if (body.getItems() == null) {
-                log.info("=== API 응답에 items가 없음 (해당 월에 공휴일 없음) ===");
+                log.info("=== API 응답에 items가 없음 (해당 기간에 공휴일 없음) ===");
                 return List.of();
             }
 
             // item 리스트가 null인 경우
             if (body.getItems().getItem() == null) {
-                log.info("=== API 응답에 item 리스트가 없음 (해당 월에 공휴일 없음) ===");
+                log.info("=== API 응답에 item 리스트가 없음 (해당 기간에 공휴일 없음) ===");
                 return List.of();
             }
 
@@ -104,16 +84,13 @@ public class HolidayService {
         }
     }
 
-    private HolidayApiResponseDto getHolidays(int year, int month) {
+    private HolidayApiResponseDto requestHolidays(String url) {
         try {
-            String url =
-                    String.format(
-                            "%s/getRestDeInfo?serviceKey=%s&solYear=%d&solMonth=%02d&_type=json",
-                            baseUrl, serviceKey, year, month);
-
             URL apiUrl = new URL(url);
             HttpURLConnection conn = (HttpURLConnection) apiUrl.openConnection();
             conn.setRequestMethod("GET");
+            conn.setConnectTimeout(timeout);
+            conn.setReadTimeout(timeout);
             conn.setRequestProperty("Content-type", "application/json");
 
             BufferedReader rd;
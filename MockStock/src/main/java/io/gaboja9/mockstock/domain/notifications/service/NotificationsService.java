@@ -27,7 +27,6 @@ import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Locale;
-import java.util.Optional;
 
 @Slf4j
 @Service
@@ -40,72 +39,29 @@ public class NotificationsService {
     private final SimpMessagingTemplate messagingTemplate;
 
     // 매매 알림
-    // 1. 매매 완료시 메일 발송
-    public void sendTradeNotification(
-            Long memberId,
-            String stockCode,
-            String stockName,
-            TradeType tradeType,
-            int quantity,
-            int price) {
-
-        if (!tradeNotificationEnabled(memberId)) {
-            log.debug("사용자 {}의 매매 알림이 비활성화되어 있습니다.", memberId);
-            return;
-        }
-
-        Optional<Members> member = membersRepository.findById(memberId);
-
-        String subject = createTradeSubject(stockName, tradeType, quantity, price);
-        String content = createTradeContent(stockCode, stockName, tradeType, quantity, price);
-
-        Mails mail = new Mails(subject, content, true, null, member.get());
-        mailsRepository.save(mail);
-
-        try {
-            TradeNotificationDataDto tradeData =
-                    TradeNotificationDataDto.builder()
-                            .stockCode(stockCode)
-                            .stockName(stockName)
-                            .tradeType(tradeType)
-                            .quantity(quantity)
-                            .price(price)
-                            .totalAmount(price * quantity)
-                            .build();
-
-            NotificationDto notification =
-                    NotificationDto.builder()
-                            .type(NotificationEventType.TRADE)
-                            .title(subject)
-                            .message(content)
-                            .timestamp(LocalDateTime.now())
-                            .data(tradeData)
-                            .build();
-
-            messagingTemplate.convertAndSendToUser(
-                    String.valueOf(memberId), "/queue/notifications", notification);
-
-            log.info(
-                    "실시간 알림 발송 완료 - 사용자: {}, 종목: {}, 타입: {}",
-                    memberId,
-                    stockName,
-                    tradeType.name());
-        } catch (Exception e) {
-            log.error("실시간 알림 발송 실패 - 사용자: {}, 종목: {}", memberId, stockName, e);
-        }
-
-        log.info("매매 알림 발송 완료 - 사용자: {}, 종목: {}, 타입: {}", memberId, stockName, tradeType.name());
-    }
-
-    // 2. 사용자의 매매 알림 설정 확인
-    private boolean tradeNotificationEnabled(Long memberId) {
-        return notificationsRepository
-                .findByMembersId(memberId)
-                .map(Notifications::isTradeNotificationEnabled)
-                .orElse(true);
+    // 1. 매매 알림 메시지 생성 (TradeNotificationOutboxService가 메일 제목/내용과 실시간 알림에 함께 사용)
+    NotificationDto createTradeNotification(
+            String stockCode, String stockName, TradeType tradeType, int quantity, int price) {
+        TradeNotificationDataDto tradeData =
+                TradeNotificationDataDto.builder()
+                        .stockCode(stockCode)
+                        .stockName(stockName)
+                        .tradeType(tradeType)
+                        .quantity(quantity)
+                        .price(price)
+                        .totalAmount(price * quantity)
+                        .build();
+
+        return NotificationDto.builder()
+                .type(NotificationEventType.TRADE)
+                .title(createTradeSubject(stockName, tradeType, quantity, price))
+                .message(createTradeContent(stockCode, stockName, tradeType, quantity, price))
+                .timestamp(LocalDateTime.now())
+                .data(tradeData)
+                .build();
     }
 
-    // 3. 매매 알림 제목 생성
+    // 2. 매매 알림 제목 생성
     private String createTradeSubject(
             String stockName, TradeType tradeType, int quantity, int price) {
 
@@ -117,7 +73,7 @@ public class NotificationsService {
                 NotificationType.TRADE.getPrefix(), stockName, quantity, action, formattedPrice);
     }
 
-    // 4. 매매 알림 내용 생성
+    // 3. 매매 알림 내용 생성
     private String createTradeContent(
             String stockCode, String stockName, TradeType tradeType, int quantity, int price) {
         String action = tradeType == TradeType.BUY ? "매수" : "매도";
@@ -0,0 +1,125 @@
+package io.gaboja9.mockstock.domain.notifications.service;
+
+import io.gaboja9.mockstock.domain.mails.entity.Mails;
+import io.gaboja9.mockstock.domain.mails.repository.MailsRepository;
+import io.gaboja9.mockstock.domain.members.entity.Members;
+import io.gaboja9.mockstock.domain.members.repository.MembersRepository;
+import io.gaboja9.mockstock.domain.notifications.dto.NotificationDto;
+import io.gaboja9.mockstock.domain.notifications.entity.Notifications;
+import io.gaboja9.mockstock.domain.notifications.entity.TradeNotificationOutbox;
+import io.gaboja9.mockstock.domain.notifications.repository.NotificationsRepository;
+import io.gaboja9.mockstock.domain.notifications.repository.TradeNotificationOutboxRepository;
+import io.gaboja9.mockstock.domain.trades.entity.TradeType;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 매매 알림을 체결 트랜잭션과 분리합니다.
+ *
+ * <p>주문 처리 중에는 대기열 행만 같은 트랜잭션에 저장하고, 알림 설정 확인·메일 저장·실시간 전송은 디스패처가 커밋 이후 묶어서 처리합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TradeNotificationOutboxService {
+
+    private final TradeNotificationOutboxRepository outboxRepository;
+    private final NotificationsRepository notificationsRepository;
+    private final MembersRepository membersRepository;
+    private final MailsRepository mailsRepository;
+    private final NotificationsService notificationsService;
+
+    public record Delivery(Long memberId, NotificationDto notification) {}
+
+    public record DrainResult(int drained, List<Delivery> deliveries) {}
+
+    // 호출한 주문 트랜잭션에 참여하므로 주문이 롤백되면 알림도 남지 않습니다.
+    @Transactional
+    public void enqueue(
+            Long memberId,
+            String stockCode,
+            String stockName,
+            TradeType tradeType,
+            int quantity,
+            int price) {
+        outboxRepository.save(
+                new TradeNotificationOutbox(memberId, stockCode, stockName, tradeType, quantity, price));
+    }
+
+    @Transactional
+    public void enqueueAll(List<TradeNotificationOutbox> entries) {
+        if (!entries.isEmpty()) {
+            outboxRepository.saveAll(entries);
+        }
+    }
+
+    /**
+     * 대기열에서 최대 batchSize건을 꺼내 메일을 저장하고 행을 삭제합니다.
+     *
+     * @return 꺼낸 건수와 커밋 이후 실시간으로 보낼 알림
+     */
+    @Transactional
+    public DrainResult drain(int batchSize) {
+        List<TradeNotificationOutbox> batch =
+                outboxRepository.findDispatchBatch(PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            return new DrainResult(0, List.of());
+        }
+
+        Set<Long> memberIds = new HashSet<>();
+        batch.forEach(entry -> memberIds.add(entry.getMemberId()));
+
+        // 그 사이 탈퇴한 회원의 알림은 버립니다.
+        Map<Long, Members> members = new HashMap<>();
+        membersRepository.findAllById(memberIds).forEach(member -> members.put(member.getId(), member));
+
+        // 설정이 없는 회원은 기본값(수신)으로 처리합니다.
+        Map<Long, Boolean> tradeEnabled = new HashMap<>();
+        for (Notifications settings : notificationsRepository.findByMembersIdIn(memberIds)) {
+            tradeEnabled.put(settings.getMembers().getId(), settings.isTradeNotificationEnabled());
+        }
+
+        List<Mails> mails = new ArrayList<>();
+        List<Delivery> deliveries = new ArrayList<>();
+        for (TradeNotificationOutbox entry : batch) {
+            Members member = members.get(entry.getMemberId());
+            if (member == null || !tradeEnabled.getOrDefault(entry.getMemberId(), true)) {
+                continue;
+            }
+
+            NotificationDto notification =
+                    notificationsService.createTradeNotification(
+                            entry.getStockCode(),
+                            entry.getStockName(),
+                            entry.getTradeType(),
+                            entry.getQuantity(),
+                            entry.getPrice());
+
+            mails.add(new Mails(
+                    notification.getTitle(),
+                    notification.getMessage(),
+                    true,
+                    null,
+                    member));
+            deliveries.add(new Delivery(entry.getMemberId(), notification));
+        }
+
+        mailsRepository.saveAll(mails);
+        outboxRepository.deleteAllInBatch(batch);
+
+        log.debug("매매 알림 대기열 처리 - 꺼낸 건수: {}, 메일: {}", batch.size(), mails.size());
+        return new DrainResult(batch.size(), deliveries);
+    }
+}
@@ -0,0 +1,122 @@
+package io.gaboja9.mockstock.domain.orders.book;
+
+import io.gaboja9.mockstock.domain.orders.entity.OrderStatus;
+import io.gaboja9.mockstock.domain.orders.entity.OrderType;
+import io.gaboja9.mockstock.domain.orders.entity.Orders;
+import io.gaboja9.mockstock.domain.orders.repository.OrdersRepository;
+
+import jakarta.annotation.PostConstruct;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 대기중인 지정가 주문을 종목별로 메모리에 보관하는 호가창.
+ *
+ * <p>기동 시 DB의 PENDING 지정가 주문으로 한 번 복원하고, 이후에는 주문 접수/체결 흐름에서 직접 갱신합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LimitOrderBook {
+
+    private final OrdersRepository ordersRepository;
+
+    private final Map<String, StockOrderBook> books = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void rebuild() {
+        List<Orders> pendingOrders =
+                ordersRepository.findByStatusAndOrderTypeOrderByCreatedAtAsc(
+                        OrderStatus.PENDING, OrderType.LIMIT);
+
+        books.clear();
+        for (Orders order : pendingOrders) {
+            bookOf(order.getStockCode()).add(LimitOrderEntry.from(order));
+        }
+
+        log.info("지정가 호가창 복원 완료. 종목 수={}, 주문 수={}", books.size(), pendingOrders.size());
+    }
+
+    /** 대기 주문을 호가창에 등록합니다. 트랜잭션 안이라면 커밋 이후에 등록됩니다. */
+    public void add(Orders order) {
+        LimitOrderEntry entry = LimitOrderEntry.from(order);
+        runAfterCommit(() -> bookOf(entry.getStockCode()).add(entry));
+    }
+
+    /** 체결되지 않은 주문을 원래 순서대로 되돌립니다. */
+    public void restore(LimitOrderEntry entry) {
+        bookOf(entry.getStockCode()).restore(entry);
+    }
+
+    /** 꺼냈던 순서를 유지한 채 여러 주문을 되돌립니다. 각 주문이 맨 앞에 들어가므로 역순으로 복원합니다. */
+    public void restoreAll(List<LimitOrderEntry> entries) {
+        for (int i = entries.size() - 1; i >= 0; i--) {
+            restore(entries.get(i));
+        }
+    }
+
+    /** 현재가에 체결 가능한 주문만 호가창에서 꺼냅니다. */
+    public List<LimitOrderEntry> pollCrossed(String stockCode, int currentPrice) {
+        StockOrderBook book = books.get(stockCode);
+        if (book == null) {
+            return List.of();
+        }
+        return book.pollCrossed(currentPrice);
+    }
+
+    /** 회원의 대기 주문을 모두 내립니다. 트랜잭션 안이라면 커밋 이후에 반영됩니다. */
+    public void removeByMember(Long memberId) {
+        runAfterCommit(
+                () -> {
+                    int removed = 0;
+                    for (StockOrderBook book : books.values()) {
+                        removed += book.removeIf(entry -> memberId.equals(entry.getMemberId()));
+                    }
+                    log.debug("회원 주문 호가창 제거. memberId={}, 제거된 주문 수={}", memberId, removed);
+                });
+    }
+
+    /** 대기 주문이 있는 종목 코드 */
+    public Set<String> getStockCodes() {
+        return books.keySet();
+    }
+
+    public int size(String stockCode) {
+        StockOrderBook book = books.get(stockCode);
+        return book == null ? 0 : book.size();
+    }
+
+    /** 종목 호가창에 주문이 추가되거나 복원될 때마다 바뀌는 값 */
+    public long revision(String stockCode) {
+        StockOrderBook book = books.get(stockCode);
+        return book == null ? 0 : book.revision();
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            action.run();
+                        }
+                    });
+            return;
+        }
+        action.run();
+    }
+
+    private StockOrderBook bookOf(String stockCode) {
+        return books.computeIfAbsent(stockCode, k -> new StockOrderBook());
+    }
+}
@@ -0,0 +1,38 @@
+package io.gaboja9.mockstock.domain.orders.book;
+
+import io.gaboja9.mockstock.domain.orders.entity.Orders;
+import io.gaboja9.mockstock.domain.trades.entity.TradeType;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/** 호가창에 올라가 있는 지정가 주문 한 건 (체결 판단에 필요한 값만 보관) */
+@Getter
+@RequiredArgsConstructor
+public class LimitOrderEntry {
+
+    private final Long orderId;
+    private final Long memberId;
+    private final String stockCode;
+    private final TradeType tradeType;
+    private final int price;
+    private final int quantity;
+
+    public static LimitOrderEntry from(Orders order) {
+        return new LimitOrderEntry(
+                order.getId(),
+                order.getMembers().getId(),
+                order.getStockCode(),
+                order.getTradeType(),
+                order.getPrice(),
+                order.getQuantity());
+    }
+
+    /** 현재가에서 체결 가능한 주문인지 확인 */
+    public boolean isCrossedBy(int currentPrice) {
+        if (tradeType == TradeType.BUY) {
+            return currentPrice <= price;
+        }
+        return currentPrice >= price;
+    }
+}
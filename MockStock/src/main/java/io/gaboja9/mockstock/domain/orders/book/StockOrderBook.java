@@ -0,0 +1,106 @@
+package io.gaboja9.mockstock.domain.orders.book;
+
+import io.gaboja9.mockstock.domain.trades.entity.TradeType;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+/**
+ * 종목 하나의 지정가 호가창.
+ *
+ * <p>매수는 지정가 내림차순, 매도는 지정가 오름차순으로 정렬되며 같은 가격 안에서는 접수 순서를 유지합니다.
+ */
+public class StockOrderBook {
+
+    private final NavigableMap<Integer, Deque<LimitOrderEntry>> bids =
+            new TreeMap<>(Comparator.reverseOrder());
+    private final NavigableMap<Integer, Deque<LimitOrderEntry>> asks = new TreeMap<>();
+    private int size;
+    // 주문이 들어오거나 되돌아올 때마다 올라갑니다.
+    private long revision;
+
+    public synchronized void add(LimitOrderEntry entry) {
+        levelOf(entry).addLast(entry);
+        size++;
+        revision++;
+    }
+
+    /** 체결되지 못하고 되돌아온 주문은 같은 가격대의 맨 앞으로 복귀시켜 시간 우선순위를 지킵니다. */
+    public synchronized void restore(LimitOrderEntry entry) {
+        levelOf(entry).addFirst(entry);
+        size++;
+        revision++;
+    }
+
+    /** 현재가에 체결 가능한 주문들을 가격 → 시간 우선순위로 꺼냅니다. */
+    public synchronized List<LimitOrderEntry> pollCrossed(int currentPrice) {
+        List<LimitOrderEntry> crossed = new ArrayList<>();
+
+        // 매수: 지정가 >= 현재가
+        drain(bids, level -> level >= currentPrice, crossed);
+        // 매도: 지정가 <= 현재가
+        drain(asks, level -> level <= currentPrice, crossed);
+
+        size -= crossed.size();
+        return crossed;
+    }
+
+    public synchronized int removeIf(Predicate<LimitOrderEntry> condition) {
+        int removed = removeIf(bids, condition) + removeIf(asks, condition);
+        size -= removed;
+        return removed;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /** 주문이 추가되거나 복원된 횟수. 같은 가격이라도 이 값이 바뀌었으면 다시 평가해야 합니다. */
+    public synchronized long revision() {
+        return revision;
+    }
+
+    public synchronized boolean isEmpty() {
+        return size == 0;
+    }
+
+    private Deque<LimitOrderEntry> levelOf(LimitOrderEntry entry) {
+        NavigableMap<Integer, Deque<LimitOrderEntry>> side =
+                entry.getTradeType() == TradeType.BUY ? bids : asks;
+        return side.computeIfAbsent(entry.getPrice(), k -> new ArrayDeque<>());
+    }
+
+    private void drain(
+            NavigableMap<Integer, Deque<LimitOrderEntry>> side,
+            Predicate<Integer> crosses,
+            List<LimitOrderEntry> out) {
+        while (!side.isEmpty() && crosses.test(side.firstKey())) {
+            out.addAll(side.pollFirstEntry().getValue());
+        }
+    }
+
+    private int removeIf(
+            NavigableMap<Integer, Deque<LimitOrderEntry>> side,
+            Predicate<LimitOrderEntry> condition) {
+        int removed = 0;
+        Iterator<Map.Entry<Integer, Deque<LimitOrderEntry>>> levels = side.entrySet().iterator();
+        while (levels.hasNext()) {
+            Deque<LimitOrderEntry> level = levels.next().getValue();
+            int before = level.size();
+            level.removeIf(condition);
+            removed += before - level.size();
+            if (level.isEmpty()) {
+                levels.remove();
+            }
+        }
+        return removed;
+    }
+}
@@ -4,6 +4,7 @@ import io.gaboja9.mockstock.domain.auth.dto.MembersDetails;
 import io.gaboja9.mockstock.domain.orders.dto.request.OrdersLimitTypeRequestDto;
 import io.gaboja9.mockstock.domain.orders.dto.request.OrdersMarketTypeRequestDto;
 import io.gaboja9.mockstock.domain.orders.dto.response.OrderResponseDto;
+import io.gaboja9.mockstock.domain.orders.service.OrdersDispatcher;
 import io.gaboja9.mockstock.domain.orders.service.OrdersService;
 
 import jakarta.validation.Valid;
@@ -16,6 +17,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -24,15 +26,24 @@ import org.springframework.web.bind.annotation.RestController;
 public class OrdersController implements OrdersControllerSpec {
 
     private final OrdersService ordersService;
+    private final OrdersDispatcher ordersDispatcher;
 
     @PostMapping("/market/buy")
     public ResponseEntity<OrderResponseDto> executeMarketBuy(
             @Valid @RequestBody OrdersMarketTypeRequestDto requestDto,
+            @RequestParam(defaultValue = "false") boolean async,
             @AuthenticationPrincipal MembersDetails membersDetails) {
 
         Long id = membersDetails.getId();
 
-        OrderResponseDto responseDto = ordersService.executeMarketBuyOrders(id, requestDto);
+        if (async) {
+            OrderResponseDto accepted =
+                    ordersDispatcher.submit(id, () -> ordersService.executeMarketBuyOrders(id, requestDto));
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(accepted);
+        }
+
+        OrderResponseDto responseDto =
+                ordersDispatcher.execute(id, () -> ordersService.executeMarketBuyOrders(id, requestDto));
 
         return ResponseEntity.status(HttpStatus.CREATED).body(responseDto);
     }
@@ -40,11 +51,19 @@ public class OrdersController implements OrdersControllerSpec {
     @PostMapping("/market/sell")
     public ResponseEntity<OrderResponseDto> executeMarketSell(
             @Valid @RequestBody OrdersMarketTypeRequestDto requestDto,
+            @RequestParam(defaultValue = "false") boolean async,
             @AuthenticationPrincipal MembersDetails membersDetails) {
 
         Long id = membersDetails.getId();
 
-        OrderResponseDto responseDto = ordersService.executeMarketSellOrders(id, requestDto);
+        if (async) {
+            OrderResponseDto accepted =
+                    ordersDispatcher.submit(id, () -> ordersService.executeMarketSellOrders(id, requestDto));
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(accepted);
+        }
+
+        OrderResponseDto responseDto =
+                ordersDispatcher.execute(id, () -> ordersService.executeMarketSellOrders(id, requestDto));
 
         return ResponseEntity.status(HttpStatus.CREATED).body(responseDto);
     }
@@ -52,11 +71,19 @@ public class OrdersController implements OrdersControllerSpec {
     @PostMapping("/limit/buy")
     public ResponseEntity<OrderResponseDto> executeLimitBuy(
             @Valid @RequestBody OrdersLimitTypeRequestDto requestDto,
+            @RequestParam(defaultValue = "false") boolean async,
             @AuthenticationPrincipal MembersDetails membersDetails) {
 
         Long id = membersDetails.getId();
 
-        OrderResponseDto responseDto = ordersService.executeLimitBuyOrders(id, requestDto);
+        if (async) {
+            OrderResponseDto accepted =
+                    ordersDispatcher.submit(id, () -> ordersService.executeLimitBuyOrders(id, requestDto));
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(accepted);
+        }
+
+        OrderResponseDto responseDto =
+                ordersDispatcher.execute(id, () -> ordersService.executeLimitBuyOrders(id, requestDto));
 
         return ResponseEntity.status(HttpStatus.CREATED).body(responseDto);
     }
@@ -64,11 +91,19 @@ public class OrdersController implements OrdersControllerSpec {
     @PostMapping("/limit/sell")
     public ResponseEntity<OrderResponseDto> executeLimitSell(
             @Valid @RequestBody OrdersLimitTypeRequestDto requestDto,
+            @RequestParam(defaultValue = "false") boolean async,
             @AuthenticationPrincipal MembersDetails membersDetails) {
 
         Long id = membersDetails.getId();
 
-        OrderResponseDto responseDto = ordersService.executeLimitSellOrders(id, requestDto);
+        if (async) {
+            OrderResponseDto accepted =
+                    ordersDispatcher.submit(id, () -> ordersService.executeLimitSellOrders(id, requestDto));
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(accepted);
+        }
+
+        OrderResponseDto responseDto =
+                ordersDispatcher.execute(id, () -> ordersService.executeLimitSellOrders(id, requestDto));
 
         return ResponseEntity.status(HttpStatus.CREATED).body(responseDto);
     }
@@ -5,6 +5,7 @@ import io.gaboja9.mockstock.domain.orders.dto.request.OrdersLimitTypeRequestDto;
 import io.gaboja9.mockstock.domain.orders.dto.request.OrdersMarketTypeRequestDto;
 import io.gaboja9.mockstock.domain.orders.dto.response.OrderResponseDto;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -17,6 +18,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 @Tag(name = "주문 컨트롤러", description = "주문 api입니다.")
 @RequestMapping("/orders")
@@ -39,6 +41,11 @@ public interface OrdersControllerSpec {
     @PostMapping("/market/buy")
     ResponseEntity<OrderResponseDto> executeMarketBuy(
             @Valid @RequestBody OrdersMarketTypeRequestDto requestDto,
+            @Parameter(
+                            description =
+                                    "true이면 접수 번호만 바로 반환(202)하고 처리 결과는 /user/queue/orders로 전달합니다.")
+                    @RequestParam(defaultValue = "false")
+                    boolean async,
             @AuthenticationPrincipal MembersDetails membersDetails);
 
     @Operation(
@@ -58,6 +65,11 @@ public interface OrdersControllerSpec {
     @PostMapping("/market/sell")
     ResponseEntity<OrderResponseDto> executeMarketSell(
             @Valid @RequestBody OrdersMarketTypeRequestDto requestDto,
+            @Parameter(
+                            description =
+                                    "true이면 접수 번호만 바로 반환(202)하고 처리 결과는 /user/queue/orders로 전달합니다.")
+                    @RequestParam(defaultValue = "false")
+                    boolean async,
             @AuthenticationPrincipal MembersDetails membersDetails);
 
     @Operation(
@@ -77,6 +89,11 @@ public interface OrdersControllerSpec {
     @PostMapping("/limit/buy")
     ResponseEntity<OrderResponseDto> executeLimitBuy(
             @Valid @RequestBody OrdersLimitTypeRequestDto requestDto,
+            @Parameter(
+                            description =
+                                    "true이면 접수 번호만 바로 반환(202)하고 처리 결과는 /user/queue/orders로 전달합니다.")
+                    @RequestParam(defaultValue = "false")
+                    boolean async,
             @AuthenticationPrincipal MembersDetails membersDetails);
 
     @Operation(
@@ -96,5 +113,10 @@ public interface OrdersControllerSpec {
     @PostMapping("/limit/sell")
     ResponseEntity<OrderResponseDto> executeLimitSell(
             @Valid @RequestBody OrdersLimitTypeRequestDto requestDto,
+            @Parameter(
+                            description =
+                                    "true이면 접수 번호만 바로 반환(202)하고 처리 결과는 /user/queue/orders로 전달합니다.")
+                    @RequestParam(defaultValue = "false")
+                    boolean async,
             @AuthenticationPrincipal MembersDetails membersDetails);
 }
@@ -1,5 +1,7 @@
 package io.gaboja9.mockstock.domain.orders.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import lombok.Builder;
@@ -17,4 +19,8 @@ public class OrderResponseDto {
 
     @Schema(description = "거래 가격")
     private int price;
+
+    @Schema(description = "비동기 주문 접수 번호 (async=true일 때만 포함, 결과는 /user/queue/orders로 전달)")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String requestId;
 }
@@ -0,0 +1,33 @@
+package io.gaboja9.mockstock.domain.orders.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "비동기 주문 처리 결과 (/user/queue/orders)")
+public class OrderResultMessage {
+
+    @Schema(description = "주문 접수 시 받은 접수 번호")
+    private String requestId;
+
+    @Schema(description = "주문 처리 성공 여부 (실패 시 errorCode 포함)")
+    private boolean success;
+
+    @Schema(description = "거래 실행 여부")
+    private boolean executed;
+
+    @Schema(description = "거래 안내 메시지")
+    private String message;
+
+    @Schema(description = "거래 가격")
+    private int price;
+
+    @Schema(description = "실패 시 에러 코드", example = "ORDER-002")
+    private String errorCode;
+}
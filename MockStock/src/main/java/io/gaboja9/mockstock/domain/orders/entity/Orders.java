@@ -10,6 +10,8 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import org.hibernate.annotations.ColumnDefault;
+
 import java.time.LocalDateTime;
 
 @Getter
@@ -30,8 +32,14 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Orders extends BaseEntity {
 
+    // IDENTITY 전략은 INSERT 배치를 막으므로 시퀀스(pooled)로 미리 ID를 할당받습니다.
+    // 기존 DB의 시퀀스 테이블은 IdSequenceInitializer가 max(id) 뒤로 맞춰 둡니다.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq_generator")
+    @SequenceGenerator(
+            name = "orders_seq_generator",
+            sequenceName = "orders_seq",
+            allocationSize = 50)
     private Long id;
 
     private String stockCode;
@@ -55,6 +63,11 @@ public class Orders extends BaseEntity {
     @JoinColumn(name = "members_id")
     private Members members;
 
+    // 체결과 취소가 동시에 반영되는 경우를 감지합니다.
+    @Version
+    @ColumnDefault("0")
+    private long version;
+
     public Orders(
             String stockCode,
             String stockName,
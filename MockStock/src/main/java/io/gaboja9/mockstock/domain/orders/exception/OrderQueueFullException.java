@@ -0,0 +1,10 @@
+package io.gaboja9.mockstock.domain.orders.exception;
+
+import io.gaboja9.mockstock.global.exception.BaseException;
+import io.gaboja9.mockstock.global.exception.ErrorCode;
+
+public class OrderQueueFullException extends BaseException {
+    public OrderQueueFullException() {
+        super(ErrorCode.ORDER_QUEUE_FULL);
+    }
+}
@@ -1,7 +1,9 @@
 package io.gaboja9.mockstock.domain.orders.service;
 
 import io.gaboja9.mockstock.domain.members.entity.Members;
-import io.gaboja9.mockstock.domain.notifications.service.NotificationsService;
+import io.gaboja9.mockstock.domain.notifications.entity.TradeNotificationOutbox;
+import io.gaboja9.mockstock.domain.notifications.service.TradeNotificationOutboxService;
+import io.gaboja9.mockstock.domain.orders.book.LimitOrderEntry;
 import io.gaboja9.mockstock.domain.orders.entity.OrderStatus;
 import io.gaboja9.mockstock.domain.orders.entity.Orders;
 import io.gaboja9.mockstock.domain.orders.exception.NotFoundOrderException;
@@ -13,7 +15,6 @@ import io.gaboja9.mockstock.domain.trades.entity.TradeType;
 import io.gaboja9.mockstock.domain.trades.entity.Trades;
 import io.gaboja9.mockstock.domain.trades.repository.TradesRepository;
 import io.gaboja9.mockstock.global.websocket.HantuWebSocketHandler;
-import io.gaboja9.mockstock.global.websocket.dto.StockPriceDto;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,7 +23,13 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Component
 @RequiredArgsConstructor
@@ -33,44 +40,157 @@ public class LimitOrdersExecutor {
     private final HantuWebSocketHandler hantuWebSocketHandler;
     private final TradesRepository tradesRepository;
     private final PortfoliosService portfoliosService;
-    private final NotificationsService notificationsService;
+    private final TradeNotificationOutboxService tradeNotificationOutboxService;
     private final PortfoliosRepository portfoliosRepository;
 
+    // 호가창에서 꺼낸 주문을 처리합니다. 체결 조건이 맞지 않아 호가창에 남아야 하는 주문이면 true를 반환합니다.
     @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void processIndividualOrder(Orders order) {
-        try {
-            processOrderInternal(order);
-        } catch (Exception e) {
-            log.error("주문 처리 중 오류 발생. orderId={}, error={}", order.getId(), e.getMessage(), e);
+    public boolean processIndividualOrder(LimitOrderEntry entry) {
+        return processOrderInternal(entry);
+    }
+
+    /**
+     * 한 틱에서 체결 조건을 만족한 같은 종목의 주문들을 하나의 트랜잭션으로 정산합니다.
+     *
+     * <p>주문·회원·포트폴리오를 한 번에 조회한 뒤 메모리에서 반영하고, 체결 내역은 모아서 저장하여 JDBC 배치로 기록되도록 합니다. 그 사이
+     * 원장에서 같은 회원을 변경했다면 커밋 시 버전 충돌로 묶음 전체가 롤백됩니다.
+     *
+     * @return 현재가에서 체결되지 않아 호가창에 다시 올려야 하는 주문
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<LimitOrderEntry> settleBatch(String stockCode, List<LimitOrderEntry> entries) {
+        List<LimitOrderEntry> resting = new ArrayList<>();
+
+        int currentPrice = hantuWebSocketHandler.getCurrentPrice(stockCode);
+        if (currentPrice <= 0) {
+            log.warn("실시간 가격 정보 없음. stockCode={}, 주문 수={}", stockCode, entries.size());
+            resting.addAll(entries);
+            return resting;
+        }
+
+        List<Long> orderIds = entries.stream().map(LimitOrderEntry::getOrderId).toList();
+        Map<Long, Orders> ordersById = new HashMap<>();
+        for (Orders order : ordersRepository.findAllByIdInWithMember(orderIds)) {
+            ordersById.put(order.getId(), order);
+        }
+
+        Set<Long> memberIds = new HashSet<>();
+        ordersById.values().forEach(order -> memberIds.add(order.getMembers().getId()));
+
+        Map<Long, Portfolios> portfoliosByMember = new HashMap<>();
+        if (!memberIds.isEmpty()) {
+            for (Portfolios portfolio :
+                    portfoliosRepository.findByStockCodeAndMembersIdIn(stockCode, memberIds)) {
+                portfoliosByMember.put(portfolio.getMembers().getId(), portfolio);
+            }
+        }
+
+        List<Trades> trades = new ArrayList<>();
+        List<Portfolios> emptiedPortfolios = new ArrayList<>();
+        List<Orders> executedOrders = new ArrayList<>();
+
+        // 호가창에서 꺼낸 순서(가격·시간 우선순위)대로 반영합니다.
+        for (LimitOrderEntry entry : entries) {
+            Orders order = ordersById.get(entry.getOrderId());
+            if (order == null) {
+                log.warn("호가창에 남아있던 주문이 존재하지 않습니다. orderId={}", entry.getOrderId());
+                continue;
+            }
+            if (order.getStatus() != OrderStatus.PENDING) {
+                log.debug("이미 처리된 주문입니다. orderId={}, status={}", order.getId(), order.getStatus());
+                continue;
+            }
+            if (!shouldExecuteOrder(order, currentPrice)) {
+                resting.add(entry);
+                continue;
+            }
+
+            Members member = order.getMembers();
+            Portfolios portfolio = portfoliosByMember.get(member.getId());
+
+            if (order.getTradeType() == TradeType.SELL) {
+                if (portfolio == null || portfolio.getQuantity() < order.getQuantity()) {
+                    order.cancel();
+                    log.warn("보유 수량 부족으로 주문 취소. orderId={}, 보유={}, 주문={}",
+                            order.getId(), portfolio == null ? 0 : portfolio.getQuantity(), order.getQuantity());
+                    continue;
+                }
+                portfolio.updateForSell(order.getQuantity());
+                member.setCashBalance(member.getCashBalance() + currentPrice * order.getQuantity());
+                if (portfolio.getQuantity() == 0) {
+                    portfoliosByMember.remove(member.getId());
+                    emptiedPortfolios.add(portfolio);
+                }
+            } else {
+                int refundAmount = (order.getPrice() - currentPrice) * order.getQuantity();
+                member.setCashBalance(member.getCashBalance() + refundAmount);
+                if (portfolio == null) {
+                    Portfolios newPortfolio = new Portfolios(
+                            order.getStockCode(), order.getStockName(), order.getQuantity(), currentPrice, member);
+                    portfoliosRepository.save(newPortfolio);
+                    portfoliosByMember.put(member.getId(), newPortfolio);
+                } else {
+                    portfolio.updateForBuy(order.getQuantity(), currentPrice);
+                }
+            }
+
+            order.execute();
+            executedOrders.add(order);
+            trades.add(new Trades(
+                    order.getStockCode(),
+                    order.getStockName(),
+                    order.getTradeType(),
+                    order.getQuantity(),
+                    currentPrice,
+                    member));
         }
+
+        // 주문·회원·포트폴리오 변경은 변경 감지로, 체결 내역은 saveAll로 flush 시점에 배치 처리됩니다.
+        tradesRepository.saveAll(trades);
+        portfoliosRepository.deleteAll(emptiedPortfolios);
+
+        List<TradeNotificationOutbox> notifications = new ArrayList<>();
+        for (Orders order : executedOrders) {
+            notifications.add(new TradeNotificationOutbox(
+                    order.getMembers().getId(),
+                    order.getStockCode(),
+                    order.getStockName(),
+                    order.getTradeType(),
+                    order.getQuantity(),
+                    currentPrice));
+        }
+        tradeNotificationOutboxService.enqueueAll(notifications);
+
+        log.info("지정가 주문 일괄 체결 완료. stockCode={}, price={}, 체결={}, 대기={}",
+                stockCode, currentPrice, executedOrders.size(), resting.size());
+        return resting;
     }
 
-    private void processOrderInternal(Orders order) {
-        Orders currentOrder = ordersRepository.findByIdWithMember(order.getId())
+    private boolean processOrderInternal(LimitOrderEntry entry) {
+        Orders currentOrder = ordersRepository.findByIdWithMember(entry.getOrderId())
                 .orElseThrow(NotFoundOrderException::new);
 
         if (currentOrder.getStatus() != OrderStatus.PENDING) {
             log.debug("이미 처리된 주문입니다. orderId={}, status={}",
-                    order.getId(), currentOrder.getStatus());
-            return;
+                    entry.getOrderId(), currentOrder.getStatus());
+            return false;
         }
 
-        StockPriceDto price = hantuWebSocketHandler.getLatestPrice(order.getStockCode());
-        if (price == null) {
+        int currentPrice = hantuWebSocketHandler.getCurrentPrice(entry.getStockCode());
+        if (currentPrice <= 0) {
             log.warn("실시간 가격 정보 없음. orderId={}, stockCode={}",
-                    order.getId(), order.getStockCode());
-            return;
+                    entry.getOrderId(), entry.getStockCode());
+            return true;
         }
 
-        int currentPrice = price.getCurrentPrice();
-
         if (!shouldExecuteOrder(currentOrder, currentPrice)) {
             log.debug("체결 조건 불만족. orderId={}, currentPrice={}, limitPrice={}, type={}",
-                    order.getId(), currentPrice, order.getPrice(), order.getTradeType());
-            return;
+                    entry.getOrderId(), currentPrice, entry.getPrice(), entry.getTradeType());
+            return true;
         }
 
         executeOrder(currentOrder, currentPrice);
+        return false;
     }
 
     private boolean shouldExecuteOrder(Orders order, int currentPrice) {
@@ -85,7 +205,7 @@ public class LimitOrdersExecutor {
     private void executeOrder(Orders order, int executionPrice) {
         if (order.getTradeType() == TradeType.SELL) {
             Optional<Portfolios> optionalPortfolio = portfoliosRepository
-                    .findByMembersIdAndStockCodeWithLock(order.getMembers().getId(), order.getStockCode());
+                    .findByMembersIdAndStockCode(order.getMembers().getId(), order.getStockCode());
 
             if (optionalPortfolio.isEmpty()) {
                 order.cancel();
@@ -119,7 +239,13 @@ public class LimitOrdersExecutor {
 
         updateMemberBalanceAndPortfolio(order, member, executionPrice);
 
-        sendNotificationSafely(member, order, executionPrice);
+        tradeNotificationOutboxService.enqueue(
+                member.getId(),
+                order.getStockCode(),
+                order.getStockName(),
+                order.getTradeType(),
+                order.getQuantity(),
+                executionPrice);
 
         log.info("주문 체결 완료. orderId={}, memberId={}, type={}, price={}, quantity={}",
                 order.getId(), member.getId(), order.getTradeType(), executionPrice, order.getQuantity());
@@ -148,19 +274,4 @@ public class LimitOrdersExecutor {
                     order.getQuantity());
         }
     }
-
-    private void sendNotificationSafely(Members member, Orders order, int executionPrice) {
-        try {
-            notificationsService.sendTradeNotification(
-                    member.getId(),
-                    order.getStockCode(),
-                    order.getStockName(),
-                    order.getTradeType(),
-                    order.getQuantity(),
-                    executionPrice);
-        } catch (Exception e) {
-            log.error("지정가 {} 알림 발송 실패 - 사용자: {}, 종목: {}",
-                    order.getTradeType(), member.getId(), order.getStockCode(), e);
-        }
-    }
-}
\ No newline at end of file
+}
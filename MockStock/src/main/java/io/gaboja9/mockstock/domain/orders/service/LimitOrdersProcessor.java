@@ -1,76 +1,151 @@
 package io.gaboja9.mockstock.domain.orders.service;
 
-import io.gaboja9.mockstock.domain.orders.entity.OrderStatus;
-import io.gaboja9.mockstock.domain.orders.entity.OrderType;
-import io.gaboja9.mockstock.domain.orders.entity.Orders;
-import io.gaboja9.mockstock.domain.orders.repository.OrdersRepository;
+import io.gaboja9.mockstock.domain.members.ledger.MemberAccountLedger;
+import io.gaboja9.mockstock.domain.orders.book.LimitOrderBook;
+import io.gaboja9.mockstock.domain.orders.book.LimitOrderEntry;
+import io.gaboja9.mockstock.domain.orders.exception.NotFoundOrderException;
+import io.gaboja9.mockstock.global.websocket.HantuWebSocketHandler;
+import io.gaboja9.mockstock.global.websocket.StockPriceListener;
+import io.gaboja9.mockstock.global.websocket.dto.StockPriceDto;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.*;
-
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 실시간 체결가가 들어올 때마다 해당 종목의 지정가 주문만 평가합니다.
+ *
+ * <p>종목별로 가격 버전을 두어 평가가 진행 중일 때 들어온 틱은 하나로 합쳐 처리합니다. 직전 평가와 가격이 같고 그 사이
+ * 호가창에 추가되거나 되돌아온 주문도 없으면 틱을 건너뜁니다.
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
-public class LimitOrdersProcessor {
+public class LimitOrdersProcessor implements StockPriceListener {
 
-    private final OrdersRepository ordersRepository;
     private final OrdersService ordersService;
     private final LimitOrdersExecutor limitOrdersExecutor;
+    private final LimitOrderBook limitOrderBook;
+    private final MemberAccountLedger memberAccountLedger;
+    private final HantuWebSocketHandler hantuWebSocketHandler;
     private final ExecutorService orderExecutor = Executors.newFixedThreadPool(8);
 
+    // 한 트랜잭션에서 정산할 최대 주문 수 (hibernate.jdbc.batch_size와 맞춤)
+    private static final int SETTLEMENT_CHUNK_SIZE = 50;
 
-    @Scheduled(fixedDelay = 1000) // 1초마다 실행
-    public void processLimitOrders() {
-        if (!ordersService.openKoreanMarket()) {
+    private final Map<String, StockTrigger> triggers = new ConcurrentHashMap<>();
+
+    @Override
+    public void onStockPrice(StockPriceDto price) {
+        String stockCode = price.getStockCode();
+        if (limitOrderBook.size(stockCode) == 0) {
             return;
         }
-        try {
-            List<Orders> pendingOrders = ordersRepository
-                    .findByStatusAndOrderTypeOrderByCreatedAtAsc(OrderStatus.PENDING, OrderType.LIMIT);
-            if (pendingOrders.isEmpty()) {
-                return;
-            }
-            processBatchOrders(pendingOrders);
-        } catch (Exception e) {
-            log.error("지정가 주문 처리 스케줄러 오류", e);
+
+        StockTrigger trigger = triggers.computeIfAbsent(stockCode, k -> new StockTrigger());
+        if (trigger.lastEvaluatedPrice == price.getCurrentPrice()
+                && trigger.lastEvaluatedRevision == limitOrderBook.revision(stockCode)) {
+            return;
+        }
+
+        trigger.version.incrementAndGet();
+        if (trigger.scheduled.compareAndSet(false, true)) {
+            orderExecutor.execute(() -> drain(stockCode, trigger));
         }
     }
 
-    private void processBatchOrders(List<Orders> pendingOrders) {
-        log.debug("처리할 지정가 주문 수: {}", pendingOrders.size());
+    // 평가 도중 새 틱이 들어왔다면(버전 변경) 최신 가격으로 한 번 더 평가합니다.
+    private void drain(String stockCode, StockTrigger trigger) {
+        do {
+            try {
+                evaluate(stockCode, trigger);
+            } catch (Exception e) {
+                log.error("지정가 주문 처리 오류. stockCode={}", stockCode, e);
+            }
+            trigger.scheduled.set(false);
+        } while (trigger.version.get() != trigger.evaluatedVersion
+                && trigger.scheduled.compareAndSet(false, true));
+    }
 
-        List<CompletableFuture<Void>> futures = pendingOrders.stream()
-                .map(this::processOrderAsync)
-                .toList();
+    private void evaluate(String stockCode, StockTrigger trigger) {
+        trigger.evaluatedVersion = trigger.version.get();
 
-        CompletableFuture<Void> allOf = CompletableFuture.allOf(
-                futures.toArray(new CompletableFuture[0]));
+        if (!ordersService.openKoreanMarket()) {
+            return;
+        }
 
-        try {
-            allOf.get(30, TimeUnit.SECONDS);
-            log.debug("주문 처리 배치 완료. 처리된 주문: {}", pendingOrders.size());
+        int currentPrice = hantuWebSocketHandler.getCurrentPrice(stockCode);
+        if (currentPrice <= 0) {
+            return;
+        }
 
-        } catch (TimeoutException e) {
-            log.warn("주문 처리 타임아웃 발생. 처리 중인 주문: {}", pendingOrders.size());
+        // 꺼내기 전에 기록해 두어야 평가 도중 들어온 주문이 다음 틱에서 빠지지 않습니다.
+        trigger.lastEvaluatedRevision = limitOrderBook.revision(stockCode);
+        trigger.lastEvaluatedPrice = currentPrice;
+
+        // 현재가에 닿은 주문만 호가창에서 꺼내 처리합니다.
+        List<LimitOrderEntry> crossedOrders = limitOrderBook.pollCrossed(stockCode, currentPrice);
+        if (crossedOrders.isEmpty()) {
+            return;
+        }
 
-        } catch (ExecutionException e) {
-            log.error("주문 처리 중 치명적 오류 발생", e.getCause());
+        log.debug("처리할 지정가 주문 수: {}, stockCode={}, price={}",
+                crossedOrders.size(), stockCode, currentPrice);
+        for (int from = 0; from < crossedOrders.size(); from += SETTLEMENT_CHUNK_SIZE) {
+            int to = Math.min(from + SETTLEMENT_CHUNK_SIZE, crossedOrders.size());
+            settleSafely(stockCode, crossedOrders.subList(from, to));
+        }
+    }
 
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.error("주문 처리 중 인터럽트 발생", e);
-            futures.forEach(future -> future.cancel(true));
+    // 묶음 단위로 한 트랜잭션에서 정산하고, 묶음이 실패(버전 충돌 포함)하면 회원 원장을 거쳐 건별 처리로 전환합니다.
+    private void settleSafely(String stockCode, List<LimitOrderEntry> chunk) {
+        List<LimitOrderEntry> resting;
+        try {
+            resting = limitOrdersExecutor.settleBatch(stockCode, chunk);
+        } catch (Exception e) {
+            log.warn("지정가 주문 일괄 정산 실패, 건별 처리로 전환합니다. stockCode={}, 주문 수={}, error={}",
+                    stockCode, chunk.size(), e.getMessage());
+            // 되돌릴 주문을 모아 한 번에 복원해야 꺼냈던 순서(가격 → 시간 우선순위)가 유지됩니다.
+            resting = new ArrayList<>();
+            for (LimitOrderEntry entry : chunk) {
+                if (processOrderSafely(entry)) {
+                    resting.add(entry);
+                }
+            }
+        }
+        limitOrderBook.restoreAll(resting);
+    }
+
+    // 처리 중 실패한 주문은 트랜잭션이 롤백되었으므로 호가창으로 되돌려 다음 시세에 다시 시도합니다.
+    // 호가창에 되돌려야 하면 true를 반환합니다.
+    private boolean processOrderSafely(LimitOrderEntry entry) {
+        try {
+            return memberAccountLedger.execute(
+                    entry.getMemberId(), () -> limitOrdersExecutor.processIndividualOrder(entry));
+        } catch (NotFoundOrderException e) {
+            log.warn("호가창에 남아있던 주문이 존재하지 않습니다. orderId={}", entry.getOrderId());
+            return false;
+        } catch (Exception e) {
+            log.error("주문 처리 중 오류 발생. orderId={}, error={}", entry.getOrderId(), e.getMessage(), e);
+            return true;
         }
     }
 
-    private CompletableFuture<Void> processOrderAsync(Orders order) {
-        return CompletableFuture.runAsync(() ->
-                limitOrdersExecutor.processIndividualOrder(order), orderExecutor);
+    private static class StockTrigger {
+        private final AtomicLong version = new AtomicLong();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile long evaluatedVersion;
+        private volatile int lastEvaluatedPrice = -1;
+        private volatile long lastEvaluatedRevision = -1;
     }
-}
\ No newline at end of file
+}
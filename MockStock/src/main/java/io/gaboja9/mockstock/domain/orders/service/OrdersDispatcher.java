@@ -0,0 +1,109 @@
+package io.gaboja9.mockstock.domain.orders.service;
+
+import io.gaboja9.mockstock.domain.members.ledger.MemberAccountLedger;
+import io.gaboja9.mockstock.domain.orders.dto.response.OrderResponseDto;
+import io.gaboja9.mockstock.domain.orders.dto.response.OrderResultMessage;
+import io.gaboja9.mockstock.domain.orders.exception.NotOpenKoreanMarketException;
+import io.gaboja9.mockstock.domain.orders.exception.OrderQueueFullException;
+import io.gaboja9.mockstock.global.exception.BaseException;
+import io.gaboja9.mockstock.global.exception.ErrorCode;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * 주문 요청을 회원 원장으로 넘깁니다.
+ *
+ * <p>동기 모드는 처리 결과를 기다려 응답하고, 비동기 모드는 접수 번호만 바로 돌려준 뒤 처리 결과를 /user/queue/orders로 보냅니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrdersDispatcher {
+
+    private static final String ORDER_RESULT_DESTINATION = "/queue/orders";
+
+    private final MemberAccountLedger memberAccountLedger;
+    private final OrdersService ordersService;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    public OrderResponseDto execute(Long memberId, Supplier<OrderResponseDto> order) {
+        try {
+            return memberAccountLedger.execute(memberId, order);
+        } catch (RejectedExecutionException e) {
+            log.warn("주문 대기열이 가득 찼습니다. memberId={}", memberId);
+            throw new OrderQueueFullException();
+        }
+    }
+
+    public OrderResponseDto submit(Long memberId, Supplier<OrderResponseDto> order) {
+        // 장 운영 여부처럼 바로 알 수 있는 실패는 접수 단계에서 응답합니다.
+        if (!ordersService.openKoreanMarket()) {
+            throw new NotOpenKoreanMarketException();
+        }
+
+        String requestId = UUID.randomUUID().toString();
+        try {
+            memberAccountLedger
+                    .submit(memberId, order)
+                    .whenComplete((result, error) -> pushResult(memberId, requestId, result, error));
+        } catch (RejectedExecutionException e) {
+            log.warn("주문 대기열이 가득 찼습니다. memberId={}", memberId);
+            throw new OrderQueueFullException();
+        }
+
+        log.debug("비동기 주문 접수. memberId={}, requestId={}", memberId, requestId);
+
+        return OrderResponseDto.builder()
+                .executed(false)
+                .message("주문이 접수되었습니다. 처리 결과는 /user/queue/orders로 전달됩니다.")
+                .requestId(requestId)
+                .build();
+    }
+
+    private void pushResult(
+            Long memberId, String requestId, OrderResponseDto result, Throwable error) {
+        OrderResultMessage message;
+        if (error == null) {
+            message = OrderResultMessage.builder()
+                    .requestId(requestId)
+                    .success(true)
+                    .executed(result.isExecuted())
+                    .message(result.getMessage())
+                    .price(result.getPrice())
+                    .build();
+        } else {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause()
+                    : error;
+            ErrorCode errorCode = cause instanceof BaseException baseException
+                    ? baseException.getErrorCode()
+                    : ErrorCode.INTERNAL_SERVER_ERROR;
+            String errorMessage = cause instanceof BaseException
+                    ? cause.getMessage()
+                    : errorCode.getMessage();
+
+            message = OrderResultMessage.builder()
+                    .requestId(requestId)
+                    .success(false)
+                    .message(errorMessage)
+                    .errorCode(errorCode.getCode())
+                    .build();
+        }
+
+        try {
+            messagingTemplate.convertAndSendToUser(
+                    String.valueOf(memberId), ORDER_RESULT_DESTINATION, message);
+        } catch (Exception e) {
+            log.error("주문 결과 전송 실패. memberId={}, requestId={}", memberId, requestId, e);
+        }
+    }
+}
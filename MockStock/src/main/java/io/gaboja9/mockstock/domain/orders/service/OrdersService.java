@@ -1,9 +1,11 @@
 package io.gaboja9.mockstock.domain.orders.service;
 
+import io.gaboja9.mockstock.domain.calendar.service.TradingCalendar;
 import io.gaboja9.mockstock.domain.members.entity.Members;
 import io.gaboja9.mockstock.domain.members.exception.NotFoundMemberException;
 import io.gaboja9.mockstock.domain.members.repository.MembersRepository;
-import io.gaboja9.mockstock.domain.notifications.service.NotificationsService;
+import io.gaboja9.mockstock.domain.notifications.service.TradeNotificationOutboxService;
+import io.gaboja9.mockstock.domain.orders.book.LimitOrderBook;
 import io.gaboja9.mockstock.domain.orders.dto.request.OrdersLimitTypeRequestDto;
 import io.gaboja9.mockstock.domain.orders.dto.request.OrdersMarketTypeRequestDto;
 import io.gaboja9.mockstock.domain.orders.dto.response.OrderResponseDto;
@@ -19,7 +21,6 @@ import io.gaboja9.mockstock.domain.trades.entity.TradeType;
 import io.gaboja9.mockstock.domain.trades.entity.Trades;
 import io.gaboja9.mockstock.domain.trades.repository.TradesRepository;
 import io.gaboja9.mockstock.global.websocket.HantuWebSocketHandler;
-import io.gaboja9.mockstock.global.websocket.dto.StockPriceDto;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,11 +28,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.DayOfWeek;
-import java.time.LocalTime;
-import java.time.ZoneId;
-import java.time.ZonedDateTime;
 
+// 계좌를 바꾸는 주문 메서드는 MemberAccountLedger를 통해 회원별로 한 번에 하나씩 호출되므로 DB 행 잠금을 걸지 않습니다.
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -43,7 +41,9 @@ public class OrdersService {
     private final PortfoliosService portfoliosService;
     private final PortfoliosRepository portfoliosRepository;
     private final HantuWebSocketHandler hantuWebSocketHandler;
-    private final NotificationsService notificationsService;
+    private final TradeNotificationOutboxService tradeNotificationOutboxService;
+    private final LimitOrderBook limitOrderBook;
+    private final TradingCalendar tradingCalendar;
 
     @FunctionalInterface
     private interface OrderTask<T> {
@@ -67,7 +67,7 @@ public class OrdersService {
     public OrderResponseDto executeMarketBuyOrders(Long memberId, OrdersMarketTypeRequestDto dto) {
         return executeOrderSafely(() -> {
             Members findMember = membersRepository
-                    .findByIdWithLock(memberId)
+                    .findById(memberId)
                     .orElseThrow(() -> new NotFoundMemberException(memberId));
 
             String stockCode = dto.getStockCode();
@@ -103,7 +103,7 @@ public class OrdersService {
             findMember.setCashBalance(findMember.getCashBalance() - totalPrice);
             portfoliosService.updateForBuy(memberId, stockCode, stockName, quantity, currentPrice);
 
-            sendTradeNotificationSafely(memberId, stockCode, stockName, TradeType.BUY, quantity, currentPrice);
+            enqueueTradeNotification(memberId, stockCode, stockName, TradeType.BUY, quantity, currentPrice);
 
             log.info("시장가 매수 완료. memberId={}, stockCode={}, quantity={}, price={}",
                     memberId, stockCode, quantity, currentPrice);
@@ -120,7 +120,7 @@ public class OrdersService {
     public OrderResponseDto executeMarketSellOrders(Long memberId, OrdersMarketTypeRequestDto dto) {
         return executeOrderSafely(() -> {
             Members findMember = membersRepository
-                    .findByIdWithLock(memberId)
+                    .findById(memberId)
                     .orElseThrow(() -> new NotFoundMemberException(memberId));
 
             String stockCode = dto.getStockCode();
@@ -128,7 +128,7 @@ public class OrdersService {
             int quantity = dto.getQuantity();
 
             Portfolios portfolio = portfoliosRepository
-                    .findByMembersIdAndStockCodeWithLock(memberId, stockCode)
+                    .findByMembersIdAndStockCode(memberId, stockCode)
                     .orElseThrow(NotFoundPortfolioException::new);
 
             if (portfolio.getQuantity() < quantity) {
@@ -159,7 +159,7 @@ public class OrdersService {
             portfoliosService.updateForSell(memberId, stockCode, quantity);
             findMember.setCashBalance(findMember.getCashBalance() + totalAmount);
 
-            sendTradeNotificationSafely(memberId, stockCode, stockName, TradeType.SELL, quantity, currentPrice);
+            enqueueTradeNotification(memberId, stockCode, stockName, TradeType.SELL, quantity, currentPrice);
 
             log.info("시장가 매도 완료. memberId={}, stockCode={}, quantity={}, price={}",
                     memberId, stockCode, quantity, currentPrice);
@@ -176,7 +176,7 @@ public class OrdersService {
     public OrderResponseDto executeLimitBuyOrders(Long memberId, OrdersLimitTypeRequestDto dto) {
         return executeOrderSafely(() -> {
             Members findMember = membersRepository
-                    .findByIdWithLock(memberId)
+                    .findById(memberId)
                     .orElseThrow(() -> new NotFoundMemberException(memberId));
 
             String stockCode = dto.getStockCode();
@@ -214,7 +214,7 @@ public class OrdersService {
                 findMember.setCashBalance(findMember.getCashBalance() - actualAmount);
                 portfoliosService.updateForBuy(memberId, stockCode, stockName, quantity, currentPrice);
 
-                sendTradeNotificationSafely(memberId, stockCode, stockName, TradeType.BUY, quantity, currentPrice);
+                enqueueTradeNotification(memberId, stockCode, stockName, TradeType.BUY, quantity, currentPrice);
 
                 log.info("지정가 매수 즉시 체결. memberId={}, stockCode={}, limitPrice={}, executedPrice={}, quantity={}",
                         memberId, stockCode, limitPrice, currentPrice, quantity);
@@ -227,6 +227,7 @@ public class OrdersService {
             } else {
                 ordersRepository.save(order);
                 findMember.setCashBalance(findMember.getCashBalance() - totalAmount);
+                limitOrderBook.add(order);
 
                 log.info("지정가 매수 주문 대기. memberId={}, stockCode={}, limitPrice={}, currentPrice={}, quantity={}",
                         memberId, stockCode, limitPrice, currentPrice, quantity);
@@ -244,7 +245,7 @@ public class OrdersService {
     public OrderResponseDto executeLimitSellOrders(Long memberId, OrdersLimitTypeRequestDto dto) {
         return executeOrderSafely(() -> {
             Members findMember = membersRepository
-                    .findByIdWithLock(memberId)
+                    .findById(memberId)
                     .orElseThrow(() -> new NotFoundMemberException(memberId));
 
             String stockCode = dto.getStockCode();
@@ -253,7 +254,7 @@ public class OrdersService {
             int quantity = dto.getQuantity();
 
             Portfolios portfolio = portfoliosRepository
-                    .findByMembersIdAndStockCodeWithLock(memberId, stockCode)
+                    .findByMembersIdAndStockCode(memberId, stockCode)
                     .orElseThrow(NotFoundPortfolioException::new);
 
             if (portfolio.getQuantity() < quantity) {
@@ -285,7 +286,7 @@ public class OrdersService {
                 findMember.setCashBalance(findMember.getCashBalance() + actualAmount);
                 portfoliosService.updateForSell(memberId, stockCode, quantity);
 
-                sendTradeNotificationSafely(memberId, stockCode, stockName, TradeType.SELL, quantity, currentPrice);
+                enqueueTradeNotification(memberId, stockCode, stockName, TradeType.SELL, quantity, currentPrice);
 
                 log.info("지정가 매도 즉시 체결. memberId={}, stockCode={}, limitPrice={}, executedPrice={}, quantity={}",
                         memberId, stockCode, limitPrice, currentPrice, quantity);
@@ -297,6 +298,7 @@ public class OrdersService {
                         .build();
             } else {
                 ordersRepository.save(order);
+                limitOrderBook.add(order);
 
                 log.info("지정가 매도 주문 대기. memberId={}, stockCode={}, limitPrice={}, currentPrice={}, quantity={}",
                         memberId, stockCode, limitPrice, currentPrice, quantity);
@@ -310,22 +312,19 @@ public class OrdersService {
         });
     }
 
-    private void sendTradeNotificationSafely(Long memberId, String stockCode, String stockName,
-                                             TradeType tradeType, int quantity, int price) {
-        try {
-            notificationsService.sendTradeNotification(memberId, stockCode, stockName, tradeType, quantity, price);
-        } catch (Exception e) {
-            log.error("{} 알림 발송 실패 - 사용자: {}, 종목: {}", tradeType, memberId, stockName, e);
-        }
+    // 알림은 대기열에만 남기고 커밋 이후 디스패처가 보냅니다.
+    private void enqueueTradeNotification(Long memberId, String stockCode, String stockName,
+                                          TradeType tradeType, int quantity, int price) {
+        tradeNotificationOutboxService.enqueue(memberId, stockCode, stockName, tradeType, quantity, price);
     }
 
     private Integer getCurrentPriceOrNull(String stockCode) {
-        StockPriceDto stockPrice = hantuWebSocketHandler.getLatestPrice(stockCode);
-        if (stockPrice == null) {
+        int currentPrice = hantuWebSocketHandler.getCurrentPrice(stockCode);
+        if (currentPrice <= 0) {
             log.warn("현재 가격 정보를 불러올 수 없습니다: {}", stockCode);
             return null;
         }
-        return stockPrice.getCurrentPrice();
+        return currentPrice;
     }
 
     @Transactional
@@ -333,21 +332,10 @@ public class OrdersService {
         Members findMember = membersRepository.findById(memberId)
                 .orElseThrow(() -> new NotFoundMemberException(memberId));
         ordersRepository.deleteByMembersId(findMember.getId());
+        limitOrderBook.removeByMember(findMember.getId());
     }
 
     public boolean openKoreanMarket() {
-        ZonedDateTime now = ZonedDateTime.now(ZoneId.of("Asia/Seoul"));
-        DayOfWeek dayOfWeek = now.getDayOfWeek();
-        LocalTime currentTime = now.toLocalTime();
-
-        if (dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY) {
-            return false;
-        }
-
-        LocalTime marketOpen = LocalTime.of(9, 0);
-        LocalTime marketClose = LocalTime.of(15, 30);
-
-        return !currentTime.isBefore(marketOpen) && !currentTime.isAfter(marketClose);
+        return tradingCalendar.isSessionOpen();
     }
-
-}
\ No newline at end of file
+}
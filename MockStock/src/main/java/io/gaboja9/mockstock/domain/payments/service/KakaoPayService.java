@@ -2,6 +2,7 @@ package io.gaboja9.mockstock.domain.payments.service;
 
 import io.gaboja9.mockstock.domain.members.entity.Members;
 import io.gaboja9.mockstock.domain.members.exception.NotFoundMemberException;
+import io.gaboja9.mockstock.domain.members.ledger.MemberAccountLedger;
 import io.gaboja9.mockstock.domain.members.repository.MembersRepository;
 import io.gaboja9.mockstock.domain.payments.dto.*;
 import io.gaboja9.mockstock.domain.payments.entity.PaymentHistory;
@@ -47,6 +48,7 @@ public class KakaoPayService {
     private final RestTemplate restTemplate;
     private final PaymentHistoryRepository paymentHistoryRepository;
     private final MembersRepository membersRepository;
+    private final MemberAccountLedger memberAccountLedger;
 
     public KakaoPayReadyResponse paymentReady(Long memberId, int amount) {
 
@@ -133,6 +135,7 @@ public class KakaoPayService {
 
         HttpEntity<Map<String, Object>> entity = new HttpEntity<>(params, headers);
 
+        KakaoPayApproveResponse approveResponse;
         try {
             ResponseEntity<KakaoPayApproveResponse> response =
                     restTemplate.exchange(
@@ -141,26 +144,41 @@ public class KakaoPayService {
                             entity,
                             KakaoPayApproveResponse.class);
 
-            KakaoPayApproveResponse approveResponse = response.getBody();
-
-            if (approveResponse != null) {
-
-                Members member = paymentHistory.getMembers();
-                int chargeAmount = paymentHistory.getAmount();
-                member.setTotalInvestedAmount(member.getTotalInvestedAmount() + chargeAmount);
-                member.setCashBalance(member.getCashBalance() + chargeAmount);
-                membersRepository.save(member);
-
-                paymentHistory.setStatus(PaymentStatus.APPROVED);
-                paymentHistoryRepository.save(paymentHistory);
-            }
-            return approveResponse;
-
+            approveResponse = response.getBody();
         } catch (Exception e) {
             paymentHistory.setStatus(PaymentStatus.FAILED);
             paymentHistoryRepository.save(paymentHistory);
             throw new PaymentException(ErrorCode.PAYMENT_APPROVE_FAILED);
         }
+
+        if (approveResponse != null) {
+            // 카카오 승인이 끝난 뒤이므로 충전 반영 실패를 결제 실패로 기록하지 않습니다.
+            try {
+                chargeCash(memberId, paymentHistory.getAmount());
+            } catch (Exception e) {
+                log.error("결제 승인 후 충전 반영 실패. memberId={}, tid={}", memberId, tid, e);
+                throw new PaymentException(ErrorCode.PAYMENT_APPROVE_FAILED);
+            }
+
+            paymentHistory.setStatus(PaymentStatus.APPROVED);
+            paymentHistoryRepository.save(paymentHistory);
+        }
+        return approveResponse;
+    }
+
+    // 주문과 같은 회원 원장에서 실행하므로 주문과 겹치지 않고, 버전 충돌 시 다시 읽어 반영합니다.
+    private void chargeCash(Long memberId, int chargeAmount) {
+        memberAccountLedger.execute(
+                memberId,
+                () -> {
+                    Members member =
+                            membersRepository
+                                    .findById(memberId)
+                                    .orElseThrow(() -> new NotFoundMemberException(memberId));
+                    member.setTotalInvestedAmount(member.getTotalInvestedAmount() + chargeAmount);
+                    member.setCashBalance(member.getCashBalance() + chargeAmount);
+                    return membersRepository.save(member);
+                });
     }
 
     public void paymentCancel(String tid, Long membersId) {
@@ -34,4 +34,7 @@ public class PortfolioResponseDto {
 
     @Schema(description = "수익률")
     private double profitRate;
+
+    @Schema(description = "실시간 체결가가 아닌 전일 종가나 오래된 체결가로 평가했는지")
+    private boolean priceStale;
 }
@@ -1,6 +1,7 @@
 package io.gaboja9.mockstock.domain.portfolios.entity;
 
 import io.gaboja9.mockstock.domain.members.entity.Members;
+import io.gaboja9.mockstock.domain.members.position.PositionChangeListener;
 import io.gaboja9.mockstock.domain.orders.exception.InvalidSellQuantityException;
 import io.gaboja9.mockstock.global.common.BaseEntity;
 
@@ -8,8 +9,11 @@ import jakarta.persistence.*;
 
 import lombok.*;
 
+import org.hibernate.annotations.ColumnDefault;
+
 @Getter
 @Entity
+@EntityListeners(PositionChangeListener.class)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "portfolios",
         indexes = {
@@ -36,6 +40,10 @@ public class Portfolios extends BaseEntity {
     @JoinColumn(name = "members_id")
     private Members members;
 
+    @Version
+    @ColumnDefault("0")
+    private long version;
+
     public Portfolios(
             String stockCode, String stockName, int quantity, int avgPrice, Members members) {
         this.stockCode = stockCode;
@@ -0,0 +1,234 @@
+package io.gaboja9.mockstock.domain.portfolios.live;
+
+import io.gaboja9.mockstock.domain.members.entity.Members;
+import io.gaboja9.mockstock.domain.members.position.PositionChangeObserver;
+import io.gaboja9.mockstock.domain.members.repository.MembersRepository;
+import io.gaboja9.mockstock.domain.portfolios.dto.response.PortfoliosResponseDto;
+import io.gaboja9.mockstock.domain.portfolios.entity.Portfolios;
+import io.gaboja9.mockstock.domain.portfolios.repository.PortfoliosRepository;
+import io.gaboja9.mockstock.domain.portfolios.service.PortfoliosService;
+import io.gaboja9.mockstock.global.websocket.StockPriceListener;
+import io.gaboja9.mockstock.global.websocket.dto.StockPriceDto;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.security.Principal;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * /user/queue/portfolio 구독자에게 보유 종목 평가손익을 실시간으로 보냅니다.
+ *
+ * <p>구독한 회원의 보유 종목만 메모리에 두고, 보유 종목에 새 체결가가 들어오면 표시만 해 두었다가 일정 주기마다 다시 계산해
+ * 보냅니다. 그래서 틱이 몰려도 회원당 전송은 주기당 한 번으로 제한됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LivePortfolioPublisher implements StockPriceListener, PositionChangeObserver {
+
+    static final String DESTINATION = "/queue/portfolio";
+
+    private final PortfoliosService portfoliosService;
+    private final PortfoliosRepository portfoliosRepository;
+    private final MembersRepository membersRepository;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    // "세션ID:구독ID" -> 회원 ID
+    private final Map<String, Long> subscriptions = new ConcurrentHashMap<>();
+    private final Map<Long, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> holders = new ConcurrentHashMap<>();
+    private final Map<String, Integer> lastPrices = new ConcurrentHashMap<>();
+    private final Set<Long> dirtyMembers = ConcurrentHashMap.newKeySet();
+    private final Set<Long> reloadMembers = ConcurrentHashMap.newKeySet();
+
+    private record Snapshot(List<Portfolios> portfolios, int cashBalance, int chargedAmount) {}
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        if (!("/user" + DESTINATION).equals(accessor.getDestination())) {
+            return;
+        }
+
+        Long memberId = memberIdOf(event.getUser());
+        if (memberId == null) {
+            return;
+        }
+
+        subscriptions.put(key(accessor), memberId);
+        reloadMembers.add(memberId);
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        Long memberId = subscriptions.remove(key(StompHeaderAccessor.wrap(event.getMessage())));
+        if (memberId != null) {
+            releaseIfUnsubscribed(memberId);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        String prefix = event.getSessionId() + ":";
+        Set<Long> memberIds = new HashSet<>();
+        subscriptions.entrySet().removeIf(
+                entry -> {
+                    if (!entry.getKey().startsWith(prefix)) {
+                        return false;
+                    }
+                    memberIds.add(entry.getValue());
+                    return true;
+                });
+        memberIds.forEach(this::releaseIfUnsubscribed);
+    }
+
+    @Override
+    public void onStockPrice(StockPriceDto price) {
+        Set<Long> memberIds = holders.get(price.getStockCode());
+        if (memberIds == null || memberIds.isEmpty()) {
+            return;
+        }
+
+        Integer previous = lastPrices.put(price.getStockCode(), price.getCurrentPrice());
+        if (previous == null || previous != price.getCurrentPrice()) {
+            dirtyMembers.addAll(memberIds);
+        }
+    }
+
+    // 종목별 직전 가격과의 차이로 반영하므로 중간 체결을 건너뛰어도 됩니다.
+    @Override
+    public boolean isConflating() {
+        return true;
+    }
+
+    @Override
+    public void onPositionChanged(Long memberId) {
+        if (snapshots.containsKey(memberId)) {
+            reloadMembers.add(memberId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${portfolio.push.interval-ms:500}")
+    public void publish() {
+        for (Long memberId : drain(reloadMembers)) {
+            try {
+                reload(memberId);
+            } catch (Exception e) {
+                log.error("실시간 포트폴리오 조회 실패: memberId={}", memberId, e);
+            }
+        }
+
+        for (Long memberId : drain(dirtyMembers)) {
+            Snapshot snapshot = snapshots.get(memberId);
+            if (snapshot == null) {
+                continue;
+            }
+            try {
+                PortfoliosResponseDto dto =
+                        portfoliosService.buildResponse(
+                                snapshot.portfolios(),
+                                snapshot.cashBalance(),
+                                snapshot.chargedAmount());
+                messagingTemplate.convertAndSendToUser(String.valueOf(memberId), DESTINATION, dto);
+            } catch (Exception e) {
+                log.error("실시간 포트폴리오 전송 실패: memberId={}", memberId, e);
+            }
+        }
+    }
+
+    private void reload(Long memberId) {
+        if (!isSubscribed(memberId)) {
+            return;
+        }
+
+        Members member = membersRepository.findById(memberId).orElse(null);
+        if (member == null) {
+            return;
+        }
+        List<Portfolios> portfolios = portfoliosRepository.findByMembersId(memberId);
+
+        Snapshot previous =
+                snapshots.put(
+                        memberId,
+                        new Snapshot(
+                                portfolios,
+                                member.getCashBalance(),
+                                member.getTotalInvestedAmount()));
+        if (previous != null) {
+            previous.portfolios().forEach(p -> unindex(p.getStockCode(), memberId));
+        }
+        portfolios.forEach(
+                p -> holders.computeIfAbsent(p.getStockCode(), k -> ConcurrentHashMap.newKeySet())
+                        .add(memberId));
+
+        // 구독 중에 마지막 구독이 해제됐다면 방금 넣은 상태를 정리합니다.
+        if (!isSubscribed(memberId)) {
+            release(memberId);
+            return;
+        }
+        dirtyMembers.add(memberId);
+    }
+
+    private void releaseIfUnsubscribed(Long memberId) {
+        if (!isSubscribed(memberId)) {
+            release(memberId);
+        }
+    }
+
+    private void release(Long memberId) {
+        Snapshot snapshot = snapshots.remove(memberId);
+        if (snapshot != null) {
+            snapshot.portfolios().forEach(p -> unindex(p.getStockCode(), memberId));
+        }
+        dirtyMembers.remove(memberId);
+    }
+
+    private void unindex(String stockCode, Long memberId) {
+        holders.computeIfPresent(
+                stockCode,
+                (code, memberIds) -> {
+                    memberIds.remove(memberId);
+                    return memberIds.isEmpty() ? null : memberIds;
+                });
+    }
+
+    private boolean isSubscribed(Long memberId) {
+        return subscriptions.containsValue(memberId);
+    }
+
+    private static List<Long> drain(Set<Long> memberIds) {
+        List<Long> drained = List.copyOf(memberIds);
+        memberIds.removeAll(drained);
+        return drained;
+    }
+
+    private static String key(StompHeaderAccessor accessor) {
+        return accessor.getSessionId() + ":" + accessor.getSubscriptionId();
+    }
+
+    // STOMP CONNECT 때 JWT로 인증된 회원만 이름이 회원 ID입니다.
+    private static Long memberIdOf(Principal user) {
+        if (user == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(user.getName());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
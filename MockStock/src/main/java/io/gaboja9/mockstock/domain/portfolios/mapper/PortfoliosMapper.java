@@ -3,15 +3,13 @@ package io.gaboja9.mockstock.domain.portfolios.mapper;
 import io.gaboja9.mockstock.domain.portfolios.dto.response.PortfolioResponseDto;
 import io.gaboja9.mockstock.domain.portfolios.entity.Portfolios;
 import io.gaboja9.mockstock.global.websocket.HantuWebSocketHandler;
-import io.gaboja9.mockstock.global.websocket.dto.StockPriceDto;
+import io.gaboja9.mockstock.global.websocket.dto.StockQuote;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.stereotype.Component;
 
-import java.util.Optional;
-
 @Component
 @RequiredArgsConstructor
 @Slf4j
@@ -23,11 +21,11 @@ public class PortfoliosMapper {
         int quantity = p.getQuantity();
         int avgPrice = p.getAvgPrice();
 
-        Optional<StockPriceDto> optionalPrice =
-                Optional.ofNullable(hantuWebSocketHandler.getLatestPrice(p.getStockCode()));
+        // 실시간 체결이 없으면 전일 종가로 평가하고 priceStale로 알려 줍니다.
+        StockQuote quote = hantuWebSocketHandler.getQuote(p.getStockCode());
 
-        if (optionalPrice.isEmpty()) {
-            log.warn("실시간 가격 정보 없음 - stockCode={}", p.getStockCode());
+        if (!quote.hasPrice()) {
+            log.warn("가격 정보 없음 - stockCode={}", p.getStockCode());
 
             return PortfolioResponseDto.builder()
                     .stockCode(p.getStockCode())
@@ -38,11 +36,11 @@ public class PortfoliosMapper {
                     .evaluationAmount(0)
                     .profit(0)
                     .profitRate(0)
+                    .priceStale(true)
                     .build();
         }
 
-        int currentPrice = optionalPrice.get().getCurrentPrice();
-
+        int currentPrice = quote.price();
         int evaluationAmount = currentPrice * quantity;
         int profit = (currentPrice - avgPrice) * quantity;
         int investment = avgPrice * quantity;
@@ -60,6 +58,7 @@ public class PortfoliosMapper {
                 .evaluationAmount(evaluationAmount)
                 .profit(profit)
                 .profitRate(profitRate)
+                .priceStale(quote.stale())
                 .build();
     }
 }
@@ -1,15 +1,14 @@
 package io.gaboja9.mockstock.domain.portfolios.repository;
 
 import io.gaboja9.mockstock.domain.portfolios.entity.Portfolios;
-
-import jakarta.persistence.LockModeType;
+import io.gaboja9.mockstock.domain.ranks.dto.RankingHoldingRow;
 
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,8 +19,23 @@ public interface PortfoliosRepository extends JpaRepository<Portfolios, Long> {
 
     void deleteByMembersId(Long memberId);
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("SELECT p FROM Portfolios p WHERE p.members.id = :memberId AND p.stockCode = :stockCode")
-    Optional<Portfolios> findByMembersIdAndStockCodeWithLock(
-            @Param("memberId") Long memberId, @Param("stockCode") String stockCode);
+    Optional<Portfolios> findByMembersIdAndStockCode(Long memberId, String stockCode);
+
+    List<Portfolios> findByStockCodeAndMembersIdIn(String stockCode, Collection<Long> memberIds);
+
+    @Query("SELECT DISTINCT p.stockCode FROM Portfolios p WHERE p.quantity > 0")
+    List<String> findHeldStockCodes();
+
+    @Query(
+            "SELECT new io.gaboja9.mockstock.domain.ranks.dto.RankingHoldingRow("
+                    + "p.members.id, p.stockCode, p.quantity) "
+                    + "FROM Portfolios p WHERE p.quantity > 0")
+    List<RankingHoldingRow> findAllRankingHoldings();
+
+    @Query(
+            "SELECT new io.gaboja9.mockstock.domain.ranks.dto.RankingHoldingRow("
+                    + "p.members.id, p.stockCode, p.quantity) "
+                    + "FROM Portfolios p WHERE p.quantity > 0 AND p.members.id IN :memberIds")
+    List<RankingHoldingRow> findRankingHoldingsByMemberIdIn(
+            @Param("memberIds") Collection<Long> memberIds);
 }
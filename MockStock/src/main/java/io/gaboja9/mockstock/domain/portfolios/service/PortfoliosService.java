@@ -32,18 +32,24 @@ public class PortfoliosService {
     public PortfoliosResponseDto getPortfolios(Long memberId) {
         List<Portfolios> portfoliosList = portfoliosRepository.findByMembersId(memberId);
 
-        List<PortfolioResponseDto> dtoList = new ArrayList<>();
-        for (Portfolios p : portfoliosList) {
-            dtoList.add(portfoliosMapper.toDto(p));
-        }
-
         Members member =
                 membersRepository
                         .findById(memberId)
                         .orElseThrow(() -> new NotFoundMemberException(memberId));
 
-        int cashBalance = member.getCashBalance();
-        int totalInvestedAmount = member.getTotalInvestedAmount() + 30_000_000; // 총 투입 자금
+        return buildResponse(
+                portfoliosList, member.getCashBalance(), member.getTotalInvestedAmount());
+    }
+
+    /** 보유 종목을 최신 체결가로 평가합니다. 실시간 포트폴리오 푸시도 같은 계산을 사용합니다. */
+    public PortfoliosResponseDto buildResponse(
+            List<Portfolios> portfoliosList, int cashBalance, int chargedAmount) {
+        List<PortfolioResponseDto> dtoList = new ArrayList<>();
+        for (Portfolios p : portfoliosList) {
+            dtoList.add(portfoliosMapper.toDto(p));
+        }
+
+        int totalInvestedAmount = chargedAmount + 30_000_000; // 총 투입 자금
 
         PortfoliosSummary summary = calculateSummary(dtoList, cashBalance, totalInvestedAmount);
 
@@ -105,7 +111,7 @@ public class PortfoliosService {
                         .orElseThrow(() -> new NotFoundMemberException(memberId));
 
         Optional<Portfolios> optionalPortfolios =
-                portfoliosRepository.findByMembersIdAndStockCodeWithLock(memberId, stockCode);
+                portfoliosRepository.findByMembersIdAndStockCode(memberId, stockCode);
 
         if (optionalPortfolios.isPresent()) {
             // 기존에 매수한 동일 주식이 있는 경우 평균단가 업데이트
@@ -127,7 +133,7 @@ public class PortfoliosService {
 
         Portfolios portfolio =
                 portfoliosRepository
-                        .findByMembersIdAndStockCodeWithLock(memberId, stockCode)
+                        .findByMembersIdAndStockCode(memberId, stockCode)
                         .orElseThrow(() -> new NotFoundPortfolioException());
 
         portfolio.updateForSell(quantity);
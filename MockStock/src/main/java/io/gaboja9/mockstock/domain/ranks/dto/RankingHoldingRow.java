@@ -0,0 +1,4 @@
+package io.gaboja9.mockstock.domain.ranks.dto;
+
+/** 랭킹 계산용 보유 종목 조회 결과. */
+public record RankingHoldingRow(Long memberId, String stockCode, int quantity) {}
@@ -0,0 +1,9 @@
+package io.gaboja9.mockstock.domain.ranks.dto;
+
+/** 랭킹 계산에 필요한 회원 컬럼만 담은 조회 결과. */
+public record RankingMemberRow(
+        Long memberId,
+        String nickname,
+        int cashBalance,
+        int totalInvestedAmount,
+        int bankruptcyCnt) {}
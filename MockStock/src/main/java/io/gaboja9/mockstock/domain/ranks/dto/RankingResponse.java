@@ -36,4 +36,7 @@ public class RankingResponse {
 
     @Schema(description = "랭킹 마지막 업데이트 시간", example = "2025-07-28T11:30:00")
     private LocalDateTime lastUpdated;
+
+    @Schema(description = "갱신 주기가 지난 랭킹인지 여부 (백그라운드에서 다시 계산 중)", example = "false")
+    private boolean stale;
 }
@@ -0,0 +1,257 @@
+package io.gaboja9.mockstock.domain.ranks.live;
+
+import io.gaboja9.mockstock.domain.members.position.PositionChangeObserver;
+import io.gaboja9.mockstock.domain.members.repository.MembersRepository;
+import io.gaboja9.mockstock.domain.portfolios.repository.PortfoliosRepository;
+import io.gaboja9.mockstock.domain.ranks.dto.RankingHoldingRow;
+import io.gaboja9.mockstock.domain.ranks.dto.RankingMemberRow;
+import io.gaboja9.mockstock.domain.ranks.dto.RanksDto;
+import io.gaboja9.mockstock.domain.ranks.repository.RankingRedisRepository;
+import io.gaboja9.mockstock.global.websocket.HantuWebSocketHandler;
+import io.gaboja9.mockstock.global.websocket.StockPriceListener;
+import io.gaboja9.mockstock.global.websocket.dto.StockPriceDto;
+import io.gaboja9.mockstock.global.websocket.dto.StockQuote;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 회원별 보유 종목을 메모리에 두고 체결가가 바뀔 때마다 해당 종목 보유자의 평가금액만 다시 계산합니다.
+ *
+ * <p>전체 랭킹 계산({@link #rebuild})으로 상태를 채운 뒤부터 동작합니다. 틱 처리 비용은 그 종목을 보유한 회원 수에 비례하고, 바뀐
+ * 회원만 주기적으로 랭킹 ZSET에 반영합니다. 현금·보유 수량이 바뀐 회원은 커밋 이후 DB에서 다시 읽어 옵니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LiveValuationEngine implements StockPriceListener, PositionChangeObserver {
+
+    private static final long BASIC_AMOUNT = 30_000_000;
+
+    private final MembersRepository membersRepository;
+    private final PortfoliosRepository portfoliosRepository;
+    private final RankingRedisRepository rankingRedisRepository;
+    private final HantuWebSocketHandler hantuWebSocketHandler;
+
+    private final Object lock = new Object();
+
+    // 아래 상태는 lock으로 보호합니다.
+    private final Map<Long, Position> positions = new HashMap<>();
+    private final Map<String, Set<Long>> holders = new HashMap<>();
+    private final Map<String, Integer> prices = new HashMap<>();
+    private final Set<Long> dirtyMembers = new HashSet<>();
+    private boolean ready;
+
+    private final Set<Long> changedMembers = ConcurrentHashMap.newKeySet();
+
+    private static final class Position {
+        private final RankingMemberRow member;
+        private final Map<String, Integer> holdings = new HashMap<>();
+        private long stockValue;
+
+        private Position(RankingMemberRow member) {
+            this.member = member;
+        }
+    }
+
+    /** 전체 회원을 다시 평가하고 실시간 평가 상태를 교체합니다. */
+    public List<RanksDto> rebuild(
+            List<RankingMemberRow> members, List<RankingHoldingRow> holdings) {
+        synchronized (lock) {
+            positions.clear();
+            holders.clear();
+            prices.clear();
+            dirtyMembers.clear();
+
+            members.forEach(member -> positions.put(member.memberId(), new Position(member)));
+            for (RankingHoldingRow holding : holdings) {
+                Position position = positions.get(holding.memberId());
+                if (position != null) {
+                    hold(position, holding.stockCode(), holding.quantity());
+                }
+            }
+
+            List<RanksDto> ranks = new ArrayList<>(positions.size());
+            positions.values().forEach(position -> ranks.add(toRanksDto(position)));
+            ready = true;
+            return ranks;
+        }
+    }
+
+    @Override
+    public void onStockPrice(StockPriceDto price) {
+        synchronized (lock) {
+            applyPrice(price);
+        }
+    }
+
+    // 한 메시지에 묶여 온 체결은 락을 한 번만 잡고 반영합니다.
+    @Override
+    public void onStockPrices(List<StockPriceDto> prices) {
+        synchronized (lock) {
+            prices.forEach(this::applyPrice);
+        }
+    }
+
+    // 종목별 직전 가격과의 차이로 반영하므로 중간 체결을 건너뛰어도 됩니다.
+    @Override
+    public boolean isConflating() {
+        return true;
+    }
+
+    // 커밋 이후 호출되므로 다음 반영 때 DB에서 다시 읽습니다.
+    @Override
+    public void onPositionChanged(Long memberId) {
+        changedMembers.add(memberId);
+    }
+
+    @Scheduled(fixedDelayString = "${ranking.live.flush-interval-ms:1000}")
+    public void flush() {
+        try {
+            reloadChangedMembers();
+
+            List<RanksDto> updates;
+            synchronized (lock) {
+                if (!ready || dirtyMembers.isEmpty()) {
+                    return;
+                }
+                updates = new ArrayList<>(dirtyMembers.size());
+                for (Long memberId : dirtyMembers) {
+                    Position position = positions.get(memberId);
+                    if (position != null) {
+                        updates.add(toRanksDto(position));
+                    }
+                }
+                dirtyMembers.clear();
+            }
+
+            rankingRedisRepository.updateMembers(updates);
+        } catch (Exception e) {
+            log.error("실시간 랭킹 반영 실패", e);
+        }
+    }
+
+    private void reloadChangedMembers() {
+        if (changedMembers.isEmpty() || !isReady()) {
+            return;
+        }
+
+        Set<Long> memberIds = new HashSet<>();
+        for (Long memberId : changedMembers) {
+            changedMembers.remove(memberId);
+            memberIds.add(memberId);
+        }
+
+        List<RankingMemberRow> members = membersRepository.findRankingRowsByIdIn(memberIds);
+        List<RankingHoldingRow> holdings =
+                portfoliosRepository.findRankingHoldingsByMemberIdIn(memberIds);
+
+        synchronized (lock) {
+            // 탈퇴한 회원은 다음 전체 계산 때 랭킹에서 빠집니다.
+            memberIds.forEach(this::release);
+            members.forEach(member -> positions.put(member.memberId(), new Position(member)));
+            for (RankingHoldingRow holding : holdings) {
+                Position position = positions.get(holding.memberId());
+                if (position != null) {
+                    hold(position, holding.stockCode(), holding.quantity());
+                }
+            }
+            members.forEach(member -> dirtyMembers.add(member.memberId()));
+        }
+    }
+
+    private void applyPrice(StockPriceDto price) {
+        Set<Long> memberIds = holders.get(price.getStockCode());
+        if (memberIds == null) {
+            return;
+        }
+
+        Integer previous = prices.put(price.getStockCode(), price.getCurrentPrice());
+        long delta = price.getCurrentPrice() - (previous == null ? 0 : previous);
+        if (delta == 0) {
+            return;
+        }
+
+        for (Long memberId : memberIds) {
+            Position position = positions.get(memberId);
+            position.stockValue += delta * position.holdings.get(price.getStockCode());
+            dirtyMembers.add(memberId);
+        }
+    }
+
+    private boolean isReady() {
+        synchronized (lock) {
+            return ready;
+        }
+    }
+
+    private void hold(Position position, String stockCode, int quantity) {
+        int price = prices.computeIfAbsent(stockCode, this::getCurrentPrice);
+        position.holdings.merge(stockCode, quantity, Integer::sum);
+        position.stockValue += (long) quantity * price;
+        holders.computeIfAbsent(stockCode, k -> new HashSet<>()).add(position.member.memberId());
+    }
+
+    private void release(Long memberId) {
+        Position position = positions.remove(memberId);
+        if (position == null) {
+            return;
+        }
+        for (String stockCode : position.holdings.keySet()) {
+            Set<Long> memberIds = holders.get(stockCode);
+            if (memberIds != null) {
+                memberIds.remove(memberId);
+                if (memberIds.isEmpty()) {
+                    // 보유자가 없는 동안은 틱을 반영하지 않으므로 다음 보유자는 가격을 새로 읽어야 합니다.
+                    holders.remove(stockCode);
+                    prices.remove(stockCode);
+                }
+            }
+        }
+    }
+
+    private RanksDto toRanksDto(Position position) {
+        RankingMemberRow member = position.member;
+
+        // 총 투자원금 (기본금 + 충전금)
+        long totalInvestment = BASIC_AMOUNT + member.totalInvestedAmount();
+
+        // 총 자산 (현금 + 보유 주식)
+        long totalAsset = member.cashBalance() + position.stockValue;
+
+        long totalProfit = totalAsset - totalInvestment;
+
+        double returnRate =
+                totalInvestment > 0 ? ((double) totalProfit / totalInvestment) * 100 : 0.0;
+
+        return RanksDto.builder()
+                .memberId(member.memberId())
+                .nickname(member.nickname())
+                .returnRate(Math.round(returnRate * 100.0) / 100.0) // 소수점 2자리
+                .totalProfit(totalProfit)
+                .bankruptcyCount(member.bankruptcyCnt())
+                .totalAsset(totalAsset)
+                .totalInvestment(totalInvestment)
+                .build();
+    }
+
+    // 실시간 체결이 없으면 전일 종가로 평가하고, 다음 체결이 오면 그 차이만큼 반영됩니다.
+    private Integer getCurrentPrice(String stockCode) {
+        StockQuote quote = hantuWebSocketHandler.getQuote(stockCode);
+        if (!quote.hasPrice()) {
+            log.warn("가격 정보를 불러올 수 없어 0원으로 평가합니다: {}", stockCode);
+        }
+        return quote.price();
+    }
+}
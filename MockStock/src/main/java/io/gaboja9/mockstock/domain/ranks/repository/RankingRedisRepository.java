@@ -0,0 +1,186 @@
+package io.gaboja9.mockstock.domain.ranks.repository;
+
+import io.gaboja9.mockstock.domain.ranks.dto.RanksDto;
+import io.gaboja9.mockstock.domain.ranks.entity.RanksType;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 랭킹 유형별 Redis ZSET(점수 = 정렬 기준 값, 멤버 = 회원 ID)과 회원별 랭킹 상세 해시.
+ *
+ * <p>페이지는 ZREVRANGE, 내 순위는 ZREVRANK로 읽으므로 조회 비용이 전체 회원 수가 아니라 페이지 크기에 비례합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RankingRedisRepository {
+
+    // 예전 JSON 목록 캐시(ranking:{type})와 타입이 달라 키를 분리합니다.
+    private static final String RANKING_KEY_PREFIX = "ranking:board:";
+    private static final String MEMBERS_KEY = "ranking:members";
+    private static final String LAST_UPDATE_KEY = "ranking:last_update";
+    private static final String REFRESH_LOCK_KEY = "ranking:refresh_lock";
+    private static final String STAGING_SUFFIX = ":staging";
+    private static final Duration TTL = Duration.ofDays(7);
+    private static final int WRITE_CHUNK_SIZE = 1_000;
+
+    // 잠금을 잡은 노드의 토큰일 때만 지웁니다.
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT =
+            new DefaultRedisScript<>(
+                    "if redis.call('get', KEYS[1]) == ARGV[1] then "
+                            + "return redis.call('del', KEYS[1]) else return 0 end",
+                    Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    /** 전체 랭킹을 임시 키에 쓴 뒤 RENAME으로 교체하므로 조회 중에 일부만 갱신된 랭킹이 보이지 않습니다. */
+    public void replaceAll(List<RanksDto> ranks) {
+        Map<String, Object> details = new HashMap<>();
+        ranks.forEach(dto -> details.put(String.valueOf(dto.getMemberId()), dto));
+
+        String stagingMembersKey = MEMBERS_KEY + STAGING_SUFFIX;
+        redisTemplate.delete(stagingMembersKey);
+        List<Map.Entry<String, Object>> entries = new ArrayList<>(details.entrySet());
+        for (int from = 0; from < entries.size(); from += WRITE_CHUNK_SIZE) {
+            Map<String, Object> chunk = new HashMap<>();
+            entries.subList(from, Math.min(from + WRITE_CHUNK_SIZE, entries.size()))
+                    .forEach(entry -> chunk.put(entry.getKey(), entry.getValue()));
+            redisTemplate.opsForHash().putAll(stagingMembersKey, chunk);
+        }
+
+        for (RanksType type : RanksType.values()) {
+            String stagingKey = key(type) + STAGING_SUFFIX;
+            stringRedisTemplate.delete(stagingKey);
+            for (int from = 0; from < ranks.size(); from += WRITE_CHUNK_SIZE) {
+                List<RanksDto> chunk =
+                        ranks.subList(from, Math.min(from + WRITE_CHUNK_SIZE, ranks.size()));
+                stringRedisTemplate.opsForZSet().add(stagingKey, tuples(chunk, type));
+            }
+        }
+
+        // 회원이 한 명도 없으면 임시 키가 만들어지지 않으므로 기존 랭킹만 지웁니다.
+        publish(stagingMembersKey, MEMBERS_KEY);
+        for (RanksType type : RanksType.values()) {
+            publish(key(type) + STAGING_SUFFIX, key(type));
+        }
+
+        redisTemplate.opsForValue().set(LAST_UPDATE_KEY, LocalDateTime.now().toString());
+    }
+
+    /** 실시간 평가로 바뀐 회원의 점수와 상세만 현재 랭킹에 덮어씁니다. 게시된 랭킹이 없으면 건너뜁니다. */
+    public void updateMembers(List<RanksDto> ranks) {
+        if (ranks.isEmpty() || !Boolean.TRUE.equals(stringRedisTemplate.hasKey(MEMBERS_KEY))) {
+            return;
+        }
+
+        Map<String, Object> details = new HashMap<>();
+        ranks.forEach(dto -> details.put(String.valueOf(dto.getMemberId()), dto));
+        redisTemplate.opsForHash().putAll(MEMBERS_KEY, details);
+
+        for (RanksType type : RanksType.values()) {
+            stringRedisTemplate.opsForZSet().add(key(type), tuples(ranks, type));
+        }
+    }
+
+    public long count(RanksType type) {
+        Long size = stringRedisTemplate.opsForZSet().zCard(key(type));
+        return size == null ? 0 : size;
+    }
+
+    /** 0부터 시작하는 [start, end] 구간의 회원 ID를 높은 점수 순으로 반환합니다. */
+    public List<Long> findMemberIds(RanksType type, long start, long end) {
+        Set<String> members = stringRedisTemplate.opsForZSet().reverseRange(key(type), start, end);
+        if (members == null) {
+            return List.of();
+        }
+        return members.stream().map(Long::valueOf).toList();
+    }
+
+    /** 1부터 시작하는 순위. 랭킹에 없으면 null입니다. */
+    public Integer findRank(RanksType type, Long memberId) {
+        Long index = stringRedisTemplate.opsForZSet().reverseRank(key(type), String.valueOf(memberId));
+        return index == null ? null : index.intValue() + 1;
+    }
+
+    public Map<Long, RanksDto> findDetails(Collection<Long> memberIds) {
+        Map<Long, RanksDto> details = new LinkedHashMap<>();
+        if (memberIds.isEmpty()) {
+            return details;
+        }
+
+        List<Object> fields = memberIds.stream().<Object>map(String::valueOf).toList();
+        List<Object> values = redisTemplate.opsForHash().multiGet(MEMBERS_KEY, fields);
+        int i = 0;
+        for (Long memberId : memberIds) {
+            Object value = values.get(i++);
+            if (value instanceof RanksDto dto) {
+                details.put(memberId, dto);
+            }
+        }
+        return details;
+    }
+
+    public LocalDateTime findLastUpdated() {
+        Object lastUpdated = redisTemplate.opsForValue().get(LAST_UPDATE_KEY);
+        return lastUpdated == null ? null : LocalDateTime.parse(lastUpdated.toString());
+    }
+
+    /** 클러스터 전체에서 한 노드만 랭킹을 다시 계산하도록 잠급니다. */
+    public boolean tryLockRefresh(String token, Duration leaseTime) {
+        return Boolean.TRUE.equals(
+                stringRedisTemplate.opsForValue().setIfAbsent(REFRESH_LOCK_KEY, token, leaseTime));
+    }
+
+    public void unlockRefresh(String token) {
+        stringRedisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(REFRESH_LOCK_KEY), token);
+    }
+
+    private void publish(String stagingKey, String liveKey) {
+        if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(stagingKey))) {
+            stringRedisTemplate.rename(stagingKey, liveKey);
+            stringRedisTemplate.expire(liveKey, TTL);
+        } else {
+            stringRedisTemplate.delete(liveKey);
+        }
+    }
+
+    private static String key(RanksType type) {
+        return RANKING_KEY_PREFIX + type.name().toLowerCase();
+    }
+
+    private static Set<TypedTuple<String>> tuples(List<RanksDto> ranks, RanksType type) {
+        Set<TypedTuple<String>> tuples = new HashSet<>();
+        for (RanksDto dto : ranks) {
+            tuples.add(new DefaultTypedTuple<>(String.valueOf(dto.getMemberId()), score(dto, type)));
+        }
+        return tuples;
+    }
+
+    private static double score(RanksDto dto, RanksType type) {
+        return switch (type) {
+            case RETURN_RATE -> dto.getReturnRate();
+            case PROFIT -> dto.getTotalProfit();
+            case ASSET -> dto.getTotalAsset();
+            case BANKRUPTCY -> dto.getBankruptcyCount();
+        };
+    }
+}
@@ -1,31 +1,36 @@
 package io.gaboja9.mockstock.domain.ranks.service;
 
-import io.gaboja9.mockstock.domain.members.entity.Members;
+import io.gaboja9.mockstock.domain.calendar.service.TradingCalendar;
 import io.gaboja9.mockstock.domain.members.repository.MembersRepository;
-import io.gaboja9.mockstock.domain.notifications.scheduler.MarketTimeScheduler;
-import io.gaboja9.mockstock.domain.payments.entity.PaymentHistory;
-import io.gaboja9.mockstock.domain.payments.entity.PaymentStatus;
-import io.gaboja9.mockstock.domain.payments.repository.PaymentHistoryRepository;
-import io.gaboja9.mockstock.domain.portfolios.entity.Portfolios;
 import io.gaboja9.mockstock.domain.portfolios.repository.PortfoliosRepository;
 import io.gaboja9.mockstock.domain.ranks.dto.*;
+import io.gaboja9.mockstock.domain.ranks.live.LiveValuationEngine;
 import io.gaboja9.mockstock.domain.ranks.entity.RanksType;
-import io.gaboja9.mockstock.global.websocket.HantuWebSocketHandler;
-import io.gaboja9.mockstock.global.websocket.dto.StockPriceDto;
+import io.gaboja9.mockstock.domain.ranks.repository.RankingRedisRepository;
+
+import jakarta.annotation.PreDestroy;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Slf4j
 @Service
@@ -33,119 +38,69 @@ import java.util.stream.Collectors;
 public class RanksService {
 
     private final MembersRepository membersRepository;
-    private final HantuWebSocketHandler hantuWebSocketHandler;
-    private final PaymentHistoryRepository paymentHistoryRepository;
     private final PortfoliosRepository portfoliosRepository;
-    private final RedisTemplate<String, Object> redisTemplate;
-    private final MarketTimeScheduler marketTimeScheduler;
-
-    private static final String RANKING_KEY_PREFIX = "ranking:";
-    private static final String LAST_UPDATE_KEY = "ranking:last_update";
-
-    private boolean isMarketOpen() {
-        LocalDateTime now = LocalDateTime.now();
-        LocalTime currentTime = now.toLocalTime();
-
-        if (!marketTimeScheduler.isTradingDay()) {
-            return false;
-        }
-
-        LocalTime marketOpen = LocalTime.of(9, 0);
-        LocalTime marketClose = LocalTime.of(15, 30);
-
-        return !currentTime.isBefore(marketOpen) && !currentTime.isAfter(marketClose);
-    }
-
+    private final RankingRedisRepository rankingRedisRepository;
+    private final LiveValuationEngine liveValuationEngine;
+    private final TradingCalendar tradingCalendar;
+
+    private static final int TOP_RANKER_COUNT = 5;
+    private static final Duration REFRESH_LOCK_LEASE = Duration.ofMinutes(2);
+
+    // 마지막 갱신 후 이 시간이 지나면 stale로 표시하고 백그라운드에서 다시 계산합니다.
+    @Value("${ranking.stale-after:PT40M}")
+    private Duration staleAfter;
+
+    private final AtomicReference<CompletableFuture<Void>> inFlightRefresh =
+            new AtomicReference<>();
+    private final AtomicBoolean backgroundRefreshQueued = new AtomicBoolean();
+    private final ExecutorService refreshExecutor =
+            Executors.newSingleThreadExecutor(
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "ranking-refresh");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+
+    // 평가금액은 실시간으로 반영되고, 30분마다 DB 기준으로 전체 랭킹을 다시 맞춥니다.
     @Scheduled(cron = "0 0,30 9-15 * * MON-FRI")
     public void updateRanksScheduled() {
-        if (!isMarketOpen()) {
+        if (!tradingCalendar.isSessionOpen()) {
             log.info("시장 마감 시간입니다. 랭킹 업데이트를 건너뜁니다.");
             return;
         }
 
         log.info("랭킹 업데이트 시작: {}", LocalDateTime.now());
-        updateAndCacheRanks();
+        // 다른 서버가 이미 계산 중이면 이번 주기는 건너뜁니다.
+        refreshOnce().exceptionally(e -> null).join();
         log.info("랭킹 업데이트 완료");
     }
 
     public void updateAndCacheRanks() {
-        try {
-            List<RanksDto> allRanks = calculateAllMemberRankings();
-
-            cacheRankingByType(allRanks, RanksType.RETURN_RATE);
-            cacheRankingByType(allRanks, RanksType.PROFIT);
-            cacheRankingByType(allRanks, RanksType.ASSET);
-            cacheRankingByType(allRanks, RanksType.BANKRUPTCY);
-
-            redisTemplate.opsForValue().set(LAST_UPDATE_KEY, LocalDateTime.now().toString());
-        } catch (Exception e) {
-            log.error("랭킹 업데이트 중 오류 발생", e);
-        }
-    }
-
-    private void cacheRankingByType(List<RanksDto> allRanks, RanksType ranksType) {
-        List<RanksDto> sortedRanks = new ArrayList<>(allRanks);
-
-        switch (ranksType) {
-            case RETURN_RATE:
-                sortedRanks.sort((a, b) -> Double.compare(b.getReturnRate(), a.getReturnRate()));
-                break;
-            case PROFIT:
-                sortedRanks.sort((a, b) -> Double.compare(b.getTotalProfit(), a.getTotalProfit()));
-                break;
-            case ASSET:
-                sortedRanks.sort((a, b) -> Long.compare(b.getTotalAsset(), a.getTotalAsset()));
-                break;
-            case BANKRUPTCY:
-                sortedRanks.sort(
-                        (a, b) -> Integer.compare(b.getBankruptcyCount(), a.getBankruptcyCount()));
-                break;
-        }
-
-        assignRanks(sortedRanks);
-
-        String key = RANKING_KEY_PREFIX + ranksType.name().toLowerCase();
-        redisTemplate.opsForValue().set(key, sortedRanks, Duration.ofDays(7));
+        refreshOnce().exceptionally(e -> null).join();
     }
 
     public RankingResponse getRankingWithPagination(Long memberId, RankingRequest request) {
-        String key = RANKING_KEY_PREFIX + request.getRanksType().name().toLowerCase();
-
-        @SuppressWarnings("unchecked")
-        List<RanksDto> cachedRanks = (List<RanksDto>) redisTemplate.opsForValue().get(key);
-
-        if (cachedRanks == null || cachedRanks.isEmpty()) {
-            log.warn("캐시된 랭킹이 없습니다. 실시간 계산: {}", request.getRanksType());
-            cachedRanks = calculateRealTimeRankingList(request.getRanksType());
+        RanksType type = request.getRanksType();
+        long totalElements = rankingRedisRepository.count(type);
+
+        List<Long> topIds = rankingRedisRepository.findMemberIds(type, 0, TOP_RANKER_COUNT - 1);
+        long start = (long) request.getPage() * request.getSize();
+        List<Long> pageIds =
+                start < totalElements
+                        ? rankingRedisRepository.findMemberIds(
+                                type, start, start + request.getSize() - 1)
+                        : List.of();
+        Integer myRank = rankingRedisRepository.findRank(type, memberId);
+
+        // 상위 랭커, 현재 페이지, 내 정보를 한 번에 조회합니다.
+        Set<Long> ids = new LinkedHashSet<>(topIds);
+        ids.addAll(pageIds);
+        if (myRank != null) {
+            ids.add(memberId);
         }
+        Map<Long, RanksDto> details = rankingRedisRepository.findDetails(ids);
 
-        return buildPaginatedRankingResponse(cachedRanks, memberId, request);
-    }
-
-    private RankingResponse buildPaginatedRankingResponse(
-            List<RanksDto> allRanks, Long memberId, RankingRequest request) {
-        // 상위 5명 추출
-        List<RanksDto> topRankers = allRanks.stream().limit(5).collect(Collectors.toList());
-
-        // 내 랭킹 찾기
-        RanksDto myRanking =
-                allRanks.stream()
-                        .filter(ranking -> ranking.getMemberId().equals(memberId))
-                        .findFirst()
-                        .orElse(null);
-
-        // 페이지네이션 처리
-        int totalElements = allRanks.size();
         int totalPages = (int) Math.ceil((double) totalElements / request.getSize());
-        int startIndex = request.getPage() * request.getSize();
-        int endIndex = Math.min(startIndex + request.getSize(), totalElements);
-
-        List<RanksDto> currentPageRanks = new ArrayList<>();
-        if (startIndex < totalElements) {
-            currentPageRanks = allRanks.subList(startIndex, endIndex);
-        }
-
-        // 페이지네이션 정보 생성
         PaginationInfo paginationInfo =
                 PaginationInfo.builder()
                         .currentPage(request.getPage())
@@ -156,172 +111,124 @@ public class RanksService {
                         .hasPrevious(request.getPage() > 0)
                         .build();
 
-        // 마지막 업데이트 시간 조회
-        String lastUpdatedStr = (String) redisTemplate.opsForValue().get(LAST_UPDATE_KEY);
-        LocalDateTime lastUpdated = null;
-        if (lastUpdatedStr != null) {
-            lastUpdated = LocalDateTime.parse(lastUpdatedStr);
-        } else {
-            lastUpdated = LocalDateTime.now();
+        LocalDateTime lastUpdated = rankingRedisRepository.findLastUpdated();
+        // 저장된 랭킹이 없거나 오래됐으면 있는 그대로 돌려주고 재계산은 백그라운드에 맡깁니다.
+        boolean stale =
+                totalElements == 0
+                        || lastUpdated == null
+                        || lastUpdated.isBefore(LocalDateTime.now().minus(staleAfter));
+        if (stale) {
+            refreshInBackground();
         }
 
         return RankingResponse.builder()
-                .topRankers(topRankers)
-                .myRanking(myRanking)
-                .rankers(currentPageRanks)
-                .ranksType(request.getRanksType())
-                .lastUpdated(lastUpdated)
+                .topRankers(rankedList(topIds, 1, details))
+                .myRanking(myRank == null ? null : ranked(details.get(memberId), myRank))
+                .rankers(rankedList(pageIds, start + 1, details))
+                .ranksType(type)
+                .lastUpdated(lastUpdated != null ? lastUpdated : LocalDateTime.now())
                 .pagination(paginationInfo)
+                .stale(stale)
                 .build();
     }
 
-    private List<RanksDto> calculateRealTimeRankingList(RanksType type) {
-        List<RanksDto> allRanks = calculateAllMemberRankings();
-
-        switch (type) {
-            case RETURN_RATE:
-                allRanks.sort((a, b) -> Double.compare(b.getReturnRate(), a.getReturnRate()));
-                break;
-            case PROFIT:
-                allRanks.sort((a, b) -> Double.compare(b.getTotalProfit(), a.getTotalProfit()));
-                break;
-            case ASSET:
-                allRanks.sort((a, b) -> Long.compare(b.getTotalAsset(), a.getTotalAsset()));
-                break;
-            case BANKRUPTCY:
-                allRanks.sort(
-                        (a, b) -> Integer.compare(b.getBankruptcyCount(), a.getBankruptcyCount()));
-                break;
+    // 랭킹이 아직 없으면 null을 돌려주고, 요청 스레드에서 기다리지 않고 백그라운드에서 계산합니다.
+    public Integer getMemberReturnRateRank(Long memberId) {
+        Integer rank = rankingRedisRepository.findRank(RanksType.RETURN_RATE, memberId);
+        if (rank == null && rankingRedisRepository.count(RanksType.RETURN_RATE) == 0) {
+            log.warn("캐시된 랭킹이 없습니다. 백그라운드에서 계산합니다.");
+            refreshInBackground();
         }
-
-        assignRanks(allRanks);
-        return allRanks;
+        return rank;
     }
 
-    private void assignRanks(List<RanksDto> ranks) {
-        for (int i = 0; i < ranks.size(); i++) {
-            ranks.get(i).setRank(i + 1);
+    // 이미 계산 중이거나 대기 중인 재계산이 있으면 새로 넣지 않습니다.
+    private void refreshInBackground() {
+        if (inFlightRefresh.get() != null || !backgroundRefreshQueued.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(
+                    () -> {
+                        try {
+                            refreshOnce();
+                        } finally {
+                            backgroundRefreshQueued.set(false);
+                        }
+                    });
+        } catch (RejectedExecutionException e) {
+            backgroundRefreshQueued.set(false);
         }
     }
 
-    private List<RanksDto> calculateAllMemberRankings() {
-        List<Members> allMembers = membersRepository.findAll();
-
-        return allMembers.stream().map(this::calculateMemberRanking).collect(Collectors.toList());
-    }
-
-    private RanksDto calculateMemberRanking(Members member) {
-        long totalInvestment = calculateTotalInvestment(member.getId());
-
-        long totalAsset = calculateTotalAsset(member);
-
-        long totalProfit = totalAsset - totalInvestment;
-
-        double returnRate =
-                totalInvestment > 0 ? ((double) totalProfit / totalInvestment) * 100 : 0.0;
-
-        return RanksDto.builder()
-                .memberId(member.getId())
-                .nickname(member.getNickname())
-                .returnRate(Math.round(returnRate * 100.0) / 100.0) // 소수점 2자리
-                .totalProfit(totalProfit)
-                .bankruptcyCount(member.getBankruptcyCnt())
-                .totalAsset(totalAsset)
-                .totalInvestment(totalInvestment)
-                .build();
-    }
-
-    // 총 투자원금 (기본금 + 충전금)
-    private long calculateTotalInvestment(Long memberId) {
-        long basicAmount = 30_000_000;
-
-        long totalChargeAmount =
-                paymentHistoryRepository
-                        .findByMembersIdAndStatus(memberId, PaymentStatus.APPROVED)
-                        .stream()
-                        .mapToLong(PaymentHistory::getAmount)
-                        .sum();
-
-        return basicAmount + totalChargeAmount;
-    }
-
-    // 총 자산 (현금 + 보유 주식)
-
-    private long calculateTotalAsset(Members member) {
-        long cashBalance = member.getCashBalance();
-        long stockValue = calculateStockValue(member.getId());
+    /**
+     * 랭킹 재계산을 한 번만 실행합니다.
+     *
+     * <p>이 서버에서 이미 계산 중이면 그 결과를 함께 기다리고, 다른 서버가 Redis 잠금을 잡고 있으면 기다리지 않고 그 서버의 결과를
+     * 씁니다.
+     */
+    private CompletableFuture<Void> refreshOnce() {
+        CompletableFuture<Void> refresh = new CompletableFuture<>();
+        CompletableFuture<Void> running = inFlightRefresh.compareAndExchange(null, refresh);
+        if (running != null) {
+            return running;
+        }
 
-        return cashBalance + stockValue;
+        try {
+            rebuild();
+            refresh.complete(null);
+        } catch (Exception e) {
+            log.error("랭킹 업데이트 중 오류 발생", e);
+            refresh.completeExceptionally(e);
+        } finally {
+            inFlightRefresh.set(null);
+        }
+        return refresh;
     }
 
-    // 보유 주식 현재 가격
-
-    private long calculateStockValue(Long memberId) {
-        List<Portfolios> portfolios = portfoliosRepository.findByMembersId(memberId);
-
-        return portfolios.stream()
-                .mapToLong(
-                        portfolio -> {
-                            int currentPrice = getCurrentPriceOrNull(portfolio.getStockCode());
-                            return (long) portfolio.getQuantity() * currentPrice;
-                        })
-                .sum();
+    private void rebuild() {
+        String token = UUID.randomUUID().toString();
+        if (!rankingRedisRepository.tryLockRefresh(token, REFRESH_LOCK_LEASE)) {
+            log.info("다른 서버에서 랭킹을 계산 중입니다.");
+            return;
+        }
+        try {
+            rankingRedisRepository.replaceAll(calculateAllMemberRankings());
+        } finally {
+            rankingRedisRepository.unlockRefresh(token);
+        }
     }
 
-    private RankingResponse buildRankingResponse(
-            List<RanksDto> allRanks, Long memberId, RanksType type) {
-
-        List<RanksDto> topRankers = allRanks.stream().limit(5).toList();
-
-        RanksDto myRanking =
-                allRanks.stream()
-                        .filter(ranking -> ranking.getMemberId().equals(memberId))
-                        .findFirst()
-                        .orElse(null);
-
-        return RankingResponse.builder()
-                .topRankers(topRankers)
-                .myRanking(myRanking)
-                .ranksType(type)
-                .lastUpdated(LocalDateTime.now())
-                .build();
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
     }
 
-    private Integer getCurrentPriceOrNull(String stockCode) {
-        StockPriceDto stockPrice = hantuWebSocketHandler.getLatestPrice(stockCode);
-        if (stockPrice == null) {
-            log.warn("현재 가격 정보를 불러올 수 없습니다: {}", stockCode);
-            return getFallbackPrice(stockCode);
+    private List<RanksDto> rankedList(
+            List<Long> memberIds, long firstRank, Map<Long, RanksDto> details) {
+        List<RanksDto> ranks = new ArrayList<>(memberIds.size());
+        long rank = firstRank;
+        for (Long memberId : memberIds) {
+            RanksDto dto = ranked(details.get(memberId), (int) rank++);
+            if (dto != null) {
+                ranks.add(dto);
+            }
         }
-        return stockPrice.getCurrentPrice();
+        return ranks;
     }
 
-    public Integer getMemberReturnRateRank(Long memberId) {
-        String key = RANKING_KEY_PREFIX + RanksType.RETURN_RATE.name().toLowerCase();
-
-        @SuppressWarnings("unchecked")
-        List<RanksDto> cachedRanks = (List<RanksDto>) redisTemplate.opsForValue().get(key);
-
-        if (cachedRanks == null || cachedRanks.isEmpty()) {
-            log.warn("수익률 기준 캐시 랭킹이 없습니다. 실시간 계산을 수행합니다.");
-            cachedRanks = calculateRealTimeRankingList(RanksType.RETURN_RATE);
+    // 상세 정보는 유형과 무관하게 한 벌만 저장되므로 순위는 조회할 때 채웁니다.
+    private RanksDto ranked(RanksDto dto, int rank) {
+        if (dto != null) {
+            dto.setRank(rank);
         }
-
-        return cachedRanks.stream()
-                .filter(ranking -> ranking.getMemberId().equals(memberId))
-                .findFirst()
-                .map(RanksDto::getRank)
-                .orElse(null);
+        return dto;
     }
 
-    // 가짜 가격 생성 메서드 추가
-    private Integer getFallbackPrice(String stockCode) {
-        // 주식 코드를 기반으로 일관된 가짜 가격 생성
-        int hash = stockCode.hashCode();
-        int basePrice = Math.abs(hash % 100000) + 10000; // 10,000 ~ 109,999 범위
-
-        log.debug("주식 {} 가짜 가격 사용: {}", stockCode, basePrice);
-        return basePrice;
+    // 회원 조회 1회 + 보유 종목 조회 1회로 전체 랭킹을 계산하고 실시간 평가 상태도 함께 교체합니다.
+    private List<RanksDto> calculateAllMemberRankings() {
+        return liveValuationEngine.rebuild(
+                membersRepository.findAllRankingRows(), portfoliosRepository.findAllRankingHoldings());
     }
 
     public RankSummaryDto getRankSummary() {
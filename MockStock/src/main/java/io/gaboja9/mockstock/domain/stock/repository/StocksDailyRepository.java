@@ -104,6 +104,25 @@ public class StocksDailyRepository {
         return queryApi.query(flux, DailyStockPrice.class);
     }
 
+    /** 종목마다 가장 최근 일봉 하나씩. 실시간 체결이 없을 때 쓸 전일 종가를 미리 읽어 둡니다. */
+    public List<DailyStockPrice> findLatestDailyPricesOfAllStocks() {
+        String flux =
+                String.format(
+                        """
+                        from(bucket: "%s")
+                          |> range(start: -30d)
+                          |> filter(fn: (r) => r._measurement == "stock_daily")
+                          |> last()
+                          |> pivot(rowKey: ["_time"], columnKey: ["_field"], valueColumn: "_value")
+                          |> rename(columns: {_time: "timestamp"})
+                        """,
+                        dailyBucket);
+
+        log.debug("Loading latest daily price of all stocks");
+        QueryApi queryApi = dailyInfluxDBClient.getQueryApi();
+        return queryApi.query(flux, DailyStockPrice.class);
+    }
+
     public void savePoints(List<Point> points) {
         if (points.isEmpty()) {
             log.debug("저장할 데이터 없음");
@@ -0,0 +1,73 @@
+package io.gaboja9.mockstock.domain.stock.service;
+
+import io.gaboja9.mockstock.domain.stock.measurement.DailyStockPrice;
+import io.gaboja9.mockstock.domain.stock.repository.StocksDailyRepository;
+import io.gaboja9.mockstock.global.websocket.dto.StockQuote;
+
+import jakarta.annotation.PostConstruct;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 종목별 마지막 일봉 종가를 메모리에 둡니다.
+ *
+ * <p>장 시작 전이나 재시작 직후처럼 실시간 체결이 없을 때 평가 가격으로 씁니다. 기동 시 한 번, 장 마감 뒤 일봉이 쌓이면 다시
+ * 읽으므로 요청 처리 중에는 InfluxDB를 조회하지 않습니다. 여기서 돌려주는 가격은 항상 stale입니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LastClosePriceStore {
+
+    private final StocksDailyRepository stocksDailyRepository;
+
+    private volatile Map<String, StockQuote> closes = Map.of();
+
+    // 일봉은 18시(KST)에 집계되므로 그 뒤에 다시 읽습니다.
+    @PostConstruct
+    @Scheduled(
+            cron = "${market-data.last-close.refresh-cron:0 30 18 * * MON-FRI}",
+            zone = "Asia/Seoul")
+    public void reload() {
+        try {
+            List<DailyStockPrice> rows = stocksDailyRepository.findLatestDailyPricesOfAllStocks();
+
+            Map<String, StockQuote> loaded = new HashMap<>(rows.size() * 2);
+            for (DailyStockPrice row : rows) {
+                if (row.getStockCode() == null
+                        || row.getClosePrice() == null
+                        || row.getClosePrice() <= 0) {
+                    continue;
+                }
+                long closedAt = row.getTimestamp() == null ? 0L : row.getTimestamp().toEpochMilli();
+                loaded.put(
+                        row.getStockCode(),
+                        new StockQuote(
+                                row.getStockCode(),
+                                row.getClosePrice().intValue(),
+                                closedAt,
+                                true));
+            }
+
+            closes = Map.copyOf(loaded);
+            log.info("전일 종가 로드 완료. 종목 수={}", loaded.size());
+        } catch (Exception e) {
+            // 이전에 읽어 둔 종가를 그대로 씁니다.
+            log.warn("전일 종가를 불러오지 못했습니다. 보관 중인 종목 수={}", closes.size(), e);
+        }
+    }
+
+    /** 마지막 종가. 모르는 종목이면 가격 없는 quote입니다. */
+    public StockQuote getQuote(String stockCode) {
+        StockQuote quote = closes.get(stockCode);
+        return quote != null ? quote : StockQuote.none(stockCode);
+    }
+}
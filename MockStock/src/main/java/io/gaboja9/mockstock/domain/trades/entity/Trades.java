@@ -14,8 +14,14 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Trades extends BaseEntity {
 
+    // IDENTITY 전략은 INSERT 배치를 막으므로 시퀀스(pooled)로 미리 ID를 할당받습니다.
+    // 기존 DB의 시퀀스 테이블은 IdSequenceInitializer가 max(id) 뒤로 맞춰 둡니다.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "trades_seq_generator")
+    @SequenceGenerator(
+            name = "trades_seq_generator",
+            sequenceName = "trades_seq",
+            allocationSize = 50)
     private Long id;
 
     private String stockCode;
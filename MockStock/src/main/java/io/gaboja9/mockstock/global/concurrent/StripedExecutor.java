@@ -0,0 +1,67 @@
+package io.gaboja9.mockstock.global.concurrent;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 키별로 작업을 하나의 스레드에서 순서대로 실행하는 실행기.
+ *
+ * <p>같은 키의 작업은 항상 같은 스트라이프(단일 스레드)로 보내지므로 서로 겹치지 않고, 다른 키는 스트라이프 수만큼 병렬로 처리됩니다.
+ * 스트라이프 큐가 가득 차면 {@link java.util.concurrent.RejectedExecutionException}을 던집니다.
+ */
+public class StripedExecutor {
+
+    private final ThreadPoolExecutor[] stripes;
+    private final ThreadLocal<Integer> currentStripe = new ThreadLocal<>();
+
+    public StripedExecutor(String name, int stripeCount, int queueCapacity) {
+        this.stripes = new ThreadPoolExecutor[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            int index = i;
+            stripes[i] = new ThreadPoolExecutor(
+                    1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(queueCapacity),
+                    runnable -> {
+                        Thread thread = new Thread(() -> {
+                            currentStripe.set(index);
+                            runnable.run();
+                        }, name + "-" + index);
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+        }
+    }
+
+    public <T> CompletableFuture<T> submit(Object key, Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, stripes[stripeOf(key)]);
+    }
+
+    public void execute(Object key, Runnable task) {
+        stripes[stripeOf(key)].execute(task);
+    }
+
+    /** 현재 스레드가 해당 키의 스트라이프 스레드인지 확인합니다. 같은 스트라이프에 다시 제출하면 교착되므로 이 경우 바로 실행해야 합니다. */
+    public boolean isStripeThread(Object key) {
+        Integer stripe = currentStripe.get();
+        return stripe != null && stripe == stripeOf(key);
+    }
+
+    public int queuedTasks(Object key) {
+        return stripes[stripeOf(key)].getQueue().size();
+    }
+
+    public void shutdown() {
+        for (ThreadPoolExecutor stripe : stripes) {
+            stripe.shutdown();
+        }
+    }
+
+    private int stripeOf(Object key) {
+        int h = key.hashCode();
+        h ^= (h >>> 16);
+        return Math.floorMod(h, stripes.length);
+    }
+}
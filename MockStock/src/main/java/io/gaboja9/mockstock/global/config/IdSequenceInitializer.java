@@ -0,0 +1,100 @@
+package io.gaboja9.mockstock.global.config;
+
+import jakarta.annotation.PostConstruct;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.util.List;
+
+/**
+ * IDENTITY에서 pooled 시퀀스로 옮긴 엔티티의 시퀀스 테이블을 기존 데이터에 맞춰 둡니다.
+ *
+ * <p>MySQL에는 시퀀스가 없어 Hibernate가 {@code <이름>_seq(next_val)} 테이블로 흉내 내는데, ddl-auto로 처음 만들면
+ * next_val이 1부터 시작해 이미 있는 ID와 부딪칩니다. 스키마 갱신 직후, 첫 INSERT 전에 next_val을 max(id) 뒤로 올립니다.
+ * 이미 충분히 크면 건드리지 않으므로 매번 기동해도 안전하고, 여러 서버가 동시에 떠도 값을 줄이지 않습니다.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+@Slf4j
+public class IdSequenceInitializer {
+
+    // @SequenceGenerator의 allocationSize와 같아야 합니다.
+    static final int ALLOCATION_SIZE = 50;
+
+    static final List<IdSequence> SEQUENCES =
+            List.of(
+                    new IdSequence("orders", "orders_seq"),
+                    new IdSequence("trades", "trades_seq"),
+                    new IdSequence("mails", "mails_seq"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void initialize() {
+        if (!usesSequenceTables()) {
+            return;
+        }
+        for (IdSequence sequence : SEQUENCES) {
+            seed(sequence);
+        }
+    }
+
+    void seed(IdSequence sequence) {
+        Long maxId =
+                jdbcTemplate.queryForObject(
+                        "select coalesce(max(id), 0) from " + sequence.table(), Long.class);
+        // pooled 옵티마이저는 읽은 값 v에서 v-49 ~ v를 쓰므로 v-49가 max(id)보다 커야 합니다.
+        long required = (maxId == null ? 0 : maxId) + ALLOCATION_SIZE + 1;
+
+        jdbcTemplate.execute(
+                "create table if not exists " + sequence.sequenceTable() + " (next_val bigint)");
+        int updated =
+                jdbcTemplate.update(
+                        "update "
+                                + sequence.sequenceTable()
+                                + " set next_val = ? where next_val < ?",
+                        required,
+                        required - 1);
+        Long rows =
+                jdbcTemplate.queryForObject(
+                        "select count(*) from " + sequence.sequenceTable(), Long.class);
+        if (rows != null && rows == 0) {
+            jdbcTemplate.update(
+                    "insert into " + sequence.sequenceTable() + " (next_val) values (?)",
+                    required);
+            updated = 1;
+        }
+
+        if (updated > 0) {
+            log.info(
+                    "ID 시퀀스 테이블 보정. table={}, max(id)={}, next_val={}",
+                    sequence.table(),
+                    maxId,
+                    required);
+        }
+    }
+
+    private boolean usesSequenceTables() {
+        try {
+            String product =
+                    JdbcUtils.extractDatabaseMetaData(
+                            jdbcTemplate.getDataSource(),
+                            DatabaseMetaData::getDatabaseProductName);
+            return product != null
+                    && (product.contains("MySQL") || product.contains("MariaDB"));
+        } catch (Exception e) {
+            log.warn("DB 종류를 확인하지 못해 ID 시퀀스 보정을 건너뜁니다.", e);
+            return false;
+        }
+    }
+
+    record IdSequence(String table, String sequenceTable) {}
+}
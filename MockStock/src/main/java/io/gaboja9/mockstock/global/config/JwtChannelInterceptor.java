@@ -1,5 +1,10 @@
 package io.gaboja9.mockstock.global.config;
 
+import io.gaboja9.mockstock.domain.auth.dto.TokenBody;
+import io.gaboja9.mockstock.domain.auth.exception.JwtAuthenticationException;
+import io.gaboja9.mockstock.domain.auth.service.JwtTokenProvider;
+
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.messaging.Message;
@@ -9,15 +14,20 @@ import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.messaging.support.MessageHeaderAccessor;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import java.util.Collections;
 
 @Component
+@RequiredArgsConstructor
 @Slf4j
 public class JwtChannelInterceptor implements ChannelInterceptor {
 
+    private final JwtTokenProvider jwtTokenProvider;
+
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
         StompHeaderAccessor accessor =
@@ -26,6 +36,14 @@ public class JwtChannelInterceptor implements ChannelInterceptor {
         if (StompCommand.CONNECT.equals(accessor.getCommand())) {
             String sessionId = accessor.getSessionId();
 
+            // 토큰이 있으면 회원 ID를 principal 이름으로 사용해 /user/{memberId}/queue/** 개인 메시지를 받을 수 있게 합니다.
+            Authentication memberAuth = authenticate(accessor.getFirstNativeHeader("Authorization"));
+            if (memberAuth != null) {
+                accessor.setUser(memberAuth);
+                log.info("WebSocket 연결: 세션={}, 회원={}", sessionId, memberAuth.getName());
+                return message;
+            }
+
             // Spring Security의 AnonymousAuthenticationToken 사용
             AnonymousAuthenticationToken anonymousAuth =
                     new AnonymousAuthenticationToken(
@@ -40,4 +58,25 @@ public class JwtChannelInterceptor implements ChannelInterceptor {
 
         return message;
     }
+
+    private Authentication authenticate(String authorization) {
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            return null;
+        }
+
+        String token = authorization.substring(7);
+        try {
+            jwtTokenProvider.validate(token);
+            TokenBody tokenBody = jwtTokenProvider.parseJwt(token);
+            return new UsernamePasswordAuthenticationToken(
+                    String.valueOf(tokenBody.getMemberId()),
+                    null,
+                    Collections.singletonList(
+                            new SimpleGrantedAuthority("ROLE_" + tokenBody.getRole().name())));
+        } catch (JwtAuthenticationException e) {
+            // 시세 구독은 로그인 없이도 가능하므로 익명으로 연결합니다.
+            log.warn("WebSocket JWT 인증 실패, 익명으로 연결합니다: {}", e.getMessage());
+            return null;
+        }
+    }
 }
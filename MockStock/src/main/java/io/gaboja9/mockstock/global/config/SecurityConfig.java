@@ -1,5 +1,7 @@
 package io.gaboja9.mockstock.global.config;
 
+import io.gaboja9.mockstock.domain.members.enums.Role;
+
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.context.annotation.Bean;
@@ -45,6 +47,9 @@ public class SecurityConfig {
                                                 "/stocks/**",
                                                 "mockPrice/**")
                                         .permitAll()
+                                        // 틱 재생은 tick-replay 프로필에서만 열리고 관리자만 호출합니다.
+                                        .requestMatchers("/replay/**")
+                                        .hasAuthority(Role.ADMIN.name())
                                         .anyRequest()
                                         .authenticated())
                 .oauth2Login(
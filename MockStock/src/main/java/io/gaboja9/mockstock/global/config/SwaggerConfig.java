@@ -33,9 +33,17 @@ import org.springframework.context.annotation.Configuration;
                                 **인증:** 익명 사용자 허용 (세션 기반)
 
                                 **구독 가능한 토픽:**
-                                - `/topic/stock/{stockCode}` - 실시간 주식 가격 (유효한 종목코드만)
+                                - `/topic/stock/{stockCode}` - 실시간 주식 가격 (유효한 종목코드만, 200ms마다 최신가)
+                                - `/topic/stock-slow/{stockCode}` - 목록 화면용 실시간 주식 가격 (1초마다 최신가)
+                                - `/topic/stock-compact/{stockCode}` - 압축 실시간 주식 가격 (200ms마다 바뀐 값만)
+                                  (`/topic/stock/{stockCode}`를 `format: compact` 헤더로 구독해도 됨)
                                 - `/user/queue/errors` - 에러 메시지 수신 (필수)
 
+                                **압축 프레임:** `[flags, seq, 값...]` 배열
+                                - flags 비트 0~6: 뒤따르는 값 (체결시각, 현재가, 등락률, 고가, 저가, 체결량, 누적거래량 순)
+                                - flags 비트 7 (128): 전체 값을 담은 키프레임, 그 외 프레임은 바뀐 값만 담음
+                                - seq가 건너뛰면 다음 키프레임까지 기다림
+
                                 **에러 코드:**
                                 - `INVALID_STOCK` - 존재하지 않는 종목코드 (400)
                                 - `SOCKET_ERROR` - 소켓 연결 오류 (연결 종료됨)
@@ -63,6 +63,9 @@ public enum ErrorCode {
     INVALID_STOCK(HttpStatus.NOT_FOUND, "STOCK-001", " 없는 주식 코드 입니다."),
     SOCKET_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "SOCKET-001", "소켓 에러입니다."),
 
+    // 틱 재생 관련 에러
+    TICK_REPLAY_ALREADY_RUNNING(HttpStatus.CONFLICT, "REPLAY-001", "이미 틱 재생이 진행 중입니다."),
+
     // 주문 관련 에러
     INVALID_SELL_QUANTITY(HttpStatus.BAD_REQUEST, "ORDER-001", "매도 수량이 보유 수량보다 많습니다."),
     NOT_ENOUGH_CASH(HttpStatus.BAD_REQUEST, "ORDER-002", "잔액이 부족합니다"),
@@ -71,6 +74,7 @@ public enum ErrorCode {
             HttpStatus.INTERNAL_SERVER_ERROR, "ORDER-004", "주문 처리 중 인터럽트가 발생했습니다."),
     NOT_FOUND_ORDER(HttpStatus.NOT_FOUND, "ORDER-005", "주문을 찾을 수 없습니다."),
     NOT_OPEN_KOREAN_MARKET(HttpStatus.BAD_REQUEST, "ORDER-006", "한국장이 닫혀있습니다."),
+    ORDER_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "ORDER-007", "주문이 몰려 접수할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
     // 포트폴리오 관련 에러
     NOT_FOUND_PORTFOLIO(HttpStatus.NOT_FOUND, "PORTFOLIO-001", "보유한 주식이 없습니다."),
@@ -0,0 +1,85 @@
+package io.gaboja9.mockstock.global.websocket;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 압축 토픽({@value StockTopics#COMPACT})을 구독 중인 종목을 셉니다.
+ *
+ * <p>압축 토픽을 직접 구독한 것과 기본 토픽을 format: compact 헤더로 구독한 것을 모두 셉니다. 구독 이벤트는 {@link
+ * StockSubscriptionInterceptor}를 통과한 구독에만 발행되므로 잘못된 종목은 들어오지 않습니다. 브로드캐스터는 구독자가 있는
+ * 종목만 압축 프레임을 만듭니다.
+ */
+@Component
+public class CompactSubscriptions {
+
+    // "세션ID:구독ID" -> 종목코드
+    private final Map<String, String> subscriptions = new ConcurrentHashMap<>();
+    // 종목코드 -> 압축 구독 수
+    private final Map<String, Integer> refCounts = new ConcurrentHashMap<>();
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String stockCode = StockTopics.stockCodeOf(accessor.getDestination());
+        if (stockCode == null || !isCompact(accessor)) {
+            return;
+        }
+
+        String previous = subscriptions.put(key(accessor), stockCode);
+        if (previous != null) {
+            release(previous);
+        }
+        refCounts.merge(stockCode, 1, Integer::sum);
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        String stockCode = subscriptions.remove(key(StompHeaderAccessor.wrap(event.getMessage())));
+        if (stockCode != null) {
+            release(stockCode);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        String prefix = event.getSessionId() + ":";
+        for (String key : List.copyOf(subscriptions.keySet())) {
+            if (key.startsWith(prefix)) {
+                String stockCode = subscriptions.remove(key);
+                if (stockCode != null) {
+                    release(stockCode);
+                }
+            }
+        }
+    }
+
+    public boolean hasSubscribers(String stockCode) {
+        return refCounts.containsKey(stockCode);
+    }
+
+    // 이벤트에는 인터셉터가 목적지를 바꾸기 전의 원래 구독 메시지가 담깁니다.
+    private static boolean isCompact(StompHeaderAccessor accessor) {
+        String destination = accessor.getDestination();
+        return destination.startsWith(StockTopics.COMPACT)
+                || (destination.startsWith(StockTopics.FAST)
+                        && StockTopics.COMPACT_FORMAT.equalsIgnoreCase(
+                                accessor.getFirstNativeHeader(StockTopics.FORMAT_HEADER)));
+    }
+
+    private void release(String stockCode) {
+        refCounts.computeIfPresent(stockCode, (code, count) -> count > 1 ? count - 1 : null);
+    }
+
+    private static String key(StompHeaderAccessor accessor) {
+        return accessor.getSessionId() + ":" + accessor.getSubscriptionId();
+    }
+}
@@ -0,0 +1,300 @@
+package io.gaboja9.mockstock.global.websocket;
+
+import io.gaboja9.mockstock.domain.members.position.PositionChangeObserver;
+import io.gaboja9.mockstock.domain.orders.book.LimitOrderBook;
+import io.gaboja9.mockstock.domain.portfolios.repository.PortfoliosRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 한투 실시간 체결가 구독을 수요에 맞춰 등록하고 해제합니다.
+ *
+ * <p>대기 중인 지정가 주문 종목, 보유 종목, 클라이언트가 보고 있는 종목, 항상 받을 고정 종목을 합친 것이 필요한 종목입니다.
+ * 클라이언트 구독은 {@link StockSubscriptionInterceptor}를 통과한 것만 종목별로 참조 수를 셉니다. 필요 없어진 종목은 유예
+ * 시간 동안 유지했다가 해제해 구독·해제가 반복되지 않게 합니다. 종목은 열린 한투 세션 중 가장 적게 등록된 세션에 세션당 한도까지
+ * 배정하고, 한도가 차면 유예 중인 종목부터 내립니다. 그래도 자리가 없으면 주문·보유 종목을 위해 보기만 하는 종목이나 고정 종목을
+ * 우선순위가 낮은 것부터 내립니다.
+ */
+@Slf4j
+@Component
+public class HantuSubscriptionManager implements PositionChangeObserver {
+
+    private final HantuWebSocketHandler hantuWebSocketHandler;
+    private final HantuWebSocketSessionManager sessionManager;
+    private final PortfoliosRepository portfoliosRepository;
+    private final LimitOrderBook limitOrderBook;
+    private final Set<String> pinned;
+    private final int maxPerSession;
+    private final long lingerMillis;
+    private final long heldRefreshMillis;
+
+    // "세션ID:구독ID" -> 종목코드
+    private final Map<String, String> stompSubscriptions = new ConcurrentHashMap<>();
+    // 종목코드 -> 클라이언트 구독 수
+    private final Map<String, Integer> refCounts = new ConcurrentHashMap<>();
+    private final AtomicBoolean heldStale = new AtomicBoolean(true);
+
+    // 아래 상태는 reconcile에서만 바꿉니다.
+    // 종목코드 -> 등록한 한투 세션 ID
+    private final Map<String, String> assignments = new HashMap<>();
+    // 필요 없어진 종목 -> 그 시각. 먼저 필요 없어진 종목이 앞에 옵니다.
+    private final Map<String, Long> idleSince = new LinkedHashMap<>();
+    private Set<String> heldCodes = Set.of();
+    private long heldRefreshedAt;
+    private int lastPending;
+
+    public HantuSubscriptionManager(
+            HantuWebSocketHandler hantuWebSocketHandler,
+            HantuWebSocketSessionManager sessionManager,
+            PortfoliosRepository portfoliosRepository,
+            LimitOrderBook limitOrderBook,
+            @Value("${hantu-openapi.subscription.pinned:}") List<String> pinned,
+            @Value("${hantu-openapi.subscription.max-per-session:40}") int maxPerSession,
+            @Value("${hantu-openapi.subscription.linger-ms:60000}") long lingerMillis,
+            @Value("${hantu-openapi.subscription.held-refresh-ms:300000}")
+                    long heldRefreshMillis) {
+        this.hantuWebSocketHandler = hantuWebSocketHandler;
+        this.sessionManager = sessionManager;
+        this.portfoliosRepository = portfoliosRepository;
+        this.limitOrderBook = limitOrderBook;
+        this.pinned = new LinkedHashSet<>();
+        pinned.stream().map(String::trim).filter(code -> !code.isEmpty()).forEach(this.pinned::add);
+        this.maxPerSession = maxPerSession;
+        this.lingerMillis = lingerMillis;
+        this.heldRefreshMillis = heldRefreshMillis;
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String stockCode = StockTopics.stockCodeOf(accessor.getDestination());
+        if (stockCode == null) {
+            return;
+        }
+
+        String previous = stompSubscriptions.put(key(accessor), stockCode);
+        if (previous != null) {
+            release(previous);
+        }
+        refCounts.merge(stockCode, 1, Integer::sum);
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        String stockCode =
+                stompSubscriptions.remove(key(StompHeaderAccessor.wrap(event.getMessage())));
+        if (stockCode != null) {
+            release(stockCode);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        String prefix = event.getSessionId() + ":";
+        for (String key : List.copyOf(stompSubscriptions.keySet())) {
+            if (key.startsWith(prefix)) {
+                String stockCode = stompSubscriptions.remove(key);
+                if (stockCode != null) {
+                    release(stockCode);
+                }
+            }
+        }
+    }
+
+    // 매수·매도가 커밋되면 다음 조정 때 보유 종목을 다시 읽습니다.
+    @Override
+    public void onPositionChanged(Long memberId) {
+        heldStale.set(true);
+    }
+
+    @Scheduled(fixedDelayString = "${hantu-openapi.subscription.reconcile-interval-ms:1000}")
+    public synchronized void reconcile() {
+        long now = System.currentTimeMillis();
+        Set<String> trading = tradingCodes(now);
+        Set<String> desired = desired(trading);
+
+        Map<String, WebSocketSession> sessions = new HashMap<>();
+        sessionManager.getOpenSessions().forEach(s -> sessions.put(s.getId(), s));
+
+        // 끊긴 세션에 등록돼 있던 종목은 열린 세션에 다시 등록합니다.
+        assignments.values().removeIf(sessionId -> !sessions.containsKey(sessionId));
+        idleSince.keySet().retainAll(assignments.keySet());
+
+        Map<String, Integer> load = new HashMap<>();
+        sessions.keySet().forEach(sessionId -> load.put(sessionId, 0));
+        assignments.values().forEach(sessionId -> load.merge(sessionId, 1, Integer::sum));
+
+        for (String stockCode : assignments.keySet()) {
+            if (desired.contains(stockCode)) {
+                idleSince.remove(stockCode);
+            } else {
+                idleSince.putIfAbsent(stockCode, now);
+            }
+        }
+
+        List<String> expired = new ArrayList<>();
+        idleSince.forEach(
+                (stockCode, since) -> {
+                    if (now - since >= lingerMillis) {
+                        expired.add(stockCode);
+                    }
+                });
+        expired.forEach(stockCode -> unsubscribe(stockCode, sessions, load));
+
+        int pending = 0;
+        for (String stockCode : desired) {
+            if (assignments.containsKey(stockCode)) {
+                continue;
+            }
+            WebSocketSession session = leastLoaded(sessions, load);
+            if (session == null) {
+                session = evictIdle(sessions, load);
+            }
+            if (session == null && trading.contains(stockCode)) {
+                session = evictLowestPriority(desired, trading, sessions, load);
+            }
+            if (session == null) {
+                pending++;
+                continue;
+            }
+            if (hantuWebSocketHandler.subscribeStockPrice(session, stockCode)) {
+                assignments.put(stockCode, session.getId());
+                load.merge(session.getId(), 1, Integer::sum);
+            }
+        }
+
+        if (pending != lastPending) {
+            if (pending > 0) {
+                log.warn(
+                        "한투 등록 한도가 차서 구독하지 못한 종목 {}개 (세션 {}개, 세션당 {}개)",
+                        pending,
+                        sessions.size(),
+                        maxPerSession);
+            }
+            lastPending = pending;
+        }
+    }
+
+    /** 지금 한투에 등록된 종목 */
+    public synchronized Set<String> getSubscribedStockCodes() {
+        return Set.copyOf(assignments.keySet());
+    }
+
+    // 체결 처리에 필요한 종목: 대기 중인 지정가 주문 종목과 보유 종목
+    private Set<String> tradingCodes(long now) {
+        refreshHeldCodes(now);
+
+        Set<String> trading = new LinkedHashSet<>();
+        for (String stockCode : limitOrderBook.getStockCodes()) {
+            if (limitOrderBook.size(stockCode) > 0) {
+                trading.add(stockCode);
+            }
+        }
+        trading.addAll(heldCodes);
+        return trading;
+    }
+
+    // 한도가 차면 앞에 있는 종목부터 등록하므로 체결 처리에 필요한 종목을 먼저 둡니다.
+    private Set<String> desired(Set<String> trading) {
+        Set<String> desired = new LinkedHashSet<>(trading);
+        desired.addAll(refCounts.keySet());
+        desired.addAll(pinned);
+        return desired;
+    }
+
+    private void refreshHeldCodes(long now) {
+        if (!heldStale.getAndSet(false) && now - heldRefreshedAt < heldRefreshMillis) {
+            return;
+        }
+        try {
+            heldCodes = Set.copyOf(portfoliosRepository.findHeldStockCodes());
+            heldRefreshedAt = now;
+        } catch (Exception e) {
+            heldStale.set(true);
+            log.warn("보유 종목 조회 실패. 이전 목록으로 구독을 유지합니다.", e);
+        }
+    }
+
+    private WebSocketSession leastLoaded(
+            Map<String, WebSocketSession> sessions, Map<String, Integer> load) {
+        WebSocketSession least = null;
+        int leastLoad = maxPerSession;
+        for (WebSocketSession session : sessions.values()) {
+            int current = load.getOrDefault(session.getId(), 0);
+            if (current < leastLoad) {
+                least = session;
+                leastLoad = current;
+            }
+        }
+        return least;
+    }
+
+    // 가장 먼저 필요 없어진 종목을 내리고 그 자리를 씁니다.
+    private WebSocketSession evictIdle(
+            Map<String, WebSocketSession> sessions, Map<String, Integer> load) {
+        if (idleSince.isEmpty()) {
+            return null;
+        }
+        String stockCode = idleSince.keySet().iterator().next();
+        String sessionId = assignments.get(stockCode);
+        unsubscribe(stockCode, sessions, load);
+        return sessions.get(sessionId);
+    }
+
+    // 체결 처리에 필요 없는 등록 종목 중 우선순위가 가장 낮은 것을 내리고 그 자리를 씁니다.
+    private WebSocketSession evictLowestPriority(
+            Set<String> desired,
+            Set<String> trading,
+            Map<String, WebSocketSession> sessions,
+            Map<String, Integer> load) {
+        List<String> order = new ArrayList<>(desired);
+        for (int i = order.size() - 1; i >= 0; i--) {
+            String stockCode = order.get(i);
+            if (!trading.contains(stockCode) && assignments.containsKey(stockCode)) {
+                String sessionId = assignments.get(stockCode);
+                unsubscribe(stockCode, sessions, load);
+                return sessions.get(sessionId);
+            }
+        }
+        return null;
+    }
+
+    private void unsubscribe(
+            String stockCode, Map<String, WebSocketSession> sessions, Map<String, Integer> load) {
+        idleSince.remove(stockCode);
+        String sessionId = assignments.remove(stockCode);
+        if (sessionId == null) {
+            return;
+        }
+        load.merge(sessionId, -1, Integer::sum);
+        hantuWebSocketHandler.unsubscribeStockPrice(sessions.get(sessionId), stockCode);
+    }
+
+    private void release(String stockCode) {
+        refCounts.computeIfPresent(stockCode, (code, count) -> count > 1 ? count - 1 : null);
+    }
+
+    private static String key(StompHeaderAccessor accessor) {
+        return accessor.getSessionId() + ":" + accessor.getSubscriptionId();
+    }
+}
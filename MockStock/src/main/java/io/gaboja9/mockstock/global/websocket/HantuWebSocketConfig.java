@@ -13,6 +13,9 @@ import org.springframework.web.socket.config.annotation.EnableWebSocket;
 import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
 import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Configuration
 @EnableWebSocket
 public class HantuWebSocketConfig implements WebSocketConfigurer {
@@ -20,6 +23,9 @@ public class HantuWebSocketConfig implements WebSocketConfigurer {
     @Value("${hantu-openapi.websocket-uri:ws://ops.koreainvestment.com:31000}")
     private String websocketUri;
 
+    @Value("${hantu-openapi.websocket.sessions:1}")
+    private int sessions;
+
     @Override
     public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {}
 
@@ -34,24 +40,26 @@ public class HantuWebSocketConfig implements WebSocketConfigurer {
         return client;
     }
 
-    @Bean
-    public HantuWebSocketConnectionManager HantuWebSocketConnectionManager(
-            WebSocketClient webSocketClient,
-            HantuWebSocketHandler handler,
-            HantuWebSocketSessionManager webSocketEventService) {
-
-        HantuWebSocketConnectionManager connectionManager =
-                new HantuWebSocketConnectionManager(
-                        webSocketClient, handler, websocketUri, webSocketEventService);
-        // 자동 시작을 비활성화하고, ApplicationReadyEvent를 통해 명시적으로 시작합니다.
-        connectionManager.setAutoStartup(false);
-        return connectionManager;
+    @Bean(destroyMethod = "stopConnections")
+    public HantuWebSocketConnectionPool hantuWebSocketConnectionPool(
+            WebSocketClient webSocketClient, HantuWebSocketHandler handler) {
+
+        int count = Math.max(1, sessions);
+        List<HantuWebSocketConnectionManager> connections = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            HantuWebSocketConnectionManager connectionManager =
+                    new HantuWebSocketConnectionManager(webSocketClient, handler, websocketUri);
+            // 자동 시작을 비활성화하고, ApplicationReadyEvent를 통해 명시적으로 시작합니다.
+            connectionManager.setAutoStartup(false);
+            connections.add(connectionManager);
+        }
+        return new HantuWebSocketConnectionPool(connections);
     }
 
     // 스프링 부트 애플리케이션이 완전히 준비된 후에 웹소켓 연결을 시작합니다. 이 방법을 사용하면 모든 Bean이 초기화된 후에 연결을 시도하므로 더 안정적입니다.
     @Bean
     public ApplicationListener<ApplicationReadyEvent> webSocketConnectionStarter(
-            HantuWebSocketConnectionManager connectionManager) {
-        return event -> connectionManager.startConnection();
+            HantuWebSocketConnectionPool connectionPool) {
+        return event -> connectionPool.startConnections();
     }
 }
@@ -15,7 +15,6 @@ public class HantuWebSocketConnectionManager extends WebSocketConnectionManager
 
     private final ScheduledExecutorService scheduler;
     private ScheduledFuture<?> heartbeatTask;
-    private final HantuWebSocketSessionManager sessionManager;
     private final HantuWebSocketHandler webSocketHandler;
 
     private volatile boolean running = false;
@@ -23,11 +22,17 @@ public class HantuWebSocketConnectionManager extends WebSocketConnectionManager
     public HantuWebSocketConnectionManager(
             WebSocketClient client,
             HantuWebSocketHandler webSocketHandler,
-            String uriTemplate,
-            HantuWebSocketSessionManager sessionManager) {
+            String uriTemplate) {
         super(client, webSocketHandler, uriTemplate);
-        this.scheduler = new ScheduledThreadPoolExecutor(1);
-        this.sessionManager = sessionManager;
+        // 연결마다 스레드 하나를 쓰므로 정리되지 않은 연결이 JVM 종료를 막지 않게 데몬으로 둡니다.
+        this.scheduler =
+                new ScheduledThreadPoolExecutor(
+                        1,
+                        runnable -> {
+                            Thread thread = new Thread(runnable, "hantu-heartbeat");
+                            thread.setDaemon(true);
+                            return thread;
+                        });
         this.webSocketHandler = webSocketHandler;
     }
 
@@ -42,6 +47,7 @@ public class HantuWebSocketConnectionManager extends WebSocketConnectionManager
         //        log.info("Stopping WebSocket connection manager");
         this.running = false;
         stopHeartbeat();
+        scheduler.shutdownNow();
         super.stop();
     }
 
@@ -50,10 +56,8 @@ public class HantuWebSocketConnectionManager extends WebSocketConnectionManager
         heartbeatTask =
                 scheduler.scheduleAtFixedRate(
                         () -> {
-                            //  연결 상태 체크하여 재연결을 시도합니다.
-                            if (this.running
-                                    && (sessionManager.getSession() == null
-                                            || !sessionManager.getSession().isOpen())) {
+                            //  이 연결의 세션 상태를 체크하여 재연결을 시도합니다.
+                            if (this.running && !isConnected()) {
                                 //                                log.warn(
                                 //                                        "Heartbeat detected
                                 // inactive session. Attempting to"
@@ -0,0 +1,26 @@
+package io.gaboja9.mockstock.global.websocket;
+
+import java.util.List;
+
+/**
+ * 한투 웹소켓 연결 여러 개를 함께 시작하고 종료합니다.
+ *
+ * <p>세션마다 등록할 수 있는 종목 수에 한도가 있어 연결을 나눠 둡니다. 어느 연결에 어떤 종목을 등록할지는 {@link
+ * HantuSubscriptionManager}가 정합니다.
+ */
+public class HantuWebSocketConnectionPool {
+
+    private final List<HantuWebSocketConnectionManager> connections;
+
+    public HantuWebSocketConnectionPool(List<HantuWebSocketConnectionManager> connections) {
+        this.connections = List.copyOf(connections);
+    }
+
+    public void startConnections() {
+        connections.forEach(HantuWebSocketConnectionManager::startConnection);
+    }
+
+    public void stopConnections() {
+        connections.forEach(HantuWebSocketConnectionManager::stopConnection);
+    }
+}
@@ -3,9 +3,14 @@ package io.gaboja9.mockstock.global.websocket;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.gaboja9.mockstock.domain.stock.service.LastClosePriceStore;
 import io.gaboja9.mockstock.global.websocket.dto.StockPriceDto;
+import io.gaboja9.mockstock.global.websocket.dto.StockQuote;
+import io.gaboja9.mockstock.global.websocket.mapper.HantuTickFrame;
+import io.gaboja9.mockstock.global.websocket.mapper.HantuTickParser;
 import io.gaboja9.mockstock.global.websocket.mapper.StockPriceMapper;
-import io.gaboja9.mockstock.global.websocket.service.CandleMakerService;
+import io.gaboja9.mockstock.global.websocket.pipeline.MarketDataPipeline;
+import io.gaboja9.mockstock.global.websocket.recorder.TickRecorder;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,7 +22,6 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.socket.CloseStatus;
@@ -25,11 +29,10 @@ import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 @Component
 @Slf4j
@@ -45,56 +48,29 @@ public class HantuWebSocketHandler extends TextWebSocketHandler {
     @Value("${hantu-openapi.websocket-domain:https://openapi.koreainvestment.com:9443}")
     private String websocketDomain;
 
+    // 이보다 오래된 체결가는 stale로 표시합니다.
+    @Value("${market-data.stale-after-ms:300000}")
+    private long staleAfterMillis;
+
     private final ObjectMapper objectMapper;
     private final RestTemplate restTemplate;
-    private final HantuWebSocketSessionManager eventService;
-    private final SimpMessagingTemplate messagingTemplate;
-    private final CandleMakerService candleMakerService;
+    private final HantuWebSocketSessionManager sessionManager;
+    private final MarketDataPipeline marketDataPipeline;
+    private final LastClosePriceStore lastClosePriceStore;
+    private final TickRecorder tickRecorder;
 
-    private WebSocketSession session;
-    private String approvalKey;
-    private final ExecutorService executorService = Executors.newFixedThreadPool(5);
-    private final Map<String, String> subscribedStocks = new ConcurrentHashMap<>();
-    private final Map<String, StockPriceDto> latestPrices = new ConcurrentHashMap<>();
+    private volatile String approvalKey;
+    // 수신 스레드마다 하나씩 두고 메시지마다 재사용합니다.
+    private final ThreadLocal<HantuTickFrame> frames = ThreadLocal.withInitial(HantuTickFrame::new);
 
-    // 웹소켓 세션이 열렸을 때 호출됨
+    // 웹소켓 세션이 열렸을 때 호출됨. 종목 구독은 HantuSubscriptionManager가 세션별로 나눠서 요청합니다.
 
     @Override
     public void afterConnectionEstablished(WebSocketSession session) throws Exception {
-        this.session = session;
-        eventService.setSession(session);
-
         // 접속 승인키 얻기
-        approvalKey = getApprovalKey();
-
-        // 초기 종목 구독
-        subscribeInitialStocks();
-    }
+        getApprovalKey();
 
-    /** 애플리케이션 시작 시 구독할 초기 종목들을 설정합니다. */
-    private void subscribeInitialStocks() {
-        //        log.info("Subscribing to initial stocks...");
-        // 삼성전자, 카카오, 네이버를 순서대로 구독 요청
-        subscribeStockPrice("005930", "H1"); // 삼성전자
-        subscribeStockPrice("247540", "H1"); // 에코프로비엠
-        subscribeStockPrice("005380", "H1"); // 현대차
-        subscribeStockPrice("035420", "H1"); // NAVER
-        subscribeStockPrice("035720", "H1"); // 카카오
-        subscribeStockPrice("259960", "H1"); // 크래프톤
-        subscribeStockPrice("068270", "H1"); // 셀트리온
-        subscribeStockPrice("128940", "H1"); // 한미약품
-        subscribeStockPrice("096770", "H1"); // SK이노베이션
-        subscribeStockPrice("051910", "H1"); // LG화학
-        subscribeStockPrice("005490", "H1"); // POSCO홀딩스
-        subscribeStockPrice("017670", "H1"); // SK텔레콤
-        subscribeStockPrice("105560", "H1"); // KB금융
-        subscribeStockPrice("323410", "H1"); // 카카오뱅크
-        subscribeStockPrice("139480", "H1"); // 이마트
-        subscribeStockPrice("000120", "H1"); // CJ대한통운
-        subscribeStockPrice("003490", "H1"); // 대한항공
-        subscribeStockPrice("009540", "H1"); // 한국조선해양
-        subscribeStockPrice("375500", "H1"); // DL이앤씨
-        subscribeStockPrice("006400", "H1"); // 삼성SDI
+        sessionManager.register(session);
     }
 
     // 메세지 호출시 호출
@@ -102,22 +78,22 @@ public class HantuWebSocketHandler extends TextWebSocketHandler {
     protected void handleTextMessage(WebSocketSession session, TextMessage message)
             throws Exception {
         String payload = message.getPayload();
+        tickRecorder.record(payload);
 
-        executorService.submit(() -> processMessage(payload));
+        // 체결가는 수신 순서대로 파이프라인에 넣고, 그 외 응답은 바로 처리합니다.
+        processMessage(session, payload);
     }
 
     // 연결 종료시 호출
     @Override
     public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
-        this.session = null;
-        eventService.setConnectionActive(false);
-        eventService.setSession(null);
+        sessionManager.unregister(session);
     }
 
     // 에러 발생시 호출
     @Override
     public void handleTransportError(WebSocketSession session, Throwable exception) {
-        eventService.setConnectionActive(false);
+        sessionManager.unregister(session);
     }
 
     // 웹소켓 접근키 발급
@@ -159,56 +135,30 @@ public class HantuWebSocketHandler extends TextWebSocketHandler {
         }
     }
 
-    // 실시간체결가 구독
-    public void subscribeStockPrice(String stockCode, String marketCode) {
-        if (session == null || !session.isOpen()) {
-            //            log.warn("WebSocket not connected. Cannot subscribe to {}", stockCode);
-            return;
-        }
-
-        try {
-            Map<String, Object> header = new HashMap<>();
-            header.put("approval_key", getApprovalKey());
-            header.put("custtype", "P");
-            header.put("tr_type", "1"); // 1: 등록
-            header.put("content-type", "utf-8");
-
-            Map<String, String> input = new HashMap<>();
-            input.put("tr_id", "H0STCNT0"); // 실시간 주식 체결가
-            input.put("tr_key", stockCode);
-
-            Map<String, Object> body = new HashMap<>();
-            body.put("input", input);
-
-            Map<String, Object> request = new HashMap<>();
-            request.put("header", header);
-            request.put("body", body);
+    /** 실시간 체결가 구독. 요청을 보냈으면 true를 반환합니다. */
+    public boolean subscribeStockPrice(WebSocketSession session, String stockCode) {
+        return sendRegistration(session, stockCode, "1"); // 1: 등록
+    }
 
-            String requestJson = objectMapper.writeValueAsString(request);
-            session.sendMessage(new TextMessage(requestJson));
-            subscribedStocks.put(stockCode, marketCode);
-            //            log.info("Subscription request sent for stock: {}", stockCode);
-        } catch (Exception e) {
-            //            log.error("Error subscribing to stock price for code: {}", stockCode, e);
-        }
+    /** 실시간 체결가 구독 해제 */
+    public boolean unsubscribeStockPrice(WebSocketSession session, String stockCode) {
+        return sendRegistration(session, stockCode, "2"); // 2: 해제
     }
 
-    /** 실시간 시세 구독 해제 */
-    public void unsubscribeStockPrice(String stockCode, String marketCode) {
+    private boolean sendRegistration(WebSocketSession session, String stockCode, String trType) {
         if (session == null || !session.isOpen()) {
-            //            log.warn("WebSocket not connected. Cannot unsubscribe.");
-            return;
+            return false;
         }
 
         try {
             Map<String, Object> header = new HashMap<>();
             header.put("approval_key", getApprovalKey());
             header.put("custtype", "P");
-            header.put("tr_type", "2"); // 2: 해제
+            header.put("tr_type", trType);
             header.put("content-type", "utf-8");
 
             Map<String, String> input = new HashMap<>();
-            input.put("tr_id", "H0STCNT0");
+            input.put("tr_id", HantuTickParser.TR_ID); // 실시간 주식 체결가
             input.put("tr_key", stockCode);
 
             Map<String, Object> body = new HashMap<>();
@@ -220,35 +170,24 @@ public class HantuWebSocketHandler extends TextWebSocketHandler {
 
             String requestJson = objectMapper.writeValueAsString(request);
             session.sendMessage(new TextMessage(requestJson));
-            subscribedStocks.remove(stockCode);
-            //            log.info("Unsubscribed from real-time price for stock: {}", stockCode);
+            return true;
         } catch (Exception e) {
-            //            log.error("Error unsubscribing from stock price for code: {}", stockCode,
-            // e);
+            log.warn("한투 실시간 체결가 등록 요청 실패: {} (tr_type={})", stockCode, trType, e);
+            return false;
+        }
+    }
+
+    /** 기록해 둔 원본 프레임을 실시간 수신과 같은 경로로 넣습니다. 체결가 외의 응답은 무시합니다. */
+    public void replay(String message) {
+        if (HantuTickParser.isTick(message)) {
+            publishTicks(message);
         }
     }
 
     // 메세지 처리
-    private void processMessage(String message) {
-        if (message.startsWith("0|H0STCNT0|")) {
-            try {
-                String[] parts = message.split("\\|");
-                if (parts.length >= 4) {
-                    String[] fields = parts[3].split("\\^");
-                    StockPriceDto priceData = StockPriceMapper.parseStockPriceData(fields);
-
-                    // log.info(priceData.toString());
-                    //  STOMP 브로드캐스트 추가
-
-                    messagingTemplate.convertAndSend(
-                            "/topic/stock/" + priceData.getStockCode(), priceData);
-                    latestPrices.put(priceData.getStockCode(), priceData);
-
-                    candleMakerService.processTick(priceData);
-                }
-            } catch (Exception e) {
-                //                log.error("Error processing real-time data: {}", message, e);
-            }
+    private void processMessage(WebSocketSession session, String message) {
+        if (HantuTickParser.isTick(message)) {
+            publishTicks(message);
             return;
         }
 
@@ -262,7 +201,9 @@ public class HantuWebSocketHandler extends TextWebSocketHandler {
                     //                    log.debug("PINGPONG check received from server. Sending
                     // response.");
                     // 받은 메시지를 그대로 다시 보내주는 것이 가장 간단하고 확실한 응답 방식
-                    session.sendMessage(new TextMessage(message));
+                    WebSocketSession registered = sessionManager.find(session.getId());
+                    (registered != null ? registered : session)
+                            .sendMessage(new TextMessage(message));
                     return; // 응답 후 처리 종료
                 }
 
@@ -282,7 +223,37 @@ public class HantuWebSocketHandler extends TextWebSocketHandler {
         }
     }
 
+    private void publishTicks(String message) {
+        try {
+            HantuTickFrame frame = frames.get();
+            int count = HantuTickParser.parseFrame(message, frame);
+            if (count > 0) {
+                List<StockPriceDto> prices = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    prices.add(StockPriceMapper.toDto(frame.get(i)));
+                }
+                marketDataPipeline.publish(prices);
+            }
+        } catch (Exception e) {
+            //            log.error("Error processing real-time data: {}", message, e);
+        }
+    }
+
     public StockPriceDto getLatestPrice(String stockCode) {
-        return latestPrices.get(stockCode);
+        return marketDataPipeline.getLatestPrice(stockCode);
+    }
+
+    /**
+     * 주문 체결처럼 실시간 체결가만 써야 할 때 씁니다. 체결을 받은 적 없는 종목이면 0입니다. 평가에는 {@link #getQuote}를
+     * 씁니다.
+     */
+    public int getCurrentPrice(String stockCode) {
+        return marketDataPipeline.getCurrentPrice(stockCode);
+    }
+
+    /** 평가용 가격. 실시간 체결이 없으면 전일 종가를 stale로 돌려줍니다. */
+    public StockQuote getQuote(String stockCode) {
+        StockQuote live = marketDataPipeline.getQuote(stockCode, staleAfterMillis);
+        return live != null ? live : lastClosePriceStore.getQuote(stockCode);
     }
 }
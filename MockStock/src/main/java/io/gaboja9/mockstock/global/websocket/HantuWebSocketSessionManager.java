@@ -1,36 +1,71 @@
 package io.gaboja9.mockstock.global.websocket;
 
-import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 열려 있는 한투 웹소켓 세션을 보관합니다.
+ *
+ * <p>세션마다 등록할 수 있는 종목 수에 한도가 있어 연결을 여러 개 둘 수 있습니다. 구독 요청과 PINGPONG 응답이 서로 다른
+ * 스레드에서 보내지므로 세션은 전송을 직렬화하는 데코레이터로 감싸 둡니다.
+ */
 @Component
 @Slf4j
 public class HantuWebSocketSessionManager {
 
-    @Getter private WebSocketSession session;
-    private boolean connectionActive = false;
-
-    // 세션설정
-    public void setSession(WebSocketSession session) {
-        this.session = session;
-        this.connectionActive = (session != null && session.isOpen());
-        log.info(
-                "WebSocket session set: {}, active: {}",
-                session != null ? session.getId() : "null",
-                connectionActive);
+    private static final int SEND_TIME_LIMIT_MS = 10_000;
+    private static final int BUFFER_SIZE_LIMIT = 1024 * 1024;
+
+    private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+
+    // 세션 등록
+    public void register(WebSocketSession session) {
+        sessions.put(
+                session.getId(),
+                new ConcurrentWebSocketSessionDecorator(
+                        session, SEND_TIME_LIMIT_MS, BUFFER_SIZE_LIMIT));
+        log.info("WebSocket session registered: {}, open sessions: {}", session.getId(), size());
+    }
+
+    // 세션 해제
+    public void unregister(WebSocketSession session) {
+        if (sessions.remove(session.getId()) != null) {
+            log.info(
+                    "WebSocket session unregistered: {}, open sessions: {}",
+                    session.getId(),
+                    size());
+        }
     }
 
-    // 연결 상태 설정
-    public void setConnectionActive(boolean active) {
-        this.connectionActive = active;
-        log.info("WebSocket connection active state changed to: {}", active);
+    /** 전송에 쓸 세션. 등록되지 않은 세션이면 null입니다. */
+    public WebSocketSession find(String sessionId) {
+        return sessions.get(sessionId);
+    }
+
+    public List<WebSocketSession> getOpenSessions() {
+        List<WebSocketSession> open = new ArrayList<>(sessions.size());
+        for (WebSocketSession session : sessions.values()) {
+            if (session.isOpen()) {
+                open.add(session);
+            }
+        }
+        return open;
     }
 
     // 연결 상태 반환
     public boolean isConnectionActive() {
-        return connectionActive;
+        return !getOpenSessions().isEmpty();
+    }
+
+    private int size() {
+        return sessions.size();
     }
 }
@@ -0,0 +1,24 @@
+package io.gaboja9.mockstock.global.websocket;
+
+import io.gaboja9.mockstock.global.websocket.dto.StockPriceDto;
+
+import java.util.List;
+
+/** 한투 실시간 체결가가 최신가 테이블에 반영된 직후 호출되는 리스너 */
+public interface StockPriceListener {
+
+    void onStockPrice(StockPriceDto price);
+
+    /** 한 메시지에 묶여 온 체결들을 순서대로 받습니다. 묶음 단위로 처리할 수 있으면 재정의합니다. */
+    default void onStockPrices(List<StockPriceDto> prices) {
+        prices.forEach(this::onStockPrice);
+    }
+
+    /**
+     * 종목별 마지막 체결가만 있으면 되는 리스너면 true를 반환합니다. 이런 리스너는 지정가 주문 트리거와 다른 단계에서 호출되고, 뒤처지면
+     * 오래된 체결을 건너뜁니다.
+     */
+    default boolean isConflating() {
+        return false;
+    }
+}
@@ -2,6 +2,7 @@ package io.gaboja9.mockstock.global.websocket;
 
 import io.gaboja9.mockstock.domain.stock.service.StocksService;
 import io.gaboja9.mockstock.global.exception.ErrorResponse;
+import io.gaboja9.mockstock.global.websocket.pipeline.CompactPriceEncoder;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,6 +14,7 @@ import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Component;
 
 @RequiredArgsConstructor
@@ -22,6 +24,7 @@ public class StockSubscriptionInterceptor implements ChannelInterceptor {
 
     private final StocksService stocksService;
     private final ObjectProvider<SimpMessagingTemplate> messagingTemplateProvider;
+    private final CompactPriceEncoder compactPriceEncoder;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -31,9 +34,8 @@ public class StockSubscriptionInterceptor implements ChannelInterceptor {
             String destination = accessor.getDestination();
             String sessionId = accessor.getSessionId();
 
-            if (destination != null && destination.startsWith("/topic/stock/")) {
-                String stockCode = destination.substring("/topic/stock/".length());
-
+            String stockCode = StockTopics.stockCodeOf(destination);
+            if (stockCode != null) {
                 if (!stocksService.existsByCode(stockCode)) {
                     log.warn("잘못된 종목코드 구독 시도: {} (session: {})", stockCode, sessionId);
 
@@ -55,9 +57,29 @@ public class StockSubscriptionInterceptor implements ChannelInterceptor {
                 }
 
                 log.info("✅ 유효한 종목 구독: {} (session: {})", stockCode, sessionId);
+
+                if (destination.startsWith(StockTopics.COMPACT)) {
+                    compactPriceEncoder.requestKeyframe(stockCode);
+                } else if (destination.startsWith(StockTopics.FAST) && wantsCompact(accessor)) {
+                    return toCompact(message, stockCode);
+                }
             }
         }
 
         return message;
     }
+
+    private static boolean wantsCompact(StompHeaderAccessor accessor) {
+        return StockTopics.COMPACT_FORMAT.equalsIgnoreCase(
+                accessor.getFirstNativeHeader(StockTopics.FORMAT_HEADER));
+    }
+
+    // simple broker는 구독자마다 다른 본문을 보낼 수 없으므로 구독 목적지를 압축 토픽으로 바꿉니다.
+    // 구독 ID는 그대로라 클라이언트는 원래 구독 콜백으로 압축 프레임을 받습니다.
+    private Message<?> toCompact(Message<?> message, String stockCode) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+        accessor.setDestination(StockTopics.COMPACT + stockCode);
+        compactPriceEncoder.requestKeyframe(stockCode);
+        return MessageBuilder.createMessage(message.getPayload(), accessor.getMessageHeaders());
+    }
 }
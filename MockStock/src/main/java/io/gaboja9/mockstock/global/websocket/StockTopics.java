@@ -0,0 +1,36 @@
+package io.gaboja9.mockstock.global.websocket;
+
+import java.util.List;
+
+/** 종목 시세 STOMP 토픽 경로 */
+public final class StockTopics {
+
+    // 체결가를 짧은 주기로 모아 보내는 기본 토픽
+    public static final String FAST = "/topic/stock/";
+
+    // 목록 화면 등 느린 클라이언트용 토픽
+    public static final String SLOW = "/topic/stock-slow/";
+
+    // 달라진 필드만 배열로 보내는 압축 토픽. 기본 토픽을 format: compact 헤더로 구독하면 이 토픽으로 바뀝니다.
+    public static final String COMPACT = "/topic/stock-compact/";
+
+    public static final String FORMAT_HEADER = "format";
+    public static final String COMPACT_FORMAT = "compact";
+
+    private static final List<String> PREFIXES = List.of(FAST, SLOW, COMPACT);
+
+    private StockTopics() {}
+
+    /** 종목 시세 토픽이면 종목코드를, 아니면 null을 반환합니다. */
+    public static String stockCodeOf(String destination) {
+        if (destination == null) {
+            return null;
+        }
+        for (String prefix : PREFIXES) {
+            if (destination.startsWith(prefix)) {
+                return destination.substring(prefix.length());
+            }
+        }
+        return null;
+    }
+}
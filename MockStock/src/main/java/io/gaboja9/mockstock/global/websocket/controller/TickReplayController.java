@@ -0,0 +1,43 @@
+package io.gaboja9.mockstock.global.websocket.controller;
+
+import io.gaboja9.mockstock.global.websocket.HantuWebSocketHandler;
+import io.gaboja9.mockstock.global.websocket.recorder.TickReplayer;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 기록된 틱 재생 API. tick-replay 프로필에서만 뜨고 ADMIN 권한이 있어야 호출할 수 있습니다.
+ *
+ * <p>재생한 틱으로 실제 지정가 주문이 체결되므로 운영 주문장에는 절대 재생하지 마세요. 로컬이나 부하 테스트 환경에서 테스트용 DB로만
+ * 씁니다.
+ */
+@Profile("tick-replay")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/replay/ticks")
+public class TickReplayController {
+
+    private final TickReplayer tickReplayer;
+    private final HantuWebSocketHandler hantuWebSocketHandler;
+
+    /** 기록된 틱을 재생합니다. speed=1은 실제 속도, N은 N배속, 0 이하는 최대 속도입니다. */
+    @PostMapping
+    public ResponseEntity<Void> start(@RequestParam(defaultValue = "1") double speed) {
+        tickReplayer.start(speed, hantuWebSocketHandler::replay);
+        return ResponseEntity.accepted().build();
+    }
+
+    @DeleteMapping
+    public ResponseEntity<Void> stop() {
+        tickReplayer.stop();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,20 @@
+package io.gaboja9.mockstock.global.websocket.dto;
+
+/**
+ * 평가에 쓸 가격과 그 가격을 받은 시각.
+ *
+ * <p>실시간 체결이 없으면 전일 종가로 대신하고 {@code stale}을 켭니다. 체결이 있어도 오래됐으면 마찬가지로 stale입니다. 가격을
+ * 전혀 모르면 {@code price}는 0입니다.
+ *
+ * @param receivedAt 체결을 받은 시각 또는 종가 일자(epoch millis). 가격이 없으면 0
+ */
+public record StockQuote(String stockCode, int price, long receivedAt, boolean stale) {
+
+    public static StockQuote none(String stockCode) {
+        return new StockQuote(stockCode, 0, 0L, true);
+    }
+
+    public boolean hasPrice() {
+        return price > 0;
+    }
+}
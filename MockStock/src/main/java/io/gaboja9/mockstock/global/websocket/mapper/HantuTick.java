@@ -0,0 +1,65 @@
+package io.gaboja9.mockstock.global.websocket.mapper;
+
+import lombok.Getter;
+
+/**
+ * 한투 실시간 체결가(H0STCNT0) 한 건에서 필요한 필드만 담는 가변 객체입니다.
+ *
+ * <p>틱마다 새로 만들지 않고 처리 스레드별로 하나를 재사용하므로 다른 스레드에 넘기거나 보관하면 안 됩니다. 넘겨야 할 때는
+ * {@link StockPriceMapper#toDto(HantuTick)}로 복사합니다.
+ */
+@Getter
+public class HantuTick {
+
+    private String stockCode;
+    private String tradeTime;
+    private int currentPrice;
+    private double dayOverDayPercent;
+    private int highPrice;
+    private int lowPrice;
+    private long tradeVolume;
+    private long cumulativeVolume;
+
+    void reset() {
+        stockCode = null;
+        tradeTime = null;
+        currentPrice = 0;
+        dayOverDayPercent = 0.0;
+        highPrice = 0;
+        lowPrice = 0;
+        tradeVolume = 0;
+        cumulativeVolume = 0;
+    }
+
+    void setStockCode(String stockCode) {
+        this.stockCode = stockCode;
+    }
+
+    void setTradeTime(String tradeTime) {
+        this.tradeTime = tradeTime;
+    }
+
+    void setCurrentPrice(int currentPrice) {
+        this.currentPrice = currentPrice;
+    }
+
+    void setDayOverDayPercent(double dayOverDayPercent) {
+        this.dayOverDayPercent = dayOverDayPercent;
+    }
+
+    void setHighPrice(int highPrice) {
+        this.highPrice = highPrice;
+    }
+
+    void setLowPrice(int lowPrice) {
+        this.lowPrice = lowPrice;
+    }
+
+    void setTradeVolume(long tradeVolume) {
+        this.tradeVolume = tradeVolume;
+    }
+
+    void setCumulativeVolume(long cumulativeVolume) {
+        this.cumulativeVolume = cumulativeVolume;
+    }
+}
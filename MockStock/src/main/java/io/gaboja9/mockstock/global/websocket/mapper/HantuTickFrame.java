@@ -0,0 +1,47 @@
+package io.gaboja9.mockstock.global.websocket.mapper;
+
+import java.util.Arrays;
+
+/**
+ * 한투 실시간 메시지 한 건에 묶여 온 체결 데이터들을 담습니다.
+ *
+ * <p>{@link HantuTick}과 마찬가지로 처리 스레드별로 하나를 두고 재사용하며, 담긴 틱 객체도 다음 메시지에서 다시 채워집니다.
+ */
+public class HantuTickFrame {
+
+    private HantuTick[] ticks = new HantuTick[4];
+    private int size;
+
+    public int size() {
+        return size;
+    }
+
+    public HantuTick get(int index) {
+        if (index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return ticks[index];
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    HantuTick next() {
+        if (size == ticks.length) {
+            ticks = Arrays.copyOf(ticks, size * 2);
+        }
+        HantuTick tick = ticks[size];
+        if (tick == null) {
+            tick = new HantuTick();
+            ticks[size] = tick;
+        }
+        size++;
+        return tick;
+    }
+
+    // 필드가 모자란 마지막 레코드는 버립니다.
+    void discardLast() {
+        size--;
+    }
+}
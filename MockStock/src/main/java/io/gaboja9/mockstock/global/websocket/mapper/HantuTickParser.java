@@ -0,0 +1,229 @@
+package io.gaboja9.mockstock.global.websocket.mapper;
+
+/**
+ * 한투 실시간 체결가 메시지를 split 없이 인덱스로 훑어 {@link HantuTickFrame}에 채웁니다.
+ *
+ * <p>메시지 형식은 {@code 암호화여부|TR_ID|건수|필드^필드^...}이며, 체결이 몰리면 레코드 {@value #FIELDS_PER_RECORD}개
+ * 필드씩 여러 건이 이어 붙어 옵니다. 필요한 필드만 골라 숫자는 문자 단위로 바로 변환하고,
+ * 종목코드와 체결시간 문자열은 {@link InternTable}로 재사용하므로 정상 상태에서는 틱마다 새 객체를 만들지 않습니다. 형식이 맞지 않는
+ * 숫자는 기존처럼 0으로 처리합니다.
+ */
+public final class HantuTickParser {
+
+    public static final String TR_ID = "H0STCNT0";
+    public static final String PREFIX = "0|" + TR_ID + "|";
+
+    private static final char HEADER_SEPARATOR = '|';
+    private static final char FIELD_SEPARATOR = '^';
+
+    // H0STCNT0 응답 필드 순서
+    private static final int STOCK_CODE = 0; // MKSC_SHRN_ISCD
+    private static final int TRADE_TIME = 1; // STCK_CNTG_HOUR
+    private static final int CURRENT_PRICE = 2; // STCK_PRPR
+    private static final int DAY_OVER_DAY_PERCENT = 5; // PRDY_CTRT
+    private static final int HIGH_PRICE = 8; // STCK_HGPR
+    private static final int LOW_PRICE = 9; // STCK_LWPR
+    private static final int TRADE_VOLUME = 12; // CNTG_VOL
+    private static final int CUMULATIVE_VOLUME = 13; // ACML_VOL
+    private static final int LAST_FIELD = CUMULATIVE_VOLUME;
+    static final int FIELDS_PER_RECORD = 46;
+
+    private static final InternTable STOCK_CODES = new InternTable(4096);
+    private static final InternTable TRADE_TIMES = new InternTable(4096);
+
+    private static final double[] POWERS_OF_TEN = {1, 10, 100, 1_000, 10_000, 100_000, 1_000_000};
+
+    private HantuTickParser() {}
+
+    public static boolean isTick(CharSequence payload) {
+        return startsWith(payload, PREFIX);
+    }
+
+    /**
+     * 메시지에 담긴 체결 데이터를 모두 frame에 채웁니다.
+     *
+     * @return 읽은 체결 건수. 체결가 메시지가 아니면 0
+     */
+    public static int parseFrame(CharSequence payload, HantuTickFrame frame) {
+        frame.clear();
+        if (!isTick(payload)) {
+            return 0;
+        }
+
+        // 암호화여부|TR_ID|건수| 다음부터 필드가 시작됩니다.
+        int countStart = PREFIX.length();
+        int start = indexOf(payload, HEADER_SEPARATOR, countStart);
+        if (start < 0) {
+            return 0;
+        }
+        long count = parseLong(payload, countStart, start);
+        if (count <= 0) {
+            count = 1;
+        }
+        start++;
+
+        int length = payload.length();
+        int field = 0;
+        HantuTick tick = null;
+        while (start <= length) {
+            int end = indexOf(payload, FIELD_SEPARATOR, start);
+            if (end < 0) {
+                end = length;
+            }
+
+            if (field == 0) {
+                if (frame.size() == count) {
+                    break;
+                }
+                tick = frame.next();
+                tick.reset();
+            }
+            readField(payload, field, start, end, tick);
+
+            field = field + 1 == FIELDS_PER_RECORD ? 0 : field + 1;
+            start = end + 1;
+        }
+
+        // 마지막 레코드가 중간에 끊겼다면 필요한 필드까지 읽었을 때만 인정합니다.
+        if (tick != null && (field != 0 && field <= LAST_FIELD || tick.getStockCode().isEmpty())) {
+            frame.discardLast();
+        }
+        return frame.size();
+    }
+
+    private static void readField(
+            CharSequence payload, int field, int start, int end, HantuTick tick) {
+        switch (field) {
+            case STOCK_CODE -> tick.setStockCode(STOCK_CODES.intern(payload, start, end));
+            case TRADE_TIME -> tick.setTradeTime(TRADE_TIMES.intern(payload, start, end));
+            case CURRENT_PRICE -> tick.setCurrentPrice((int) parseLong(payload, start, end));
+            case DAY_OVER_DAY_PERCENT ->
+                    tick.setDayOverDayPercent(parseDecimal(payload, start, end));
+            case HIGH_PRICE -> tick.setHighPrice((int) parseLong(payload, start, end));
+            case LOW_PRICE -> tick.setLowPrice((int) parseLong(payload, start, end));
+            case TRADE_VOLUME -> tick.setTradeVolume(parseLong(payload, start, end));
+            case CUMULATIVE_VOLUME -> tick.setCumulativeVolume(parseLong(payload, start, end));
+            default -> {
+                // 사용하지 않는 필드
+            }
+        }
+    }
+
+    private static int indexOf(CharSequence s, char c, int from) {
+        for (int i = from; i < s.length(); i++) {
+            if (s.charAt(i) == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static long parseLong(CharSequence s, int start, int end) {
+        if (start >= end) {
+            return 0;
+        }
+        boolean negative = s.charAt(start) == '-';
+        int i = negative || s.charAt(start) == '+' ? start + 1 : start;
+        if (i >= end || end - i > 18) {
+            return 0;
+        }
+
+        long value = 0;
+        for (; i < end; i++) {
+            int digit = s.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return 0;
+            }
+            value = value * 10 + digit;
+        }
+        return negative ? -value : value;
+    }
+
+    static double parseDecimal(CharSequence s, int start, int end) {
+        if (start >= end) {
+            return 0.0;
+        }
+        boolean negative = s.charAt(start) == '-';
+        int i = negative || s.charAt(start) == '+' ? start + 1 : start;
+
+        long digits = 0;
+        int digitCount = 0;
+        int scale = -1;
+        for (; i < end; i++) {
+            char c = s.charAt(i);
+            if (c == '.' && scale < 0) {
+                scale = 0;
+                continue;
+            }
+            if (c < '0' || c > '9' || ++digitCount > 18) {
+                return 0.0;
+            }
+            digits = digits * 10 + (c - '0');
+            if (scale >= 0) {
+                scale++;
+            }
+        }
+        if (digitCount == 0 || scale >= POWERS_OF_TEN.length) {
+            return 0.0;
+        }
+
+        double value = scale > 0 ? digits / POWERS_OF_TEN[scale] : digits;
+        return negative ? -value : value;
+    }
+
+    private static boolean startsWith(CharSequence s, String prefix) {
+        if (s.length() < prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (s.charAt(i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 같은 문자열을 매번 만들지 않도록 최근 값을 해시 슬롯에 보관합니다.
+     *
+     * <p>슬롯이 겹치면 덮어쓸 뿐이라 정확성에는 영향이 없고, String은 불변이라 여러 스레드가 동시에 써도 안전합니다.
+     */
+    static final class InternTable {
+
+        private final String[] slots;
+        private final int mask;
+
+        InternTable(int size) {
+            this.slots = new String[Integer.highestOneBit(size - 1) << 1];
+            this.mask = slots.length - 1;
+        }
+
+        String intern(CharSequence s, int start, int end) {
+            int hash = 0;
+            for (int i = start; i < end; i++) {
+                hash = 31 * hash + s.charAt(i);
+            }
+            int slot = (hash ^ (hash >>> 16)) & mask;
+
+            String cached = slots[slot];
+            if (cached != null && contentEquals(cached, s, start, end)) {
+                return cached;
+            }
+            String value = s.subSequence(start, end).toString();
+            slots[slot] = value;
+            return value;
+        }
+
+        private static boolean contentEquals(String cached, CharSequence s, int start, int end) {
+            if (cached.length() != end - start) {
+                return false;
+            }
+            for (int i = 0; i < cached.length(); i++) {
+                if (cached.charAt(i) != s.charAt(start + i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package io.gaboja9.mockstock.global.websocket.pipeline;
+
+import io.gaboja9.mockstock.global.websocket.dto.StockPriceDto;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 압축 시세 토픽용 프레임을 만듭니다.
+ *
+ * <p>프레임은 필드 이름 없는 배열 {@code [flags, seq, 값...]}입니다. flags의 하위 비트는 뒤따르는 값이 어떤 필드인지(아래
+ * 상수 순서), {@link #KEYFRAME} 비트는 전체 필드를 담은 키프레임인지를 나타냅니다. 키프레임이 아니면 직전 프레임과 달라진 필드만
+ * 담습니다. seq는 종목별로 1씩 증가하므로 클라이언트는 번호가 건너뛰면 다음 키프레임까지 기다리면 됩니다.
+ */
+@Component
+public class CompactPriceEncoder {
+
+    static final int TRADE_TIME = 1;
+    static final int CURRENT_PRICE = 1 << 1;
+    static final int DAY_OVER_DAY_PERCENT = 1 << 2;
+    static final int HIGH_PRICE = 1 << 3;
+    static final int LOW_PRICE = 1 << 4;
+    static final int TRADE_VOLUME = 1 << 5;
+    static final int CUMULATIVE_VOLUME = 1 << 6;
+    static final int KEYFRAME = 1 << 7;
+
+    private final int keyframeInterval;
+
+    // 아래 상태는 encode를 호출하는 브로드캐스트 스레드에서만 바꿉니다.
+    private final Map<String, State> states = new HashMap<>();
+    private final Set<String> keyframeRequests = ConcurrentHashMap.newKeySet();
+
+    private static final class State {
+        private StockPriceDto last;
+        private long seq;
+        private int sinceKeyframe;
+    }
+
+    public CompactPriceEncoder(
+            @Value("${market-data.compact.keyframe-interval:25}") int keyframeInterval) {
+        this.keyframeInterval = keyframeInterval;
+    }
+
+    /** 새 구독자가 바로 전체 값을 받을 수 있도록 다음 프레임을 키프레임으로 보냅니다. */
+    public void requestKeyframe(String stockCode) {
+        keyframeRequests.add(stockCode);
+    }
+
+    public synchronized List<Object> encode(StockPriceDto price) {
+        State state = states.computeIfAbsent(price.getStockCode(), k -> new State());
+        StockPriceDto last = state.last;
+        boolean keyframe =
+                last == null
+                        || state.sinceKeyframe + 1 >= keyframeInterval
+                        || keyframeRequests.remove(price.getStockCode());
+
+        List<Object> frame = new ArrayList<>(9);
+        frame.add(0);
+        frame.add(++state.seq);
+
+        int flags = keyframe ? KEYFRAME : 0;
+        if (keyframe || !Objects.equals(last.getTradeTime(), price.getTradeTime())) {
+            flags |= TRADE_TIME;
+            frame.add(price.getTradeTime());
+        }
+        if (keyframe || last.getCurrentPrice() != price.getCurrentPrice()) {
+            flags |= CURRENT_PRICE;
+            frame.add(price.getCurrentPrice());
+        }
+        if (keyframe || last.getDayOverDayPercent() != price.getDayOverDayPercent()) {
+            flags |= DAY_OVER_DAY_PERCENT;
+            frame.add(price.getDayOverDayPercent());
+        }
+        if (keyframe || last.getHighPrice() != price.getHighPrice()) {
+            flags |= HIGH_PRICE;
+            frame.add(price.getHighPrice());
+        }
+        if (keyframe || last.getLowPrice() != price.getLowPrice()) {
+            flags |= LOW_PRICE;
+            frame.add(price.getLowPrice());
+        }
+        if (keyframe || last.getTradeVolume() != price.getTradeVolume()) {
+            flags |= TRADE_VOLUME;
+            frame.add(price.getTradeVolume());
+        }
+        if (keyframe || last.getCumulativeVolume() != price.getCumulativeVolume()) {
+            flags |= CUMULATIVE_VOLUME;
+            frame.add(price.getCumulativeVolume());
+        }
+        frame.set(0, flags);
+
+        state.last = price;
+        state.sinceKeyframe = keyframe ? 0 : state.sinceKeyframe + 1;
+        return frame;
+    }
+}
@@ -0,0 +1,109 @@
+package io.gaboja9.mockstock.global.websocket.pipeline;
+
+import io.gaboja9.mockstock.global.websocket.CompactSubscriptions;
+import io.gaboja9.mockstock.global.websocket.StockTopics;
+import io.gaboja9.mockstock.global.websocket.dto.StockPriceDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 종목별 최신 체결가만 남겨 두었다가 정해진 주기마다 STOMP로 보냅니다.
+ *
+ * <p>인기 종목은 초당 수십 건씩 체결되지만 차트는 그만큼 그리지 못하므로, 주기 사이에 들어온 체결은 마지막 것만 보냅니다. 기본
+ * 토픽({@value StockTopics#FAST})과 느린 토픽({@value StockTopics#SLOW})은 주기를 따로 두고, 압축 토픽({@value
+ * StockTopics#COMPACT})은 기본 토픽과 같은 주기로 {@link CompactPriceEncoder} 프레임을 보냅니다. 압축 프레임은 {@link
+ * CompactSubscriptions}에 구독자가 있는 종목만 만듭니다.
+ */
+@Slf4j
+@Component
+public class ConflatingBroadcaster {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final CompactPriceEncoder compactPriceEncoder;
+    private final CompactSubscriptions compactSubscriptions;
+
+    private final Map<String, StockPriceDto> pendingFast = new ConcurrentHashMap<>();
+    private final Map<String, StockPriceDto> pendingSlow = new ConcurrentHashMap<>();
+
+    private final Counter received;
+    private final Counter sentFast;
+    private final Counter sentSlow;
+    private final Counter sentCompact;
+
+    public ConflatingBroadcaster(
+            SimpMessagingTemplate messagingTemplate,
+            CompactPriceEncoder compactPriceEncoder,
+            CompactSubscriptions compactSubscriptions,
+            MeterRegistry meterRegistry) {
+        this.messagingTemplate = messagingTemplate;
+        this.compactPriceEncoder = compactPriceEncoder;
+        this.compactSubscriptions = compactSubscriptions;
+        this.received =
+                Counter.builder("market_data.broadcast.received")
+                        .description("브로드캐스트 대상으로 들어온 체결 수")
+                        .register(meterRegistry);
+        this.sentFast = sentCounter(meterRegistry, "fast");
+        this.sentSlow = sentCounter(meterRegistry, "slow");
+        this.sentCompact = sentCounter(meterRegistry, "compact");
+    }
+
+    /** 파이프라인 broadcast 단계에서 호출합니다. 종목별로 마지막 체결만 남습니다. */
+    public void offer(List<StockPriceDto> prices) {
+        for (StockPriceDto price : prices) {
+            pendingFast.put(price.getStockCode(), price);
+            pendingSlow.put(price.getStockCode(), price);
+        }
+        received.increment(prices.size());
+    }
+
+    @Scheduled(fixedRateString = "${market-data.broadcast.interval-ms:200}")
+    public void flushFast() {
+        for (String stockCode : pendingFast.keySet()) {
+            StockPriceDto price = pendingFast.remove(stockCode);
+            if (price != null) {
+                send(StockTopics.FAST, stockCode, price, sentFast);
+                // 다시 구독하면 인터셉터가 키프레임을 요청하므로 구독자가 없는 동안은 건너뛰어도 됩니다.
+                if (compactSubscriptions.hasSubscribers(stockCode)) {
+                    List<Object> compact = compactPriceEncoder.encode(price);
+                    send(StockTopics.COMPACT, stockCode, compact, sentCompact);
+                }
+            }
+        }
+    }
+
+    @Scheduled(fixedRateString = "${market-data.broadcast.slow-interval-ms:1000}")
+    public void flushSlow() {
+        for (String stockCode : pendingSlow.keySet()) {
+            StockPriceDto price = pendingSlow.remove(stockCode);
+            if (price != null) {
+                send(StockTopics.SLOW, stockCode, price, sentSlow);
+            }
+        }
+    }
+
+    private void send(String prefix, String stockCode, Object payload, Counter sent) {
+        try {
+            messagingTemplate.convertAndSend(prefix + stockCode, payload);
+            sent.increment();
+        } catch (Exception e) {
+            log.error("시세 브로드캐스트 실패: {}{}", prefix, stockCode, e);
+        }
+    }
+
+    private static Counter sentCounter(MeterRegistry meterRegistry, String tier) {
+        return Counter.builder("market_data.broadcast.sent")
+                .description("실제로 보낸 시세 메시지 수")
+                .tag("tier", tier)
+                .register(meterRegistry);
+    }
+}
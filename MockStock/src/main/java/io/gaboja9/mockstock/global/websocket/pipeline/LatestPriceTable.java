@@ -0,0 +1,133 @@
+package io.gaboja9.mockstock.global.websocket.pipeline;
+
+import io.gaboja9.mockstock.global.websocket.dto.StockPriceDto;
+import io.gaboja9.mockstock.global.websocket.dto.StockQuote;
+
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 종목 번호({@link SymbolRegistry})별 최신 체결을 필드마다 기본형 배열에 둡니다.
+ *
+ * <p>쓰기는 파이프라인 latest-price 단계 한 스레드만 합니다. 종목마다 버전을 두고 쓰는 동안 홀수로 올려 두는 seqlock이라,
+ * 읽는 쪽은 락 없이 읽고 버전이 그대로인지만 확인합니다. 현재가만 필요하면 {@link #currentPrice}로 객체 없이 읽습니다.
+ */
+public final class LatestPriceTable {
+
+    /** 체결을 받은 적 없는 종목의 현재가 */
+    public static final int NO_PRICE = 0;
+
+    private final AtomicLongArray versions;
+    private final int[] currentPrices;
+    private final double[] dayOverDayPercents;
+    private final String[] tradeTimes;
+    private final long[] tradeVolumes;
+    private final int[] highPrices;
+    private final int[] lowPrices;
+    private final long[] cumulativeVolumes;
+    private final long[] updatedAts;
+
+    public LatestPriceTable(int capacity) {
+        this.versions = new AtomicLongArray(capacity);
+        this.currentPrices = new int[capacity];
+        this.dayOverDayPercents = new double[capacity];
+        this.tradeTimes = new String[capacity];
+        this.tradeVolumes = new long[capacity];
+        this.highPrices = new int[capacity];
+        this.lowPrices = new int[capacity];
+        this.cumulativeVolumes = new long[capacity];
+        this.updatedAts = new long[capacity];
+    }
+
+    /** 최신 체결을 기록합니다. 쓰는 스레드는 하나여야 합니다. */
+    public void update(int id, StockPriceDto price, long updatedAt) {
+        long version = versions.getPlain(id);
+        versions.setOpaque(id, version + 1);
+        VarHandle.storeStoreFence();
+
+        currentPrices[id] = price.getCurrentPrice();
+        dayOverDayPercents[id] = price.getDayOverDayPercent();
+        tradeTimes[id] = price.getTradeTime();
+        tradeVolumes[id] = price.getTradeVolume();
+        highPrices[id] = price.getHighPrice();
+        lowPrices[id] = price.getLowPrice();
+        cumulativeVolumes[id] = price.getCumulativeVolume();
+        updatedAts[id] = updatedAt;
+
+        versions.setRelease(id, version + 2);
+    }
+
+    /** 현재가. 체결을 받은 적 없으면 {@link #NO_PRICE}입니다. */
+    public int currentPrice(int id) {
+        // int 하나는 찢어지지 않으므로 버전 확인 없이 acquire로 가시성만 맞춥니다.
+        versions.getAcquire(id);
+        return currentPrices[id];
+    }
+
+    /** 마지막 체결을 받은 시각(epoch millis). 받은 적 없으면 0입니다. */
+    public long updatedAt(int id) {
+        while (true) {
+            long version = versions.getAcquire(id);
+            if ((version & 1) == 0) {
+                long updatedAt = updatedAts[id];
+                VarHandle.loadLoadFence();
+                if (versions.getOpaque(id) == version) {
+                    return updatedAt;
+                }
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * 현재가와 받은 시각을 함께 읽습니다. 체결을 받은 적 없으면 null입니다.
+     *
+     * @param staleAfterMillis 받은 지 이만큼 지난 체결은 stale로 표시합니다.
+     */
+    public StockQuote quote(int id, String stockCode, long now, long staleAfterMillis) {
+        while (true) {
+            long version = versions.getAcquire(id);
+            if (version == 0) {
+                return null;
+            }
+            if ((version & 1) == 0) {
+                int currentPrice = currentPrices[id];
+                long updatedAt = updatedAts[id];
+                VarHandle.loadLoadFence();
+                if (versions.getOpaque(id) == version) {
+                    return new StockQuote(
+                            stockCode, currentPrice, updatedAt, now - updatedAt > staleAfterMillis);
+                }
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /** 한 시점의 체결을 DTO로 복사합니다. 체결을 받은 적 없으면 null입니다. */
+    public StockPriceDto snapshot(int id, String stockCode) {
+        while (true) {
+            long version = versions.getAcquire(id);
+            if (version == 0) {
+                return null;
+            }
+            if ((version & 1) == 0) {
+                StockPriceDto price =
+                        StockPriceDto.builder()
+                                .stockCode(stockCode)
+                                .currentPrice(currentPrices[id])
+                                .dayOverDayPercent(dayOverDayPercents[id])
+                                .tradeTime(tradeTimes[id])
+                                .tradeVolume(tradeVolumes[id])
+                                .highPrice(highPrices[id])
+                                .lowPrice(lowPrices[id])
+                                .cumulativeVolume(cumulativeVolumes[id])
+                                .build();
+                VarHandle.loadLoadFence();
+                if (versions.getOpaque(id) == version) {
+                    return price;
+                }
+            }
+            Thread.onSpinWait();
+        }
+    }
+}
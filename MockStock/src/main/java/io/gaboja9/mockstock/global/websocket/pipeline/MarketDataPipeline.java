@@ -0,0 +1,208 @@
+package io.gaboja9.mockstock.global.websocket.pipeline;
+
+import io.gaboja9.mockstock.global.websocket.StockPriceListener;
+import io.gaboja9.mockstock.global.websocket.dto.StockPriceDto;
+import io.gaboja9.mockstock.global.websocket.dto.StockQuote;
+import io.gaboja9.mockstock.global.websocket.service.CandleMakerService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 한투 실시간 체결가 처리 파이프라인.
+ *
+ * <p>수신 스레드가 메시지를 해석해 링 버퍼에 넣으면(decode), 단계마다 전용 스레드가 같은 체결을 순서대로 읽어 갑니다.
+ *
+ * <ul>
+ *   <li>latest-price: 종목 번호별 최신가 테이블({@link LatestPriceTable}) 갱신
+ *   <li>order-trigger: 최신가 반영 이후 {@link StockPriceListener} 중 지정가 주문처럼 모든 체결이 필요한 리스너 호출
+ *   <li>valuation: 최신가 반영 이후 종목별 마지막 체결만 있으면 되는 리스너({@link
+ *       StockPriceListener#isConflating()}, 실시간 평가·포트폴리오) 호출. 뒤처지면 오래된 체결을 건너뛰므로 랭킹 재계산처럼 오래
+ *       걸리는 작업이 주문 트리거를 늦추지 않습니다.
+ *   <li>candle: 분봉 갱신
+ *   <li>broadcast: 종목별 최신가를 {@link ConflatingBroadcaster}에 넘겨 주기적으로 STOMP 전송. 뒤처지면 오래된 체결을
+ *       건너뛰므로 생산자와 다른 단계를 붙잡지 않습니다.
+ * </ul>
+ *
+ * <p>단계마다 한 스레드가 순서대로 처리하므로 같은 종목의 체결 순서가 유지됩니다. 단계별 지연은 {@code
+ * market_data.pipeline.lag}, 건너뛴 건수는 {@code market_data.pipeline.dropped}로 확인합니다.
+ */
+@Slf4j
+@Component
+public class MarketDataPipeline {
+
+    private final SymbolRegistry symbols;
+    private final LatestPriceTable latestPrices;
+
+    private final TickRingBuffer ringBuffer;
+    private final List<PipelineStage> stages;
+
+    public MarketDataPipeline(
+            CandleMakerService candleMakerService,
+            ConflatingBroadcaster conflatingBroadcaster,
+            ObjectProvider<StockPriceListener> stockPriceListeners,
+            MeterRegistry meterRegistry,
+            @Value("${market-data.ring-size:65536}") int ringSize,
+            @Value("${market-data.max-batch:256}") int maxBatch,
+            @Value("${market-data.max-symbols:4096}") int maxSymbols) {
+        this.ringBuffer = new TickRingBuffer(ringSize);
+        this.symbols = new SymbolRegistry(maxSymbols);
+        this.latestPrices = new LatestPriceTable(maxSymbols);
+
+        PipelineStage latestPrice =
+                new PipelineStage(
+                        "latest-price",
+                        ringBuffer,
+                        null,
+                        false,
+                        maxBatch,
+                        this::updateLatestPrices);
+        PipelineStage orderTrigger =
+                new PipelineStage(
+                        "order-trigger",
+                        ringBuffer,
+                        latestPrice,
+                        false,
+                        maxBatch,
+                        batch -> notifyStockPriceListeners(stockPriceListeners, false, batch));
+        PipelineStage valuation =
+                new PipelineStage(
+                        "valuation",
+                        ringBuffer,
+                        latestPrice,
+                        true,
+                        maxBatch,
+                        batch -> notifyStockPriceListeners(stockPriceListeners, true, batch));
+        PipelineStage candle =
+                new PipelineStage(
+                        "candle",
+                        ringBuffer,
+                        null,
+                        false,
+                        maxBatch,
+                        candleMakerService::processTicks);
+        PipelineStage broadcast =
+                new PipelineStage(
+                        "broadcast",
+                        ringBuffer,
+                        null,
+                        true,
+                        maxBatch,
+                        conflatingBroadcaster::offer);
+
+        this.stages = List.of(latestPrice, orderTrigger, valuation, candle, broadcast);
+        ringBuffer.setGatingStages(stages.stream().filter(s -> !s.isLossy()).toList());
+
+        bindMetrics(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        for (PipelineStage stage : stages) {
+            Thread thread = new Thread(stage, "market-data-" + stage.name());
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        ringBuffer.stop();
+        stages.forEach(PipelineStage::stop);
+    }
+
+    /** 수신 스레드에서 한 메시지의 체결을 순서대로 넣습니다. */
+    public void publish(List<StockPriceDto> prices) {
+        ringBuffer.publish(prices);
+        for (PipelineStage stage : stages) {
+            stage.wake();
+        }
+    }
+
+    public StockPriceDto getLatestPrice(String stockCode) {
+        int id = symbols.find(stockCode);
+        return id == SymbolRegistry.UNKNOWN ? null : latestPrices.snapshot(id, stockCode);
+    }
+
+    /** 현재가. 체결을 받은 적 없는 종목이면 {@link LatestPriceTable#NO_PRICE}입니다. */
+    public int getCurrentPrice(String stockCode) {
+        int id = symbols.find(stockCode);
+        return id == SymbolRegistry.UNKNOWN
+                ? LatestPriceTable.NO_PRICE
+                : latestPrices.currentPrice(id);
+    }
+
+    /** 실시간 체결가와 받은 시각. 체결을 받은 적 없는 종목이면 null입니다. */
+    public StockQuote getQuote(String stockCode, long staleAfterMillis) {
+        int id = symbols.find(stockCode);
+        if (id == SymbolRegistry.UNKNOWN) {
+            return null;
+        }
+        return latestPrices.quote(id, stockCode, System.currentTimeMillis(), staleAfterMillis);
+    }
+
+    // latest-price 단계 스레드만 호출하므로 테이블의 쓰기 스레드가 하나로 유지됩니다.
+    private void updateLatestPrices(List<StockPriceDto> batch) {
+        long now = System.currentTimeMillis();
+        for (StockPriceDto price : batch) {
+            int id = symbols.idOf(price.getStockCode());
+            if (id == SymbolRegistry.UNKNOWN) {
+                log.warn(
+                        "종목 번호 한도({})를 넘어 최신가를 기록하지 못했습니다: {}",
+                        symbols.capacity(),
+                        price.getStockCode());
+                continue;
+            }
+            latestPrices.update(id, price, now);
+        }
+    }
+
+    // 최신가 반영 후 conflating 여부가 맞는 리스너만 호출합니다.
+    private void notifyStockPriceListeners(
+            ObjectProvider<StockPriceListener> stockPriceListeners,
+            boolean conflating,
+            List<StockPriceDto> prices) {
+        stockPriceListeners.forEach(
+                listener -> {
+                    if (listener.isConflating() != conflating) {
+                        return;
+                    }
+                    try {
+                        listener.onStockPrices(prices);
+                    } catch (Exception e) {
+                        log.error("체결가 리스너 처리 실패: {}건", prices.size(), e);
+                    }
+                });
+    }
+
+    private void bindMetrics(MeterRegistry meterRegistry) {
+        Gauge.builder(
+                        "market_data.pipeline.remaining",
+                        ringBuffer,
+                        TickRingBuffer::remainingCapacity)
+                .description("링 버퍼 남은 자리")
+                .register(meterRegistry);
+
+        for (PipelineStage stage : stages) {
+            Gauge.builder("market_data.pipeline.lag", stage, PipelineStage::lag)
+                    .description("생산자 대비 처리하지 못한 체결 수")
+                    .tag("stage", stage.name())
+                    .register(meterRegistry);
+            FunctionCounter.builder("market_data.pipeline.dropped", stage, PipelineStage::dropped)
+                    .description("뒤처져서 건너뛴 체결 수")
+                    .tag("stage", stage.name())
+                    .register(meterRegistry);
+        }
+    }
+}
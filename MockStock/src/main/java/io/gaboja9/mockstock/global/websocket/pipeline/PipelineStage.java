@@ -0,0 +1,194 @@
+package io.gaboja9.mockstock.global.websocket.pipeline;
+
+import io.gaboja9.mockstock.global.websocket.dto.StockPriceDto;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * 링 버퍼를 전용 스레드 하나로 소비하는 처리 단계.
+ *
+ * <p>공개된 구간을 최대 maxBatch건씩 묶어 handler에 넘기므로 단계 안에서는 도착 순서가 유지됩니다. 앞 단계(dependency)를
+ * 지정하면 그 단계가 처리한 순번까지만 읽습니다.
+ *
+ * <p>할 일이 없으면 spin → yield → 짧은 park 순으로 물러나고, 그래도 한동안 비어 있으면 잠듭니다. 잠든 단계는 생산자나 앞 단계가
+ * {@link #wake()}로 깨우므로 장 마감 뒤처럼 체결이 없을 때 스레드가 초당 수천 번씩 깨어나지 않습니다.
+ */
+@Slf4j
+class PipelineStage implements Runnable {
+
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 100;
+    private static final int PARK_TRIES = 1_000;
+    private static final long IDLE_PARK_NANOS = 100_000;
+    // 깨우기를 놓쳐도 이 간격으로는 다시 확인합니다.
+    private static final long SLEEP_PARK_NANOS = 100_000_000;
+
+    private final String name;
+    private final TickRingBuffer ringBuffer;
+    private final PipelineStage dependency;
+    private final boolean lossy;
+    private final int maxBatch;
+    private final Consumer<List<StockPriceDto>> handler;
+
+    private final AtomicLong sequence = new AtomicLong(-1);
+    private final AtomicLong dropped = new AtomicLong();
+    private final List<StockPriceDto> batch;
+    // 이 단계를 앞 단계로 지정한 단계. 스레드 시작 전에 채워집니다.
+    private final List<PipelineStage> dependents = new ArrayList<>();
+    private volatile boolean running = true;
+    private volatile boolean sleeping;
+    private volatile Thread thread;
+
+    PipelineStage(
+            String name,
+            TickRingBuffer ringBuffer,
+            PipelineStage dependency,
+            boolean lossy,
+            int maxBatch,
+            Consumer<List<StockPriceDto>> handler) {
+        this.name = name;
+        this.ringBuffer = ringBuffer;
+        this.dependency = dependency;
+        this.lossy = lossy;
+        this.maxBatch = maxBatch;
+        this.handler = handler;
+        this.batch = new ArrayList<>(maxBatch);
+        if (dependency != null) {
+            dependency.dependents.add(this);
+        }
+    }
+
+    @Override
+    public void run() {
+        thread = Thread.currentThread();
+        int idle = 0;
+        while (running) {
+            if (processAvailable()) {
+                idle = 0;
+            } else {
+                idle = backOff(idle);
+            }
+        }
+    }
+
+    /** 처리할 구간이 있으면 한 묶음을 처리하고 true를 반환합니다. */
+    boolean processAvailable() {
+        long next = sequence.get() + 1;
+        long available = available();
+        if (available < next) {
+            return false;
+        }
+
+        if (lossy) {
+            next = skipOverwritten(next);
+        }
+        long end = Math.min(available, next + maxBatch - 1);
+        for (long s = next; s <= end; s++) {
+            batch.add(ringBuffer.get(s));
+        }
+        // 읽는 도중 덮어쓴 슬롯은 버립니다.
+        if (lossy) {
+            long overwritten = ringBuffer.oldestReadable() - next;
+            if (overwritten > 0) {
+                int skip = (int) Math.min(overwritten, batch.size());
+                batch.subList(0, skip).clear();
+                dropped.addAndGet(skip);
+            }
+        }
+
+        try {
+            if (!batch.isEmpty()) {
+                handler.accept(batch);
+            }
+        } catch (Exception e) {
+            log.error("체결 파이프라인 {} 단계 처리 실패: {}건", name, batch.size(), e);
+        } finally {
+            batch.clear();
+        }
+        sequence.set(end);
+        for (PipelineStage dependent : dependents) {
+            dependent.wake();
+        }
+        return true;
+    }
+
+    /** 잠들어 있으면 깨웁니다. 생산자는 체결을 공개한 뒤 호출합니다. */
+    void wake() {
+        if (sleeping) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    String name() {
+        return name;
+    }
+
+    boolean isLossy() {
+        return lossy;
+    }
+
+    long sequence() {
+        return sequence.get();
+    }
+
+    long lag() {
+        return Math.max(0, ringBuffer.cursor() - sequence.get());
+    }
+
+    long dropped() {
+        return dropped.get();
+    }
+
+    void stop() {
+        running = false;
+        Thread current = thread;
+        if (current != null) {
+            LockSupport.unpark(current);
+        }
+    }
+
+    private long available() {
+        return dependency == null ? ringBuffer.cursor() : dependency.sequence();
+    }
+
+    private long skipOverwritten(long next) {
+        long oldest = ringBuffer.oldestReadable();
+        if (next < oldest) {
+            dropped.addAndGet(oldest - next);
+            return oldest;
+        }
+        return next;
+    }
+
+    private int backOff(int idle) {
+        if (idle < SPIN_TRIES) {
+            Thread.onSpinWait();
+        } else if (idle < SPIN_TRIES + YIELD_TRIES) {
+            Thread.yield();
+        } else if (idle < SPIN_TRIES + YIELD_TRIES + PARK_TRIES) {
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+        } else {
+            sleep();
+            return idle;
+        }
+        return idle + 1;
+    }
+
+    // sleeping을 먼저 세운 뒤 다시 확인하므로, 그 사이에 공개된 체결은 여기서 보거나 wake()가 깨웁니다.
+    private void sleep() {
+        sleeping = true;
+        try {
+            if (running && available() <= sequence.get()) {
+                LockSupport.parkNanos(SLEEP_PARK_NANOS);
+            }
+        } finally {
+            sleeping = false;
+        }
+    }
+}
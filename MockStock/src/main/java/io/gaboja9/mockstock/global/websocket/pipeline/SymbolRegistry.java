@@ -0,0 +1,62 @@
+package io.gaboja9.mockstock.global.websocket.pipeline;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 종목코드마다 0부터 차례로 번호를 붙입니다.
+ *
+ * <p>번호는 한 번 붙으면 바뀌지 않으므로 {@link LatestPriceTable} 같은 배열의 인덱스로 씁니다. 전 종목(KOSPI·KOSDAQ 약
+ * 2,700개)이 들어가도록 크기를 잡고, 자리가 모자라면 -1을 돌려줍니다.
+ */
+public final class SymbolRegistry {
+
+    public static final int UNKNOWN = -1;
+
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private final String[] codes;
+    private volatile int size;
+
+    public SymbolRegistry(int capacity) {
+        this.codes = new String[capacity];
+    }
+
+    /** 종목 번호. 처음 보는 종목이면 새 번호를 붙입니다. */
+    public int idOf(String stockCode) {
+        Integer id = ids.get(stockCode);
+        return id != null ? id : register(stockCode);
+    }
+
+    /** 이미 번호가 붙은 종목만 찾습니다. 없으면 {@link #UNKNOWN}입니다. */
+    public int find(String stockCode) {
+        Integer id = ids.get(stockCode);
+        return id != null ? id : UNKNOWN;
+    }
+
+    public String codeOf(int id) {
+        return id >= 0 && id < size ? codes[id] : null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return codes.length;
+    }
+
+    private synchronized int register(String stockCode) {
+        Integer id = ids.get(stockCode);
+        if (id != null) {
+            return id;
+        }
+        int next = size;
+        if (next == codes.length) {
+            return UNKNOWN;
+        }
+        codes[next] = stockCode;
+        size = next + 1;
+        ids.put(stockCode, next);
+        return next;
+    }
+}
@@ -0,0 +1,90 @@
+package io.gaboja9.mockstock.global.websocket.pipeline;
+
+import io.gaboja9.mockstock.global.websocket.dto.StockPriceDto;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 체결 데이터를 담는 고정 크기 링 버퍼 (단일 생산자, 다중 소비자).
+ *
+ * <p>생산자는 순번을 하나씩 늘려 슬롯에 쓰고 {@code cursor}로 공개합니다. 각 소비 단계는 자기 순번을 따로 가지며, 생산자는 유실을
+ * 허용하지 않는 단계(gating)가 한 바퀴 뒤처지면 자리가 날 때까지 기다립니다. 유실을 허용하는 단계는 기다려 주지 않으므로 덮어쓴 구간을
+ * 건너뜁니다.
+ */
+public class TickRingBuffer {
+
+    private static final long FULL_WAIT_NANOS = 50_000;
+
+    private final StockPriceDto[] slots;
+    private final int mask;
+
+    // 생산자가 쓰기 시작한 순번과 소비자에게 공개한 순번
+    private final AtomicLong claimed = new AtomicLong(-1);
+    private final AtomicLong cursor = new AtomicLong(-1);
+
+    private volatile List<PipelineStage> gatingStages = List.of();
+    private volatile boolean running = true;
+
+    public TickRingBuffer(int capacity) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("링 버퍼 크기는 2의 거듭제곱이어야 합니다: " + capacity);
+        }
+        this.slots = new StockPriceDto[capacity];
+        this.mask = capacity - 1;
+    }
+
+    void setGatingStages(List<PipelineStage> gatingStages) {
+        this.gatingStages = List.copyOf(gatingStages);
+    }
+
+    /** 한 메시지의 체결을 순서대로 넣습니다. 생산자는 한 번에 하나만 호출해야 합니다. */
+    public synchronized void publish(List<StockPriceDto> ticks) {
+        for (StockPriceDto tick : ticks) {
+            long next = cursor.get() + 1;
+            while (running && next - slots.length > minGatingSequence()) {
+                LockSupport.parkNanos(FULL_WAIT_NANOS);
+            }
+            if (!running) {
+                return;
+            }
+            claimed.set(next);
+            slots[(int) next & mask] = tick;
+            cursor.set(next);
+        }
+    }
+
+    public int capacity() {
+        return slots.length;
+    }
+
+    public long cursor() {
+        return cursor.get();
+    }
+
+    public long remainingCapacity() {
+        return slots.length - (cursor.get() - minGatingSequence());
+    }
+
+    void stop() {
+        running = false;
+    }
+
+    StockPriceDto get(long sequence) {
+        return slots[(int) sequence & mask];
+    }
+
+    // 이 순번보다 앞선 슬롯은 생산자가 이미 덮어쓰기 시작했을 수 있습니다.
+    long oldestReadable() {
+        return claimed.get() - slots.length + 1;
+    }
+
+    private long minGatingSequence() {
+        long min = cursor.get();
+        for (PipelineStage stage : gatingStages) {
+            min = Math.min(min, stage.sequence());
+        }
+        return min;
+    }
+}
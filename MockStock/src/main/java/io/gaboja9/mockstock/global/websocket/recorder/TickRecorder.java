@@ -0,0 +1,166 @@
+package io.gaboja9.mockstock.global.websocket.recorder;
+
+import jakarta.annotation.PreDestroy;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 한투에서 받은 원본 프레임을 수신 시각과 함께 메모리 매핑 파일에 이어 씁니다.
+ *
+ * <p>레코드는 {@code [int 길이][long 수신 시각(epoch ns)][UTF-8 본문]} 순서이고, 길이가 0이면 세그먼트의 끝입니다.
+ * 세그먼트가 차면 {@code ticks-000001.log} 다음 번호로 넘어가며, 재시작하면 남아 있는 가장 큰 번호 다음부터 씁니다.
+ */
+@Component
+@Slf4j
+public class TickRecorder {
+
+    static final int HEADER_BYTES = Integer.BYTES + Long.BYTES;
+    private static final String PREFIX = "ticks-";
+    private static final String SUFFIX = ".log";
+
+    private final boolean enabled;
+    private final Path dir;
+    private final int segmentSize;
+
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int segmentNo = -1;
+
+    public TickRecorder(
+            @Value("${market-data.recorder.enabled:false}") boolean enabled,
+            @Value("${market-data.recorder.dir:./data/ticks}") String dir,
+            @Value("${market-data.recorder.segment-size:268435456}") int segmentSize) {
+        this.enabled = enabled;
+        this.dir = Paths.get(dir);
+        this.segmentSize = segmentSize;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** 수신한 프레임을 기록합니다. 기록이 꺼져 있으면 아무것도 하지 않습니다. */
+    public void record(String payload) {
+        if (enabled) {
+            append(payload, epochNanos());
+        }
+    }
+
+    synchronized void append(String payload, long receivedNanos) {
+        byte[] bytes = payload.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length == 0) {
+            return;
+        }
+        int length = HEADER_BYTES + bytes.length;
+        if (length > segmentSize) {
+            log.warn("세그먼트보다 큰 프레임은 기록하지 않습니다: {} bytes", bytes.length);
+            return;
+        }
+
+        try {
+            if (buffer == null || buffer.remaining() < length) {
+                roll();
+            }
+        } catch (IOException e) {
+            log.warn("틱 기록 세그먼트를 열지 못했습니다: {}", dir, e);
+            return;
+        }
+
+        // 본문을 먼저 쓰고 길이를 마지막에 채워, 중간에 죽어도 읽는 쪽은 반쯤 쓴 레코드를 끝으로 봅니다.
+        int position = buffer.position();
+        buffer.putLong(position + Integer.BYTES, receivedNanos);
+        buffer.put(position + HEADER_BYTES, bytes);
+        buffer.putInt(position, bytes.length);
+        buffer.position(position + length);
+    }
+
+    private void roll() throws IOException {
+        closeSegment();
+        if (segmentNo < 0) {
+            Files.createDirectories(dir);
+            List<Path> existing = segments(dir);
+            segmentNo = existing.isEmpty() ? 0 : numberOf(existing.get(existing.size() - 1));
+        }
+        segmentNo++;
+
+        Path file = dir.resolve(String.format("%s%06d%s", PREFIX, segmentNo, SUFFIX));
+        channel =
+                FileChannel.open(
+                        file,
+                        StandardOpenOption.CREATE_NEW,
+                        StandardOpenOption.READ,
+                        StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        log.info("틱 기록 세그먼트 시작: {}", file);
+    }
+
+    private void closeSegment() throws IOException {
+        if (buffer != null) {
+            buffer.force();
+            buffer = null;
+        }
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        try {
+            closeSegment();
+        } catch (IOException e) {
+            log.warn("틱 기록 세그먼트를 닫지 못했습니다", e);
+        }
+    }
+
+    /** 디렉터리의 세그먼트를 번호 순서대로 돌려줍니다. */
+    static List<Path> segments(Path dir) {
+        if (!Files.isDirectory(dir)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(TickRecorder::isSegment)
+                    .sorted((a, b) -> Integer.compare(numberOf(a), numberOf(b)))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean isSegment(Path file) {
+        String name = file.getFileName().toString();
+        return name.length() > PREFIX.length() + SUFFIX.length()
+                && name.startsWith(PREFIX)
+                && name.endsWith(SUFFIX)
+                && name.substring(PREFIX.length(), name.length() - SUFFIX.length())
+                        .chars()
+                        .allMatch(Character::isDigit);
+    }
+
+    private static int numberOf(Path file) {
+        String name = file.getFileName().toString();
+        return Integer.parseInt(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+
+    private static long epochNanos() {
+        Instant now = Instant.now();
+        return now.getEpochSecond() * 1_000_000_000L + now.getNano();
+    }
+}
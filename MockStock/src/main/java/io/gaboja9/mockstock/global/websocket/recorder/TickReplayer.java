@@ -0,0 +1,133 @@
+package io.gaboja9.mockstock.global.websocket.recorder;
+
+import io.gaboja9.mockstock.global.exception.BaseException;
+import io.gaboja9.mockstock.global.exception.ErrorCode;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * {@link TickRecorder}가 남긴 세그먼트를 기록된 순서대로 다시 흘려보냅니다.
+ *
+ * <p>speed가 1이면 기록된 간격 그대로, N이면 N배 빠르게, 0 이하면 기다리지 않고 최대 속도로 재생합니다. 한 번에 하나의
+ * 재생만 돌립니다.
+ *
+ * <p>재생한 틱은 실시간 수신과 같은 경로로 들어가 지정가 주문을 체결하고 랭킹과 STOMP 시세까지 바꿉니다. 그래서 tick-replay
+ * 프로필에서만 뜨며, 실제 회원 주문이 있는 운영 DB나 주문장에 붙은 서버에서는 절대 켜면 안 됩니다.
+ */
+@Component
+@Profile("tick-replay")
+@Slf4j
+public class TickReplayer {
+
+    private final Path dir;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile Thread worker;
+
+    public TickReplayer(@Value("${market-data.recorder.dir:./data/ticks}") String dir) {
+        this.dir = Paths.get(dir);
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    /** 전용 스레드에서 재생을 시작합니다. */
+    public void start(double speed, Consumer<String> sink) {
+        if (!running.compareAndSet(false, true)) {
+            throw new BaseException(ErrorCode.TICK_REPLAY_ALREADY_RUNNING);
+        }
+
+        Thread thread =
+                new Thread(
+                        () -> {
+                            try {
+                                long count = replay(speed, sink);
+                                log.info("틱 재생 종료: {}건 (speed={})", count, speed);
+                            } catch (Exception e) {
+                                log.warn("틱 재생 중 오류", e);
+                            } finally {
+                                worker = null;
+                                running.set(false);
+                            }
+                        },
+                        "tick-replay");
+        thread.setDaemon(true);
+        worker = thread;
+        thread.start();
+    }
+
+    public void stop() {
+        Thread thread = worker;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    /** 호출한 스레드에서 끝까지 재생하고 넘긴 프레임 수를 반환합니다. 인터럽트되면 그 자리에서 멈춥니다. */
+    public long replay(double speed, Consumer<String> sink) throws IOException {
+        List<Path> segments = TickRecorder.segments(dir);
+        long count = 0;
+        long firstRecorded = 0;
+        long startedAt = System.nanoTime();
+
+        for (Path segment : segments) {
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+                MappedByteBuffer buffer =
+                        channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+                while (buffer.remaining() >= TickRecorder.HEADER_BYTES) {
+                    int length = buffer.getInt();
+                    if (length <= 0 || length > buffer.remaining() - Long.BYTES) {
+                        break; // 세그먼트 끝
+                    }
+                    long recordedAt = buffer.getLong();
+                    byte[] bytes = new byte[length];
+                    buffer.get(bytes);
+
+                    if (count == 0) {
+                        firstRecorded = recordedAt;
+                    } else if (speed > 0
+                            && !awaitUntil(
+                                    startedAt + (long) ((recordedAt - firstRecorded) / speed))) {
+                        return count;
+                    }
+                    if (Thread.currentThread().isInterrupted()) {
+                        return count;
+                    }
+
+                    sink.accept(new String(bytes, StandardCharsets.UTF_8));
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    private static boolean awaitUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
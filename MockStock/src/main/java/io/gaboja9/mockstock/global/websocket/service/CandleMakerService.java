@@ -9,14 +9,21 @@ import io.gaboja9.mockstock.domain.stock.measurement.MinuteStockPrice;
 import io.gaboja9.mockstock.global.websocket.dto.StockPriceDto;
 import io.gaboja9.mockstock.global.websocket.dto.StocksCandleDto;
 
+import jakarta.annotation.PreDestroy;
+
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 @Service
 @Slf4j
@@ -39,47 +46,62 @@ public class CandleMakerService {
     // 각 종목별 현재 분봉 데이터
     private final Map<String, StocksCandleDto> currentCandles = new ConcurrentHashMap<>();
 
-    // 종목별 전용 락 객체 (안전한 동기화)
-    private final Map<String, Object> stockLocks = new ConcurrentHashMap<>();
-
-    private Object getStockLock(String stockCode) {
-        return stockLocks.computeIfAbsent(stockCode, k -> new Object());
+    // 완성된 분봉은 별도 스레드에서 저장해 체결 처리 단계를 붙잡지 않습니다.
+    private final ThreadPoolExecutor influxWriter =
+            new ThreadPoolExecutor(
+                    1,
+                    1,
+                    0L,
+                    TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(10_000),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "candle-writer");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+
+    /** 한 묶음의 체결을 순서대로 분봉에 반영 */
+    public void processTicks(List<StockPriceDto> prices) {
+        for (StockPriceDto price : prices) {
+            processTick(price);
+        }
     }
 
-    /** 실시간 체결가로 분봉 만들고 저장 */
+    /**
+     * 실시간 체결가로 분봉 만들고 저장
+     *
+     * <p>체결 파이프라인의 candle 단계 스레드 하나에서만 순서대로 호출되므로 별도 락 없이 갱신합니다.
+     */
     public void processTick(StockPriceDto stockPricedto) {
         String stockCode = stockPricedto.getStockCode();
         long currentTime = System.currentTimeMillis();
         long candleTime = getCandleTime(currentTime);
 
-        // 종목별 전용 락으로 안전한 동기화
-        synchronized (getStockLock(stockCode)) {
-            StocksCandleDto currentCandle = currentCandles.get(stockCode);
-
-            // 새로운 분봉 시작
-            if (currentCandle == null || !currentCandle.getTimestamp().equals(candleTime)) {
-                // 이전 분봉 완성되면 저장
-                if (currentCandle != null) {
-                    saveToInfluxDB(currentCandle);
-                }
-
-                // 새 분봉 생성 (빌더 + 정적 팩토리 메서드)
-                StocksCandleDto newCandle =
-                        StocksCandleDto.createNew(
-                                stockCode,
-                                candleTime,
-                                stockPricedto.getCurrentPrice(),
-                                stockPricedto.getTradeVolume());
-
-                currentCandles.put(stockCode, newCandle);
-                // log.info("새 분봉 시작: {}", newCandle);
-            } else {
-                // 기존 분봉 업데이트 (불변 객체로 새로 생성)
-                StocksCandleDto updatedCandle =
-                        currentCandle.updateWith(
-                                stockPricedto.getCurrentPrice(), stockPricedto.getTradeVolume());
-                currentCandles.put(stockCode, updatedCandle);
+        StocksCandleDto currentCandle = currentCandles.get(stockCode);
+
+        // 새로운 분봉 시작
+        if (currentCandle == null || !currentCandle.getTimestamp().equals(candleTime)) {
+            // 이전 분봉 완성되면 저장
+            if (currentCandle != null) {
+                saveAsync(currentCandle);
             }
+
+            // 새 분봉 생성 (빌더 + 정적 팩토리 메서드)
+            StocksCandleDto newCandle =
+                    StocksCandleDto.createNew(
+                            stockCode,
+                            candleTime,
+                            stockPricedto.getCurrentPrice(),
+                            stockPricedto.getTradeVolume());
+
+            currentCandles.put(stockCode, newCandle);
+            // log.info("새 분봉 시작: {}", newCandle);
+        } else {
+            // 기존 분봉 업데이트 (불변 객체로 새로 생성)
+            StocksCandleDto updatedCandle =
+                    currentCandle.updateWith(
+                            stockPricedto.getCurrentPrice(), stockPricedto.getTradeVolume());
+            currentCandles.put(stockCode, updatedCandle);
         }
     }
 
@@ -88,6 +110,19 @@ public class CandleMakerService {
         return (timestamp / 60000) * 60000; // 1분(60000ms) 단위로 정규화
     }
 
+    private void saveAsync(StocksCandleDto candle) {
+        try {
+            influxWriter.execute(() -> saveToInfluxDB(candle));
+        } catch (RejectedExecutionException e) {
+            log.warn("분봉 저장 대기열이 가득 차 버립니다: {} at {}", candle.getStockCode(), candle.getInstant());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        influxWriter.shutdown();
+    }
+
     /** InfluxDB에 분봉 저장 */
     private void saveToInfluxDB(StocksCandleDto candle) {
         try {
@@ -0,0 +1,297 @@
+package io.gaboja9.mockstock.global.websocket.simulator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.gaboja9.mockstock.domain.stock.service.LastClosePriceStore;
+import io.gaboja9.mockstock.global.websocket.mapper.HantuTickParser;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 부하 테스트용으로 한투 실시간 웹소켓 서버를 흉내 냅니다. hantu-sim 프로필에서만 뜹니다.
+ *
+ * <p>세션별 H0STCNT0 등록/해제 요청에 한투와 같은 형식으로 응답하고, 주기적으로 PINGPONG을 보냅니다. 전용 스레드가
+ * batch-interval-ms마다 등록된 종목의 체결 프레임을 만들어 그 종목을 등록한 세션에 보냅니다. 같은 종목은 세션이 달라도 같은
+ * 체결을 받습니다.
+ */
+@Component
+@Profile("hantu-sim")
+@Slf4j
+public class HantuFeedSimulator extends TextWebSocketHandler {
+
+    private static final String PINGPONG = "PINGPONG";
+    private static final int SEND_TIME_LIMIT_MS = 10_000;
+    private static final int BUFFER_SIZE_LIMIT = 16 * 1024 * 1024;
+    private static final long REPORT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter HHMMSS = DateTimeFormatter.ofPattern("HHmmss");
+    private static final DateTimeFormatter DATETIME =
+            DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final ObjectMapper objectMapper;
+    private final SimulatedFeed feed;
+    private final int maxPerSession;
+    private final long batchIntervalNanos;
+    private final long pingIntervalNanos;
+
+    private final Map<String, SimulatorSession> sessions = new ConcurrentHashMap<>();
+    private volatile boolean running;
+    private Thread emitter;
+
+    public HantuFeedSimulator(
+            ObjectMapper objectMapper,
+            LastClosePriceStore lastClosePriceStore,
+            @Value("${hantu-simulator.ticks-per-second:50}") int ticksPerSecond,
+            @Value("${hantu-simulator.rates:}") String rates,
+            @Value("${hantu-simulator.max-records-per-frame:5}") int maxRecordsPerFrame,
+            @Value("${hantu-simulator.max-per-session:41}") int maxPerSession,
+            @Value("${hantu-simulator.batch-interval-ms:10}") long batchIntervalMillis,
+            @Value("${hantu-simulator.pingpong-interval-ms:10000}") long pingIntervalMillis,
+            @Value("${hantu-simulator.seed:0}") long seed) {
+        this.objectMapper = objectMapper;
+        this.feed =
+                new SimulatedFeed(
+                        seed != 0 ? seed : System.nanoTime(),
+                        code -> lastClosePriceStore.getQuote(code).price(),
+                        ticksPerSecond,
+                        parseRates(rates),
+                        maxRecordsPerFrame);
+        this.maxPerSession = maxPerSession;
+        this.batchIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, batchIntervalMillis));
+        this.pingIntervalNanos = TimeUnit.MILLISECONDS.toNanos(pingIntervalMillis);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        emitter = new Thread(this::runFeed, "hantu-sim-feed");
+        emitter.setDaemon(true);
+        emitter.start();
+        log.info("한투 시뮬레이터 시작 (세션당 최대 {}종목)", maxPerSession);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (emitter != null) {
+            emitter.interrupt();
+        }
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        sessions.put(
+                session.getId(),
+                new SimulatorSession(
+                        new ConcurrentWebSocketSessionDecorator(
+                                session,
+                                SEND_TIME_LIMIT_MS,
+                                BUFFER_SIZE_LIMIT,
+                                ConcurrentWebSocketSessionDecorator.OverflowStrategy.DROP)));
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        sessions.remove(session.getId());
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) {
+        sessions.remove(session.getId());
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message)
+            throws Exception {
+        SimulatorSession simulatorSession = sessions.get(session.getId());
+        if (simulatorSession == null) {
+            return;
+        }
+
+        JsonNode root = objectMapper.readTree(message.getPayload());
+        JsonNode header = root.path("header");
+        if (PINGPONG.equals(header.path("tr_id").asText())) {
+            return; // 클라이언트가 되돌려 보낸 PINGPONG
+        }
+
+        JsonNode input = root.path("body").path("input");
+        String trId = input.path("tr_id").asText();
+        String stockCode = input.path("tr_key").asText();
+        String trType = header.path("tr_type").asText();
+        if (header.path("approval_key").asText().isEmpty()) {
+            reply(simulatorSession, trId, stockCode, "1", "OPSP8996", "invalid approval");
+            return;
+        }
+        if (!HantuTickParser.TR_ID.equals(trId) || stockCode.isEmpty()) {
+            reply(simulatorSession, trId, stockCode, "1", "OPSP0011", "invalid tr_id");
+            return;
+        }
+
+        Set<String> codes = simulatorSession.stockCodes;
+        if ("1".equals(trType)) {
+            if (codes.contains(stockCode)) {
+                reply(simulatorSession, trId, stockCode, "1", "OPSP0002", "ALREADY IN SUBSCRIBE");
+            } else if (codes.size() >= maxPerSession) {
+                reply(simulatorSession, trId, stockCode, "1", "OPSP0008", "MAX SUBSCRIBE OVER");
+            } else {
+                codes.add(stockCode);
+                reply(simulatorSession, trId, stockCode, "0", "OPSP0000", "SUBSCRIBE SUCCESS");
+            }
+        } else if ("2".equals(trType)) {
+            codes.remove(stockCode);
+            reply(simulatorSession, trId, stockCode, "0", "OPSP0001", "UNSUBSCRIBE SUCCESS");
+        }
+    }
+
+    private void reply(
+            SimulatorSession session,
+            String trId,
+            String stockCode,
+            String resultCode,
+            String messageCode,
+            String message)
+            throws IOException {
+        Map<String, Object> header = Map.of("tr_id", trId, "tr_key", stockCode, "encrypt", "N");
+        Map<String, Object> body =
+                Map.of("rt_cd", resultCode, "msg_cd", messageCode, "msg1", message);
+        String json = objectMapper.writeValueAsString(Map.of("header", header, "body", body));
+        session.send(json);
+    }
+
+    private void runFeed() {
+        long last = System.nanoTime();
+        long lastPing = last;
+        long lastReport = last;
+        long generated = 0;
+        Map<String, List<String>> framesByCode = new HashMap<>();
+
+        while (running) {
+            LockSupport.parkNanos(batchIntervalNanos);
+            long now = System.nanoTime();
+            long elapsed = now - last;
+            last = now;
+
+            try {
+                LocalDateTime clock = LocalDateTime.now(SEOUL);
+                String tradeTime = clock.format(HHMMSS);
+
+                // 세션이 달라도 같은 종목은 한 번만 만듭니다.
+                Set<String> codes = new TreeSet<>();
+                for (SimulatorSession session : sessions.values()) {
+                    codes.addAll(session.stockCodes);
+                }
+                framesByCode.clear();
+                for (String code : codes) {
+                    List<String> frames = new ArrayList<>();
+                    generated += feed.emit(code, elapsed, tradeTime, frames);
+                    framesByCode.put(code, frames);
+                }
+
+                boolean ping = pingIntervalNanos > 0 && now - lastPing >= pingIntervalNanos;
+                String pingMessage = ping ? pingMessage(clock) : null;
+                for (SimulatorSession session : sessions.values()) {
+                    for (String code : session.stockCodes) {
+                        List<String> frames = framesByCode.get(code);
+                        if (frames != null) {
+                            for (String frame : frames) {
+                                session.send(frame);
+                            }
+                        }
+                    }
+                    if (ping) {
+                        session.send(pingMessage);
+                    }
+                }
+                if (ping) {
+                    lastPing = now;
+                }
+            } catch (Exception e) {
+                log.warn("한투 시뮬레이터 전송 중 오류", e);
+            }
+
+            if (now - lastReport >= REPORT_INTERVAL_NANOS) {
+                long seconds = TimeUnit.NANOSECONDS.toSeconds(now - lastReport);
+                log.info(
+                        "한투 시뮬레이터: 세션 {}개, 초당 {}틱",
+                        sessions.size(),
+                        generated / Math.max(1, seconds));
+                generated = 0;
+                lastReport = now;
+            }
+        }
+    }
+
+    private String pingMessage(LocalDateTime clock) throws IOException {
+        Map<String, Object> header = Map.of("tr_id", PINGPONG, "datetime", clock.format(DATETIME));
+        return objectMapper.writeValueAsString(Map.of("header", header));
+    }
+
+    /** "005930:500,000660:100" 형식의 종목별 초당 체결 수 */
+    static Map<String, Integer> parseRates(String rates) {
+        Map<String, Integer> parsed = new HashMap<>();
+        if (rates == null || rates.isBlank()) {
+            return parsed;
+        }
+        for (String entry : rates.split(",")) {
+            String[] pair = entry.trim().split(":");
+            if (pair.length != 2) {
+                log.warn("한투 시뮬레이터 rates 항목을 무시합니다: {}", entry);
+                continue;
+            }
+            try {
+                parsed.put(pair[0].trim(), Integer.parseInt(pair[1].trim()));
+            } catch (NumberFormatException e) {
+                log.warn("한투 시뮬레이터 rates 항목을 무시합니다: {}", entry);
+            }
+        }
+        return parsed;
+    }
+
+    private static final class SimulatorSession {
+
+        private final WebSocketSession session;
+        private final Set<String> stockCodes = ConcurrentHashMap.newKeySet();
+
+        private SimulatorSession(WebSocketSession session) {
+            this.session = session;
+        }
+
+        private void send(String payload) {
+            if (!session.isOpen()) {
+                return;
+            }
+            try {
+                session.sendMessage(new TextMessage(payload));
+            } catch (IOException | IllegalStateException e) {
+                log.debug("한투 시뮬레이터 전송 실패: {}", session.getId(), e);
+            }
+        }
+    }
+}
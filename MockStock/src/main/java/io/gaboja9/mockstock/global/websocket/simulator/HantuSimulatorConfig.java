@@ -0,0 +1,47 @@
+package io.gaboja9.mockstock.global.websocket.simulator;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+/**
+ * 한투 시뮬레이터를 이 서버의 /hantu-sim/websocket 에 띄웁니다.
+ *
+ * <p>hantu-sim 프로필은 한투 접속 주소도 이쪽으로 돌려 두므로, 실제 수신 경로(파싱, 파이프라인, 캔들, 주문 체결, STOMP
+ * 전송)를 네트워크 없이 그대로 태울 수 있습니다.
+ *
+ * <p>서버 자신이 한투 대신 붙는 경로라 인증 없이 열어 두되, 이 프로필이 켜졌을 때만 /hantu-sim/** 전용 보안 체인을 등록합니다.
+ */
+@Configuration
+@Profile("hantu-sim")
+@RequiredArgsConstructor
+public class HantuSimulatorConfig implements WebSocketConfigurer {
+
+    private final HantuFeedSimulator hantuFeedSimulator;
+
+    // 기본 보안 체인보다 먼저 /hantu-sim/** 요청만 가로챕니다.
+    @Bean
+    @Order(1)
+    public SecurityFilterChain hantuSimulatorSecurityFilterChain(HttpSecurity http)
+            throws Exception {
+        return http.securityMatcher("/hantu-sim/**")
+                .authorizeHttpRequests(auth -> auth.anyRequest().permitAll())
+                .csrf(csrf -> csrf.disable())
+                .sessionManagement(
+                        session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .build();
+    }
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(hantuFeedSimulator, "/hantu-sim/websocket");
+    }
+}
@@ -0,0 +1,20 @@
+package io.gaboja9.mockstock.global.websocket.simulator;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+import java.util.UUID;
+
+/** 한투 시뮬레이터의 웹소켓 접속키 발급. 어떤 appkey든 새 키를 내줍니다. */
+@RestController
+@Profile("hantu-sim")
+public class HantuSimulatorController {
+
+    @PostMapping("/hantu-sim/oauth2/Approval")
+    public Map<String, String> approval(@RequestBody Map<String, String> request) {
+        return Map.of("approval_key", UUID.randomUUID().toString());
+    }
+}
@@ -0,0 +1,190 @@
+package io.gaboja9.mockstock.global.websocket.simulator;
+
+import io.gaboja9.mockstock.global.websocket.mapper.HantuTickParser;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.ToIntFunction;
+
+/**
+ * 종목별 랜덤 워크로 한투 H0STCNT0 형식의 체결 프레임을 만듭니다.
+ *
+ * <p>가격은 호가 단위로만 움직이고 전일 종가 대비 ±30% 가격제한폭을 넘지 않습니다. 초당 체결 수(rate)만큼 시간에 비례해 체결을
+ * 만들고, 한 프레임에 1~maxRecordsPerFrame건을 이어 붙여 체결이 몰릴 때처럼 보냅니다. 한 스레드에서만 씁니다.
+ */
+class SimulatedFeed {
+
+    static final int FIELDS_PER_RECORD = 46;
+    private static final double PRICE_LIMIT = 0.3;
+    private static final int DEFAULT_BASE_PRICE_MIN = 5_000;
+    private static final int DEFAULT_BASE_PRICE_MAX = 200_000;
+
+    private final Random random;
+    private final ToIntFunction<String> basePrices;
+    private final int defaultRate;
+    private final Map<String, Integer> rates;
+    private final int maxRecordsPerFrame;
+
+    private final Map<String, SimulatedStock> stocks = new HashMap<>();
+    private final StringBuilder builder = new StringBuilder(4096);
+
+    /**
+     * @param basePrices 종목의 전일 종가. 모르면 0을 돌려주고, 그때는 임의의 가격에서 시작합니다.
+     * @param rates 종목별 초당 체결 수. 없는 종목은 defaultRate를 씁니다.
+     */
+    SimulatedFeed(
+            long seed,
+            ToIntFunction<String> basePrices,
+            int defaultRate,
+            Map<String, Integer> rates,
+            int maxRecordsPerFrame) {
+        this.random = new Random(seed);
+        this.basePrices = basePrices;
+        this.defaultRate = defaultRate;
+        this.rates = Map.copyOf(rates);
+        this.maxRecordsPerFrame = Math.max(1, maxRecordsPerFrame);
+    }
+
+    /**
+     * elapsedNanos 동안 쌓인 체결을 프레임으로 만들어 frames에 담습니다.
+     *
+     * @return 만든 체결 수
+     */
+    int emit(String stockCode, long elapsedNanos, String tradeTime, List<String> frames) {
+        SimulatedStock stock = stocks.computeIfAbsent(stockCode, this::newStock);
+        stock.owed += stock.rate * (elapsedNanos / 1_000_000_000.0);
+        int ticks = (int) stock.owed;
+        stock.owed -= ticks;
+
+        int remaining = ticks;
+        while (remaining > 0) {
+            int records = Math.min(remaining, 1 + random.nextInt(maxRecordsPerFrame));
+            builder.setLength(0);
+            builder.append(HantuTickParser.PREFIX);
+            appendPadded(builder, records, 3);
+            builder.append('|');
+            for (int i = 0; i < records; i++) {
+                if (i > 0) {
+                    builder.append('^');
+                }
+                stock.step(random);
+                stock.appendRecord(builder, tradeTime);
+            }
+            frames.add(builder.toString());
+            remaining -= records;
+        }
+        return ticks;
+    }
+
+    private SimulatedStock newStock(String stockCode) {
+        int base = basePrices.applyAsInt(stockCode);
+        if (base <= 0) {
+            base = DEFAULT_BASE_PRICE_MIN
+                    + random.nextInt(DEFAULT_BASE_PRICE_MAX - DEFAULT_BASE_PRICE_MIN);
+            base -= base % tickSize(base);
+        }
+        return new SimulatedStock(stockCode, base, rates.getOrDefault(stockCode, defaultRate));
+    }
+
+    /** 유가증권시장 호가 단위 */
+    static int tickSize(int price) {
+        if (price < 2_000) {
+            return 1;
+        } else if (price < 5_000) {
+            return 5;
+        } else if (price < 20_000) {
+            return 10;
+        } else if (price < 50_000) {
+            return 50;
+        } else if (price < 200_000) {
+            return 100;
+        } else if (price < 500_000) {
+            return 500;
+        }
+        return 1_000;
+    }
+
+    private static void appendPadded(StringBuilder sb, int value, int width) {
+        for (int digits = Integer.toString(value).length(); digits < width; digits++) {
+            sb.append('0');
+        }
+        sb.append(value);
+    }
+
+    private static final class SimulatedStock {
+
+        private final String stockCode;
+        private final int previousClose;
+        private final int upperLimit;
+        private final int lowerLimit;
+        private final int rate;
+
+        private int open;
+        private int price;
+        private int high;
+        private int low;
+        private int tradeVolume;
+        private long cumulativeVolume;
+        private double owed;
+
+        private SimulatedStock(String stockCode, int previousClose, int rate) {
+            this.stockCode = stockCode;
+            this.previousClose = previousClose;
+            // 가격제한폭도 호가 단위에 맞춥니다.
+            int upper = (int) (previousClose * (1 + PRICE_LIMIT));
+            int lower = Math.max(1, (int) Math.ceil(previousClose * (1 - PRICE_LIMIT)));
+            this.upperLimit = upper - upper % tickSize(upper);
+            this.lowerLimit = lower + (tickSize(lower) - lower % tickSize(lower)) % tickSize(lower);
+            this.rate = Math.max(0, rate);
+            this.price = previousClose;
+        }
+
+        private void step(Random random) {
+            if (open == 0) {
+                open = high = low = price;
+            } else {
+                int moved = price + (int) Math.round(random.nextGaussian()) * tickSize(price);
+                price = Math.max(lowerLimit, Math.min(upperLimit, moved));
+                high = Math.max(high, price);
+                low = Math.min(low, price);
+            }
+            // 대부분은 소량이고 가끔 큰 체결이 섞이도록 지수 분포로 뽑습니다.
+            tradeVolume = 1 + (int) (-Math.log(1 - random.nextDouble()) * 100);
+            cumulativeVolume += tradeVolume;
+        }
+
+        private void appendRecord(StringBuilder sb, String tradeTime) {
+            int change = price - previousClose;
+            sb.append(stockCode).append('^'); // 0 MKSC_SHRN_ISCD
+            sb.append(tradeTime).append('^'); // 1 STCK_CNTG_HOUR
+            sb.append(price).append('^'); // 2 STCK_PRPR
+            sb.append(change > 0 ? '2' : change < 0 ? '5' : '3').append('^'); // 3 PRDY_VRSS_SIGN
+            sb.append(change).append('^'); // 4 PRDY_VRSS
+            appendPercent(sb, change); // 5 PRDY_CTRT
+            sb.append('^');
+            sb.append(price).append('^'); // 6 WGHN_AVRG_STCK_PRC
+            sb.append(open).append('^'); // 7 STCK_OPRC
+            sb.append(high).append('^'); // 8 STCK_HGPR
+            sb.append(low).append('^'); // 9 STCK_LWPR
+            sb.append(price + tickSize(price)).append('^'); // 10 ASKP1
+            sb.append(price).append('^'); // 11 BIDP1
+            sb.append(tradeVolume).append('^'); // 12 CNTG_VOL
+            sb.append(cumulativeVolume); // 13 ACML_VOL
+            for (int field = 14; field < FIELDS_PER_RECORD; field++) {
+                sb.append("^0");
+            }
+        }
+
+        private void appendPercent(StringBuilder sb, int change) {
+            long hundredths = Math.round(change * 10_000.0 / previousClose);
+            if (hundredths < 0) {
+                sb.append('-');
+                hundredths = -hundredths;
+            }
+            sb.append(hundredths / 100).append('.');
+            appendPadded(sb, (int) (hundredths % 100), 2);
+        }
+    }
+}
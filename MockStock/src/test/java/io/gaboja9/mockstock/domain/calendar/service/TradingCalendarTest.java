@@ -0,0 +1,126 @@
+package io.gaboja9.mockstock.domain.calendar.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@ExtendWith(MockitoExtension.class)
+class TradingCalendarTest {
+
+    @Mock private MarketHolidayService marketHolidayService;
+
+    private TradingCalendar tradingCalendar;
+
+    @BeforeEach
+    void setUp() {
+        tradingCalendar = new TradingCalendar(marketHolidayService);
+    }
+
+    @Test
+    void 주말과_공휴일은_거래일이_아니다() {
+        given(marketHolidayService.findHolidays(2025))
+                .willReturn(List.of(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 3, 3)));
+
+        assertThat(tradingCalendar.isTradingDay(LocalDate.of(2025, 3, 3))).isFalse(); // 대체공휴일(월)
+        assertThat(tradingCalendar.isTradingDay(LocalDate.of(2025, 3, 8))).isFalse(); // 토요일
+        assertThat(tradingCalendar.isTradingDay(LocalDate.of(2025, 3, 4))).isTrue();
+    }
+
+    @Test
+    void 근로자의날과_연말_마지막_평일은_휴장한다() {
+        given(marketHolidayService.findHolidays(anyInt())).willReturn(List.of());
+
+        assertThat(tradingCalendar.isTradingDay(LocalDate.of(2025, 5, 1))).isFalse();
+        assertThat(tradingCalendar.isTradingDay(LocalDate.of(2025, 12, 31))).isFalse();
+        assertThat(tradingCalendar.isTradingDay(LocalDate.of(2025, 12, 30))).isTrue();
+        // 2022-12-31은 토요일이므로 12-30(금)이 연말 휴장일
+        assertThat(tradingCalendar.isTradingDay(LocalDate.of(2022, 12, 30))).isFalse();
+    }
+
+    @Test
+    void 정규장은_9시부터_15시30분까지이고_연초_개장일은_10시에_시작한다() {
+        given(marketHolidayService.findHolidays(2025)).willReturn(List.of(LocalDate.of(2025, 1, 1)));
+
+        assertThat(tradingCalendar.isSessionOpen(kst(2025, 3, 4, 9, 0))).isTrue();
+        assertThat(tradingCalendar.isSessionOpen(kst(2025, 3, 4, 8, 59))).isFalse();
+        assertThat(tradingCalendar.isSessionOpen(kst(2025, 3, 4, 15, 31))).isFalse();
+
+        assertThat(tradingCalendar.isSessionOpen(kst(2025, 1, 2, 9, 30))).isFalse();
+        assertThat(tradingCalendar.isSessionOpen(kst(2025, 1, 2, 10, 0))).isTrue();
+    }
+
+    @Test
+    void 기동할_때는_API를_부르지_않고_저장된_휴장일을_읽는다() {
+        int year = LocalDate.now(TradingCalendar.KST).getYear();
+        LocalDate storedHoliday = firstWeekday(year, 3);
+        given(marketHolidayService.findHolidays(anyInt())).willReturn(List.of(storedHoliday));
+
+        tradingCalendar.init();
+
+        assertThat(tradingCalendar.isTradingDay(storedHoliday)).isFalse();
+        verify(marketHolidayService).findHolidays(year);
+        verify(marketHolidayService).findHolidays(year + 1);
+        verify(marketHolidayService, never()).refreshYear(anyInt());
+    }
+
+    @Test
+    void 저장된_휴장일로_확정된_연도는_스케줄러가_API를_다시_부르지_않는다() {
+        given(marketHolidayService.findHolidays(anyInt()))
+                .willReturn(List.of(LocalDate.of(2025, 1, 1)));
+
+        tradingCalendar.init();
+        tradingCalendar.refresh();
+
+        verify(marketHolidayService, never()).refreshYear(anyInt());
+    }
+
+    @Test
+    void 공휴일_API가_실패하면_저장된_휴장일로_판단한다() {
+        int year = LocalDate.now(TradingCalendar.KST).getYear();
+        LocalDate storedHoliday = firstWeekday(year, 3);
+        given(marketHolidayService.refreshYear(anyInt())).willReturn(Optional.empty());
+        given(marketHolidayService.findHolidays(anyInt())).willReturn(List.of(storedHoliday));
+
+        tradingCalendar.refresh();
+
+        assertThat(tradingCalendar.isTradingDay(storedHoliday)).isFalse();
+    }
+
+    @Test
+    void 공휴일_API로_받은_휴장일을_적용한다() {
+        int year = LocalDate.now(TradingCalendar.KST).getYear();
+        LocalDate fetchedHoliday = firstWeekday(year, 3);
+        given(marketHolidayService.refreshYear(anyInt())).willReturn(Optional.of(List.of(fetchedHoliday)));
+
+        tradingCalendar.refresh();
+
+        assertThat(tradingCalendar.isTradingDay(fetchedHoliday)).isFalse();
+        verify(marketHolidayService, never()).findHolidays(anyInt());
+    }
+
+    private ZonedDateTime kst(int year, int month, int day, int hour, int minute) {
+        return LocalDateTime.of(year, month, day, hour, minute).atZone(TradingCalendar.KST);
+    }
+
+    private LocalDate firstWeekday(int year, int month) {
+        LocalDate date = LocalDate.of(year, month, 2);
+        while (date.getDayOfWeek().getValue() > 5) {
+            date = date.plusDays(1);
+        }
+        return date;
+    }
+}
@@ -0,0 +1,77 @@
+package io.gaboja9.mockstock.domain.members.ledger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.gaboja9.mockstock.domain.members.exception.NotFoundMemberException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class MemberAccountLedgerTest {
+
+    private MemberAccountLedger memberAccountLedger;
+
+    @BeforeEach
+    void setUp() {
+        memberAccountLedger = new MemberAccountLedger(4, 10_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        memberAccountLedger.shutdown();
+    }
+
+    @Test
+    void 같은_회원의_작업은_겹치지_않고_순서대로_실행된다() {
+        int[] balance = {0};
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+
+        for (int i = 0; i < 1_000; i++) {
+            futures.add(memberAccountLedger.submit(1L, () -> ++balance[0]));
+        }
+        futures.forEach(CompletableFuture::join);
+
+        assertThat(balance[0]).isEqualTo(1_000);
+        assertThat(futures.get(999).join()).isEqualTo(1_000);
+    }
+
+    @Test
+    void 작업에서_발생한_예외는_그대로_전달된다() {
+        assertThatThrownBy(
+                        () -> memberAccountLedger.execute(1L, () -> {
+                            throw new NotFoundMemberException(1L);
+                        }))
+                .isInstanceOf(NotFoundMemberException.class);
+    }
+
+    @Test
+    void 버전_충돌이면_작업을_다시_실행한다() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = memberAccountLedger.execute(1L, () -> {
+            if (attempts.incrementAndGet() < 2) {
+                throw new ObjectOptimisticLockingFailureException("Members", 1L);
+            }
+            return "ok";
+        });
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(attempts.get()).isEqualTo(2);
+    }
+
+    @Test
+    void 원장_작업_안에서_같은_회원으로_다시_호출해도_교착되지_않는다() {
+        int result = memberAccountLedger.execute(
+                1L, () -> memberAccountLedger.execute(1L, () -> 42));
+
+        assertThat(result).isEqualTo(42);
+    }
+}
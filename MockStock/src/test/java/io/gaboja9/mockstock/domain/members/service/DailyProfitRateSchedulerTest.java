@@ -0,0 +1,93 @@
+package io.gaboja9.mockstock.domain.members.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.gaboja9.mockstock.domain.members.repository.DailyProfitRateJdbcRepository;
+import io.gaboja9.mockstock.domain.members.repository.DailyProfitRateJdbcRepository.EquityRow;
+import io.gaboja9.mockstock.domain.members.repository.DailyProfitRateJdbcRepository.HoldingRow;
+import io.gaboja9.mockstock.domain.members.repository.DailyProfitRateJdbcRepository.MemberBalanceRow;
+import io.gaboja9.mockstock.global.websocket.HantuWebSocketHandler;
+import io.gaboja9.mockstock.global.websocket.dto.StockQuote;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+class DailyProfitRateSchedulerTest {
+
+    @InjectMocks private DailyProfitRateScheduler dailyProfitRateScheduler;
+
+    @Mock private DailyProfitRateJdbcRepository dailyProfitRateJdbcRepository;
+    @Mock private HantuWebSocketHandler hantuWebSocketHandler;
+    @Mock private MemberEquityService memberEquityService;
+
+    @Captor private ArgumentCaptor<List<EquityRow>> rowsCaptor;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(dailyProfitRateScheduler, "chunkSize", 2);
+    }
+
+    @Test
+    void 회원을_청크로_나눠_평가하고_청크마다_저장한다() {
+        given(dailyProfitRateJdbcRepository.findMembersAfter(0L, 2))
+                .willReturn(
+                        List.of(
+                                new MemberBalanceRow(1L, 10_000_000, 5_000_000),
+                                new MemberBalanceRow(2L, 30_000_000, 0)));
+        given(dailyProfitRateJdbcRepository.findMembersAfter(2L, 2))
+                .willReturn(List.of(new MemberBalanceRow(5L, 20_000_000, 0)));
+        given(dailyProfitRateJdbcRepository.findHoldingsBetween(1L, 2L))
+                .willReturn(List.of(new HoldingRow(1L, "005930", 300)));
+        given(dailyProfitRateJdbcRepository.findHoldingsBetween(5L, 5L))
+                .willReturn(List.of(new HoldingRow(5L, "005930", 100)));
+        given(hantuWebSocketHandler.getQuote("005930"))
+                .willReturn(new StockQuote("005930", 80_000, 0L, false));
+
+        dailyProfitRateScheduler.updateYesterdayProfitRate();
+
+        verify(dailyProfitRateJdbcRepository, times(2)).saveChunk(any(), rowsCaptor.capture());
+        List<EquityRow> first = rowsCaptor.getAllValues().get(0);
+        // 1번: 현금 1,000만 + 주식 2,400만, 원금 3,500만
+        assertThat(first.get(0).totalAsset()).isEqualTo(34_000_000);
+        assertThat(first.get(0).totalInvestment()).isEqualTo(35_000_000);
+        assertThat(first.get(0).profitRate()).isEqualTo(-2.86);
+        assertThat(first.get(1).profitRate()).isZero();
+        EquityRow last = rowsCaptor.getAllValues().get(1).get(0);
+        assertThat(last.stockValue()).isEqualTo(8_000_000);
+        assertThat(last.profitRate()).isEqualTo(-6.67);
+        // 같은 종목 시세는 한 번만 조회합니다.
+        verify(hantuWebSocketHandler, times(1)).getQuote(anyString());
+        verify(memberEquityService).evictRollups();
+    }
+
+    @Test
+    void 체결가가_없는_종목은_0원으로_평가한다() {
+        given(dailyProfitRateJdbcRepository.findMembersAfter(0L, 2))
+                .willReturn(List.of(new MemberBalanceRow(1L, 20_000_000, 0)));
+        given(dailyProfitRateJdbcRepository.findHoldingsBetween(1L, 1L))
+                .willReturn(List.of(new HoldingRow(1L, "000660", 10)));
+        given(hantuWebSocketHandler.getQuote("000660")).willReturn(StockQuote.none("000660"));
+
+        dailyProfitRateScheduler.updateYesterdayProfitRate();
+
+        verify(dailyProfitRateJdbcRepository).saveChunk(any(), rowsCaptor.capture());
+        EquityRow row = rowsCaptor.getValue().get(0);
+        assertThat(row.stockValue()).isZero();
+        assertThat(row.profitRate()).isEqualTo(-33.33);
+    }
+}
@@ -0,0 +1,112 @@
+package io.gaboja9.mockstock.domain.members.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.gaboja9.mockstock.domain.members.dto.response.EquityCurveResponseDto;
+import io.gaboja9.mockstock.domain.members.dto.response.EquityPointDto;
+import io.gaboja9.mockstock.domain.members.entity.MemberEquitySnapshot;
+import io.gaboja9.mockstock.domain.members.enums.EquityInterval;
+import io.gaboja9.mockstock.domain.members.repository.MemberEquitySnapshotRepository;
+import io.gaboja9.mockstock.global.exception.BaseException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+class MemberEquityServiceTest {
+
+    @InjectMocks private MemberEquityService memberEquityService;
+
+    @Mock private MemberEquitySnapshotRepository memberEquitySnapshotRepository;
+
+    private final Long memberId = 1L;
+
+    @Test
+    void 일간_조회는_전일_대비_수익률을_충전금을_빼고_계산한다() {
+        LocalDate from = LocalDate.of(2025, 7, 1);
+        LocalDate to = LocalDate.of(2025, 7, 2);
+        given(memberEquitySnapshotRepository
+                        .findByMemberIdAndSnapshotDateBetweenOrderBySnapshotDate(
+                                memberId, from.minusDays(1), to))
+                .willReturn(
+                        List.of(
+                                snapshot(LocalDate.of(2025, 6, 30), 30_000_000, 30_000_000),
+                                snapshot(from, 30_300_000, 30_000_000),
+                                // 100만 원 충전 + 30만 3천 원 수익
+                                snapshot(to, 31_603_000, 31_000_000)));
+
+        EquityCurveResponseDto response =
+                memberEquityService.getEquityCurve(memberId, EquityInterval.DAILY, from, to);
+
+        assertThat(response.getPoints()).extracting(EquityPointDto::getDate)
+                .containsExactly(from, to);
+        assertThat(response.getPoints()).extracting(EquityPointDto::getPeriodReturnRate)
+                .containsExactly(1.0, 1.0);
+    }
+
+    @Test
+    void 주간_조회는_주마다_마지막_스냅샷을_쓰고_캐시한다() {
+        given(memberEquitySnapshotRepository.findByMemberIdOrderBySnapshotDate(memberId))
+                .willReturn(
+                        List.of(
+                                snapshot(LocalDate.of(2025, 6, 30), 30_000_000, 30_000_000),
+                                snapshot(LocalDate.of(2025, 7, 4), 31_500_000, 30_000_000),
+                                snapshot(LocalDate.of(2025, 7, 7), 31_000_000, 30_000_000),
+                                snapshot(LocalDate.of(2025, 7, 9), 33_075_000, 30_000_000)));
+        LocalDate from = LocalDate.of(2025, 6, 1);
+        LocalDate to = LocalDate.of(2025, 7, 31);
+
+        EquityCurveResponseDto response =
+                memberEquityService.getEquityCurve(memberId, EquityInterval.WEEKLY, from, to);
+        memberEquityService.getEquityCurve(memberId, EquityInterval.WEEKLY, from, to);
+
+        assertThat(response.getPoints()).extracting(EquityPointDto::getDate)
+                .containsExactly(LocalDate.of(2025, 7, 4), LocalDate.of(2025, 7, 9));
+        assertThat(response.getPoints()).extracting(EquityPointDto::getPeriodReturnRate)
+                .containsExactly(0.0, 5.0);
+        verify(memberEquitySnapshotRepository, times(1))
+                .findByMemberIdOrderBySnapshotDate(memberId);
+    }
+
+    @Test
+    void 캐시를_비우면_집계를_다시_읽는다() {
+        given(memberEquitySnapshotRepository.findByMemberIdOrderBySnapshotDate(memberId))
+                .willReturn(List.of());
+        LocalDate to = LocalDate.of(2025, 7, 31);
+
+        memberEquityService.getEquityCurve(memberId, EquityInterval.MONTHLY, null, to);
+        memberEquityService.evictRollups();
+        EquityCurveResponseDto response =
+                memberEquityService.getEquityCurve(memberId, EquityInterval.MONTHLY, null, to);
+
+        assertThat(response.getFrom()).isEqualTo(LocalDate.of(2022, 7, 31));
+        verify(memberEquitySnapshotRepository, times(2))
+                .findByMemberIdOrderBySnapshotDate(memberId);
+    }
+
+    @Test
+    void 시작일이_종료일보다_늦으면_예외가_발생한다() {
+        assertThatThrownBy(
+                        () ->
+                                memberEquityService.getEquityCurve(
+                                        memberId,
+                                        EquityInterval.DAILY,
+                                        LocalDate.of(2025, 7, 2),
+                                        LocalDate.of(2025, 7, 1)))
+                .isInstanceOf(BaseException.class);
+    }
+
+    private MemberEquitySnapshot snapshot(LocalDate date, long totalAsset, long totalInvestment) {
+        return new MemberEquitySnapshot(memberId, date, 0, 0, totalAsset, totalInvestment, 0);
+    }
+}
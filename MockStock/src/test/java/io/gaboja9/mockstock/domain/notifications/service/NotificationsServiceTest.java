@@ -1,5 +1,6 @@
 package io.gaboja9.mockstock.domain.notifications.service;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
@@ -8,7 +9,10 @@ import io.gaboja9.mockstock.domain.mails.entity.Mails;
 import io.gaboja9.mockstock.domain.mails.repository.MailsRepository;
 import io.gaboja9.mockstock.domain.members.entity.Members;
 import io.gaboja9.mockstock.domain.members.repository.MembersRepository;
+import io.gaboja9.mockstock.domain.notifications.dto.NotificationDto;
+import io.gaboja9.mockstock.domain.notifications.dto.TradeNotificationDataDto;
 import io.gaboja9.mockstock.domain.notifications.entity.Notifications;
+import io.gaboja9.mockstock.domain.notifications.enums.NotificationEventType;
 import io.gaboja9.mockstock.domain.notifications.repository.NotificationsRepository;
 import io.gaboja9.mockstock.domain.trades.entity.TradeType;
 
@@ -69,49 +73,21 @@ class NotificationsServiceTest {
     }
 
     @Test
-    void 매매알림이_활성화된_사용자는_매매알림을_받는다() {
-        // given
-        given(notificationsRepository.findByMembersId(1L))
-                .willReturn(Optional.of(enabledNotifications));
-        given(membersRepository.findById(1L)).willReturn(Optional.of(testMember));
-
-        // when
-        notificationsService.sendTradeNotification(1L, "005930", "삼성전자", TradeType.BUY, 10, 80000);
-
-        // then
-        // 메일 저장 확인
-        verify(mailsRepository).save(any(Mails.class));
-
-        // WebSocket 알림 발송 확인
-        verify(messagingTemplate).convertAndSendToUser(eq("1"), eq("/queue/notifications"), any());
-    }
-
-    @Test
-    void 매매알림이_비활성화된_사용자는_매매알림을_받지않는다() {
-        // given
-        given(notificationsRepository.findByMembersId(1L))
-                .willReturn(Optional.of(disabledNotifications));
-
+    void 매매알림_메시지에_체결_내용이_담긴다() {
         // when
-        notificationsService.sendTradeNotification(1L, "005930", "삼성전자", TradeType.BUY, 10, 80000);
+        NotificationDto notification =
+                notificationsService.createTradeNotification(
+                        "005930", "삼성전자", TradeType.BUY, 10, 80000);
 
         // then
-        verify(mailsRepository, never()).save(any(Mails.class));
-        verify(messagingTemplate, never()).convertAndSendToUser(anyString(), anyString(), any());
-    }
-
-    @Test
-    void 알림설정이_없는_사용자는_기본값으로_매매알림을_받는다() {
-        // given
-        given(notificationsRepository.findByMembersId(1L)).willReturn(Optional.empty());
-        given(membersRepository.findById(1L)).willReturn(Optional.of(testMember));
-
-        // when
-        notificationsService.sendTradeNotification(1L, "005930", "삼성전자", TradeType.BUY, 10, 80000);
-
-        // then
-        verify(mailsRepository).save(any(Mails.class));
-        verify(messagingTemplate).convertAndSendToUser(eq("1"), eq("/queue/notifications"), any());
+        assertThat(notification.getType()).isEqualTo(NotificationEventType.TRADE);
+        assertThat(notification.getTitle()).contains("삼성전자", "10주", "매수", "80,000원");
+        assertThat(notification.getMessage()).contains("005930", "800,000원");
+        assertThat(notification.getData())
+                .isInstanceOfSatisfying(
+                        TradeNotificationDataDto.class,
+                        data -> assertThat(data.getTotalAmount()).isEqualTo(800000));
+        verifyNoInteractions(mailsRepository, messagingTemplate);
     }
 
     @Test
@@ -0,0 +1,106 @@
+package io.gaboja9.mockstock.domain.notifications.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+import io.gaboja9.mockstock.domain.mails.repository.MailsRepository;
+import io.gaboja9.mockstock.domain.members.entity.Members;
+import io.gaboja9.mockstock.domain.members.repository.MembersRepository;
+import io.gaboja9.mockstock.domain.notifications.entity.Notifications;
+import io.gaboja9.mockstock.domain.notifications.entity.TradeNotificationOutbox;
+import io.gaboja9.mockstock.domain.notifications.repository.NotificationsRepository;
+import io.gaboja9.mockstock.domain.notifications.repository.TradeNotificationOutboxRepository;
+import io.gaboja9.mockstock.domain.notifications.service.TradeNotificationOutboxService.DrainResult;
+import io.gaboja9.mockstock.domain.trades.entity.TradeType;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+class TradeNotificationOutboxServiceTest {
+
+    @Mock private TradeNotificationOutboxRepository outboxRepository;
+    @Mock private NotificationsRepository notificationsRepository;
+    @Mock private MembersRepository membersRepository;
+    @Mock private MailsRepository mailsRepository;
+
+    private TradeNotificationOutboxService tradeNotificationOutboxService;
+
+    @BeforeEach
+    void setUp() {
+        NotificationsService notificationsService =
+                new NotificationsService(notificationsRepository, membersRepository, mailsRepository, null);
+
+        tradeNotificationOutboxService =
+                new TradeNotificationOutboxService(
+                        outboxRepository,
+                        notificationsRepository,
+                        membersRepository,
+                        mailsRepository,
+                        notificationsService);
+    }
+
+    @Test
+    void drain_알림을_켠_회원만_메일을_모아서_저장하고_대기열을_비운다() {
+        Members enabledMember = member(1L);
+        Members disabledMember = member(2L);
+        List<TradeNotificationOutbox> batch =
+                List.of(
+                        new TradeNotificationOutbox(1L, "005930", "삼성전자", TradeType.BUY, 10, 80_000),
+                        new TradeNotificationOutbox(2L, "005930", "삼성전자", TradeType.SELL, 5, 80_000),
+                        new TradeNotificationOutbox(3L, "005930", "삼성전자", TradeType.BUY, 1, 80_000));
+
+        given(outboxRepository.findDispatchBatch(any(Pageable.class))).willReturn(batch);
+        // 3번 회원은 탈퇴
+        given(membersRepository.findAllById(anyCollection()))
+                .willReturn(List.of(enabledMember, disabledMember));
+        given(notificationsRepository.findByMembersIdIn(anyCollection()))
+                .willReturn(
+                        List.of(
+                                Notifications.builder()
+                                        .tradeNotificationEnabled(false)
+                                        .members(disabledMember)
+                                        .build()));
+
+        DrainResult result = tradeNotificationOutboxService.drain(100);
+
+        assertThat(result.drained()).isEqualTo(3);
+        assertThat(result.deliveries()).hasSize(1);
+        assertThat(result.deliveries().get(0).memberId()).isEqualTo(1L);
+        verify(mailsRepository).saveAll(argThat(mails -> ((List<?>) mails).size() == 1));
+        verify(outboxRepository).deleteAllInBatch(batch);
+    }
+
+    @Test
+    void drain_대기열이_비어있으면_아무것도_하지않는다() {
+        given(outboxRepository.findDispatchBatch(any(Pageable.class))).willReturn(List.of());
+
+        DrainResult result = tradeNotificationOutboxService.drain(100);
+
+        assertThat(result.drained()).isZero();
+        verifyNoInteractions(mailsRepository);
+    }
+
+    private Members member(Long id) {
+        return new Members(
+                id,
+                "test" + id + "@example.com",
+                "testUser" + id,
+                "LOCAL",
+                "profile.png",
+                30_000_000,
+                0,
+                LocalDateTime.now());
+    }
+}
@@ -0,0 +1,142 @@
+package io.gaboja9.mockstock.domain.orders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import io.gaboja9.mockstock.domain.members.entity.Members;
+import io.gaboja9.mockstock.domain.orders.book.LimitOrderBook;
+import io.gaboja9.mockstock.domain.orders.book.LimitOrderEntry;
+import io.gaboja9.mockstock.domain.orders.entity.OrderStatus;
+import io.gaboja9.mockstock.domain.orders.entity.OrderType;
+import io.gaboja9.mockstock.domain.orders.entity.Orders;
+import io.gaboja9.mockstock.domain.orders.repository.OrdersRepository;
+import io.gaboja9.mockstock.domain.trades.entity.TradeType;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+class LimitOrderBookTest {
+
+    @Mock private OrdersRepository ordersRepository;
+
+    private LimitOrderBook limitOrderBook;
+
+    @BeforeEach
+    void setUp() {
+        given(ordersRepository.findByStatusAndOrderTypeOrderByCreatedAtAsc(
+                        OrderStatus.PENDING, OrderType.LIMIT))
+                .willReturn(List.of());
+
+        limitOrderBook = new LimitOrderBook(ordersRepository);
+        limitOrderBook.rebuild();
+    }
+
+    @Test
+    void pollCrossed_매수는_지정가_이하_현재가에서만_꺼낸다() {
+        limitOrderBook.restore(entry(1L, TradeType.BUY, 70_000));
+        limitOrderBook.restore(entry(2L, TradeType.BUY, 71_000));
+        limitOrderBook.restore(entry(3L, TradeType.BUY, 69_000));
+
+        List<LimitOrderEntry> crossed = limitOrderBook.pollCrossed("005930", 70_000);
+
+        assertThat(crossed).extracting(LimitOrderEntry::getOrderId).containsExactly(2L, 1L);
+        assertThat(limitOrderBook.size("005930")).isEqualTo(1);
+    }
+
+    @Test
+    void pollCrossed_매도는_지정가_이상_현재가에서만_꺼낸다() {
+        limitOrderBook.restore(entry(1L, TradeType.SELL, 72_000));
+        limitOrderBook.restore(entry(2L, TradeType.SELL, 71_000));
+        limitOrderBook.restore(entry(3L, TradeType.SELL, 73_000));
+
+        List<LimitOrderEntry> crossed = limitOrderBook.pollCrossed("005930", 72_000);
+
+        assertThat(crossed).extracting(LimitOrderEntry::getOrderId).containsExactly(2L, 1L);
+        assertThat(limitOrderBook.size("005930")).isEqualTo(1);
+    }
+
+    @Test
+    void pollCrossed_같은_가격은_먼저_들어온_주문이_먼저_나온다() {
+        limitOrderBook.restore(entry(2L, TradeType.BUY, 70_000));
+        limitOrderBook.restore(entry(1L, TradeType.BUY, 70_000));
+
+        List<LimitOrderEntry> crossed = limitOrderBook.pollCrossed("005930", 69_000);
+
+        assertThat(crossed).extracting(LimitOrderEntry::getOrderId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void pollCrossed_체결가능한_주문이_없으면_빈_목록() {
+        limitOrderBook.restore(entry(1L, TradeType.BUY, 70_000));
+
+        assertThat(limitOrderBook.pollCrossed("005930", 70_500)).isEmpty();
+        assertThat(limitOrderBook.pollCrossed("000660", 70_500)).isEmpty();
+        assertThat(limitOrderBook.size("005930")).isEqualTo(1);
+    }
+
+    @Test
+    void removeByMember_회원의_주문만_제거된다() {
+        limitOrderBook.restore(entry(1L, TradeType.BUY, 70_000));
+        limitOrderBook.restore(
+                new LimitOrderEntry(2L, 2L, "005930", TradeType.SELL, 75_000, 1));
+
+        limitOrderBook.removeByMember(1L);
+
+        assertThat(limitOrderBook.size("005930")).isEqualTo(1);
+    }
+
+    @Test
+    void rebuild_대기중인_지정가_주문으로_복원된다() {
+        Members member = Members.builder().email("test@example.com").build();
+        Orders order =
+                new Orders("005930", "삼성전자", OrderType.LIMIT, TradeType.BUY, 1, 70_000, member);
+        given(ordersRepository.findByStatusAndOrderTypeOrderByCreatedAtAsc(
+                        OrderStatus.PENDING, OrderType.LIMIT))
+                .willReturn(List.of(order));
+
+        limitOrderBook.rebuild();
+
+        assertThat(limitOrderBook.size("005930")).isEqualTo(1);
+        assertThat(limitOrderBook.getStockCodes()).containsExactly("005930");
+    }
+
+    @Test
+    void restoreAll_꺼냈던_순서를_유지한다() {
+        limitOrderBook.restore(entry(3L, TradeType.BUY, 70_000));
+        limitOrderBook.restore(entry(2L, TradeType.BUY, 70_000));
+        limitOrderBook.restore(entry(1L, TradeType.BUY, 70_000));
+        List<LimitOrderEntry> crossed = limitOrderBook.pollCrossed("005930", 70_000);
+
+        limitOrderBook.restoreAll(crossed);
+
+        assertThat(limitOrderBook.pollCrossed("005930", 70_000))
+                .extracting(LimitOrderEntry::getOrderId)
+                .containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void revision_주문이_추가되거나_복원될_때만_바뀐다() {
+        assertThat(limitOrderBook.revision("005930")).isZero();
+
+        limitOrderBook.restore(entry(1L, TradeType.BUY, 70_000));
+        long afterRestore = limitOrderBook.revision("005930");
+        limitOrderBook.pollCrossed("005930", 70_000);
+
+        assertThat(afterRestore).isPositive();
+        assertThat(limitOrderBook.revision("005930")).isEqualTo(afterRestore);
+
+        limitOrderBook.restoreAll(
+                List.of(entry(2L, TradeType.BUY, 70_000), entry(3L, TradeType.BUY, 70_000)));
+        assertThat(limitOrderBook.revision("005930")).isGreaterThan(afterRestore);
+    }
+
+    private LimitOrderEntry entry(Long orderId, TradeType tradeType, int price) {
+        return new LimitOrderEntry(orderId, 1L, "005930", tradeType, price, 1);
+    }
+}
@@ -0,0 +1,139 @@
+package io.gaboja9.mockstock.domain.orders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import io.gaboja9.mockstock.domain.members.entity.Members;
+import io.gaboja9.mockstock.domain.notifications.service.TradeNotificationOutboxService;
+import io.gaboja9.mockstock.domain.orders.book.LimitOrderEntry;
+import io.gaboja9.mockstock.domain.orders.entity.OrderStatus;
+import io.gaboja9.mockstock.domain.orders.entity.OrderType;
+import io.gaboja9.mockstock.domain.orders.entity.Orders;
+import io.gaboja9.mockstock.domain.orders.repository.OrdersRepository;
+import io.gaboja9.mockstock.domain.orders.service.LimitOrdersExecutor;
+import io.gaboja9.mockstock.domain.portfolios.entity.Portfolios;
+import io.gaboja9.mockstock.domain.portfolios.repository.PortfoliosRepository;
+import io.gaboja9.mockstock.domain.portfolios.service.PortfoliosService;
+import io.gaboja9.mockstock.domain.trades.entity.TradeType;
+import io.gaboja9.mockstock.domain.trades.entity.Trades;
+import io.gaboja9.mockstock.domain.trades.repository.TradesRepository;
+import io.gaboja9.mockstock.global.websocket.HantuWebSocketHandler;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+class LimitOrdersExecutorTest {
+
+    @Mock private OrdersRepository ordersRepository;
+    @Mock private HantuWebSocketHandler hantuWebSocketHandler;
+    @Mock private TradesRepository tradesRepository;
+    @Mock private PortfoliosService portfoliosService;
+    @Mock private TradeNotificationOutboxService tradeNotificationOutboxService;
+    @Mock private PortfoliosRepository portfoliosRepository;
+
+    private LimitOrdersExecutor limitOrdersExecutor;
+
+    @BeforeEach
+    void setUp() {
+        limitOrdersExecutor =
+                new LimitOrdersExecutor(
+                        ordersRepository,
+                        hantuWebSocketHandler,
+                        tradesRepository,
+                        portfoliosService,
+                        tradeNotificationOutboxService,
+                        portfoliosRepository);
+    }
+
+    @Test
+    void settleBatch_체결된_주문을_한번에_정산하고_체결내역을_모아서_저장한다() {
+        Members buyer = member(1L, 0);
+        Members seller = member(2L, 0);
+        Orders buyOrder = order(10L, TradeType.BUY, 71_000, 10, buyer);
+        Orders sellOrder = order(11L, TradeType.SELL, 69_000, 5, seller);
+        Portfolios sellerPortfolio = new Portfolios("005930", "삼성전자", 5, 60_000, seller);
+
+        given(hantuWebSocketHandler.getCurrentPrice("005930")).willReturn(70_000);
+        given(ordersRepository.findAllByIdInWithMember(anyCollection()))
+                .willReturn(List.of(buyOrder, sellOrder));
+        given(portfoliosRepository.findByStockCodeAndMembersIdIn(eq("005930"), anyCollection()))
+                .willReturn(List.of(sellerPortfolio));
+
+        List<LimitOrderEntry> resting =
+                limitOrdersExecutor.settleBatch(
+                        "005930", List.of(LimitOrderEntry.from(buyOrder), LimitOrderEntry.from(sellOrder)));
+
+        assertThat(resting).isEmpty();
+        assertThat(buyOrder.getStatus()).isEqualTo(OrderStatus.EXECUTED);
+        assertThat(sellOrder.getStatus()).isEqualTo(OrderStatus.EXECUTED);
+        // 매수: 지정가로 묶어둔 금액 중 차액 환불, 매도: 체결가로 대금 입금
+        assertThat(buyer.getCashBalance()).isEqualTo(10_000);
+        assertThat(seller.getCashBalance()).isEqualTo(350_000);
+
+        ArgumentCaptor<List<Trades>> tradesCaptor = ArgumentCaptor.forClass(List.class);
+        verify(tradesRepository).saveAll(tradesCaptor.capture());
+        assertThat(tradesCaptor.getValue()).hasSize(2);
+        verify(portfoliosRepository).save(any(Portfolios.class));
+        verify(portfoliosRepository).deleteAll(List.of(sellerPortfolio));
+        verify(tradeNotificationOutboxService).enqueueAll(argThat(entries -> entries.size() == 2));
+    }
+
+    @Test
+    void settleBatch_보유수량이_부족한_매도는_취소하고_체결조건을_벗어난_주문은_돌려준다() {
+        Members seller = member(2L, 0);
+        Orders sellOrder = order(11L, TradeType.SELL, 69_000, 5, seller);
+        Orders buyOrder = order(12L, TradeType.BUY, 69_000, 1, member(3L, 0));
+
+        given(hantuWebSocketHandler.getCurrentPrice("005930")).willReturn(70_000);
+        given(ordersRepository.findAllByIdInWithMember(anyCollection()))
+                .willReturn(List.of(sellOrder, buyOrder));
+        given(portfoliosRepository.findByStockCodeAndMembersIdIn(eq("005930"), anyCollection()))
+                .willReturn(List.of());
+
+        LimitOrderEntry buyEntry = LimitOrderEntry.from(buyOrder);
+        List<LimitOrderEntry> resting =
+                limitOrdersExecutor.settleBatch(
+                        "005930", List.of(LimitOrderEntry.from(sellOrder), buyEntry));
+
+        assertThat(resting).containsExactly(buyEntry);
+        assertThat(sellOrder.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+        assertThat(buyOrder.getStatus()).isEqualTo(OrderStatus.PENDING);
+        assertThat(seller.getCashBalance()).isZero();
+    }
+
+    private Members member(Long id, int cashBalance) {
+        Members member =
+                new Members(
+                        id,
+                        "test" + id + "@example.com",
+                        "testUser" + id,
+                        "google",
+                        "profile.png",
+                        30_000_000,
+                        0,
+                        LocalDateTime.now());
+        member.setCashBalance(cashBalance);
+        return member;
+    }
+
+    private Orders order(Long id, TradeType tradeType, int price, int quantity, Members member) {
+        Orders order =
+                new Orders("005930", "삼성전자", OrderType.LIMIT, tradeType, quantity, price, member);
+        ReflectionTestUtils.setField(order, "id", id);
+        return order;
+    }
+}
@@ -0,0 +1,184 @@
+package io.gaboja9.mockstock.domain.orders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.gaboja9.mockstock.domain.members.ledger.MemberAccountLedger;
+import io.gaboja9.mockstock.domain.orders.book.LimitOrderBook;
+import io.gaboja9.mockstock.domain.orders.book.LimitOrderEntry;
+import io.gaboja9.mockstock.domain.orders.service.LimitOrdersExecutor;
+import io.gaboja9.mockstock.domain.orders.service.LimitOrdersProcessor;
+import io.gaboja9.mockstock.domain.orders.service.OrdersService;
+import io.gaboja9.mockstock.domain.trades.entity.TradeType;
+import io.gaboja9.mockstock.global.websocket.HantuWebSocketHandler;
+import io.gaboja9.mockstock.global.websocket.dto.StockPriceDto;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@ExtendWith(MockitoExtension.class)
+class LimitOrdersProcessorTest {
+
+    private static final String STOCK_CODE = "005930";
+
+    @Mock private OrdersService ordersService;
+    @Mock private LimitOrdersExecutor limitOrdersExecutor;
+    @Mock private LimitOrderBook limitOrderBook;
+    @Mock private MemberAccountLedger memberAccountLedger;
+    @Mock private HantuWebSocketHandler hantuWebSocketHandler;
+    @Mock private ExecutorService orderExecutor;
+
+    private final List<Runnable> scheduled = new ArrayList<>();
+    private LimitOrdersProcessor limitOrdersProcessor;
+
+    @BeforeEach
+    void setUp() {
+        limitOrdersProcessor =
+                new LimitOrdersProcessor(
+                        ordersService,
+                        limitOrdersExecutor,
+                        limitOrderBook,
+                        memberAccountLedger,
+                        hantuWebSocketHandler);
+        ReflectionTestUtils.setField(limitOrdersProcessor, "orderExecutor", orderExecutor);
+        lenient()
+                .doAnswer(invocation -> scheduled.add(invocation.getArgument(0)))
+                .when(orderExecutor)
+                .execute(any(Runnable.class));
+    }
+
+    @Test
+    void 평가가_끝나기_전에_들어온_틱은_한번만_예약된다() {
+        givenPendingOrdersAt(70_000);
+
+        limitOrdersProcessor.onStockPrice(tick(70_000));
+        limitOrdersProcessor.onStockPrice(tick(70_100));
+        limitOrdersProcessor.onStockPrice(tick(70_200));
+
+        assertThat(scheduled).hasSize(1);
+
+        runScheduled();
+        verify(limitOrderBook).pollCrossed(STOCK_CODE, 70_000);
+    }
+
+    @Test
+    void 평가_도중_새_틱이_오면_같은_작업에서_한번_더_평가한다() {
+        given(limitOrderBook.size(STOCK_CODE)).willReturn(1);
+        given(hantuWebSocketHandler.getCurrentPrice(STOCK_CODE)).willReturn(70_000);
+        given(limitOrderBook.pollCrossed(STOCK_CODE, 70_000)).willReturn(List.of());
+        AtomicBoolean first = new AtomicBoolean(true);
+        given(ordersService.openKoreanMarket())
+                .willAnswer(
+                        invocation -> {
+                            if (first.getAndSet(false)) {
+                                // 첫 평가 도중 다음 틱이 들어온 상황
+                                limitOrdersProcessor.onStockPrice(tick(70_100));
+                            }
+                            return true;
+                        });
+
+        limitOrdersProcessor.onStockPrice(tick(70_000));
+        scheduled.get(0).run();
+
+        verify(limitOrderBook, times(2)).pollCrossed(STOCK_CODE, 70_000);
+        // 실행 중이던 작업이 이어서 처리하므로 새 작업은 예약하지 않습니다.
+        verify(orderExecutor, times(1)).execute(any(Runnable.class));
+    }
+
+    @Test
+    void 같은_가격이고_호가창이_그대로면_건너뛴다() {
+        givenPendingOrdersAt(70_000);
+        limitOrdersProcessor.onStockPrice(tick(70_000));
+        runScheduled();
+
+        limitOrdersProcessor.onStockPrice(tick(70_000));
+
+        assertThat(scheduled).isEmpty();
+        verify(limitOrderBook, times(1)).pollCrossed(STOCK_CODE, 70_000);
+    }
+
+    @Test
+    void 같은_가격이라도_주문이_추가되거나_복원되면_다시_평가한다() {
+        givenPendingOrdersAt(70_000);
+        given(limitOrderBook.revision(STOCK_CODE)).willReturn(1L);
+        limitOrdersProcessor.onStockPrice(tick(70_000));
+        runScheduled();
+
+        // 평가 뒤 커밋된 주문이 호가창에 들어온 상황
+        given(limitOrderBook.revision(STOCK_CODE)).willReturn(2L);
+        limitOrdersProcessor.onStockPrice(tick(70_000));
+        runScheduled();
+
+        verify(limitOrderBook, times(2)).pollCrossed(STOCK_CODE, 70_000);
+    }
+
+    @Test
+    void 일괄_정산이_실패하면_건별로_처리하고_남은_주문을_원래_순서로_되돌린다() {
+        LimitOrderEntry first = entry(1L, 1L);
+        LimitOrderEntry filled = entry(2L, 2L);
+        LimitOrderEntry last = entry(3L, 3L);
+        given(limitOrderBook.size(STOCK_CODE)).willReturn(1);
+        given(ordersService.openKoreanMarket()).willReturn(true);
+        given(hantuWebSocketHandler.getCurrentPrice(STOCK_CODE)).willReturn(70_000);
+        given(limitOrderBook.pollCrossed(STOCK_CODE, 70_000))
+                .willReturn(List.of(first, filled, last));
+        given(limitOrdersExecutor.settleBatch(eq(STOCK_CODE), anyList()))
+                .willThrow(new IllegalStateException("버전 충돌"));
+        given(memberAccountLedger.execute(eq(1L), any())).willReturn(true);
+        given(memberAccountLedger.execute(eq(2L), any())).willReturn(false);
+        given(memberAccountLedger.execute(eq(3L), any()))
+                .willThrow(new IllegalStateException("정산 실패"));
+
+        limitOrdersProcessor.onStockPrice(tick(70_000));
+        runScheduled();
+
+        verify(limitOrderBook).restoreAll(List.of(first, last));
+        verify(limitOrderBook, never()).restore(any());
+    }
+
+    @Test
+    void 대기_주문이_없는_종목은_평가하지_않는다() {
+        given(limitOrderBook.size("000660")).willReturn(0);
+
+        limitOrdersProcessor.onStockPrice(StockPriceDto.builder().stockCode("000660").build());
+
+        assertThat(scheduled).isEmpty();
+    }
+
+    private void givenPendingOrdersAt(int price) {
+        given(limitOrderBook.size(STOCK_CODE)).willReturn(1);
+        given(ordersService.openKoreanMarket()).willReturn(true);
+        given(hantuWebSocketHandler.getCurrentPrice(STOCK_CODE)).willReturn(price);
+        given(limitOrderBook.pollCrossed(STOCK_CODE, price)).willReturn(List.of());
+    }
+
+    private void runScheduled() {
+        List<Runnable> tasks = new ArrayList<>(scheduled);
+        scheduled.clear();
+        tasks.forEach(Runnable::run);
+    }
+
+    private LimitOrderEntry entry(Long orderId, Long memberId) {
+        return new LimitOrderEntry(orderId, memberId, STOCK_CODE, TradeType.BUY, 70_000, 1);
+    }
+
+    private StockPriceDto tick(int price) {
+        return StockPriceDto.builder().stockCode(STOCK_CODE).currentPrice(price).build();
+    }
+}
@@ -0,0 +1,96 @@
+package io.gaboja9.mockstock.domain.orders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import io.gaboja9.mockstock.domain.members.ledger.MemberAccountLedger;
+import io.gaboja9.mockstock.domain.orders.dto.response.OrderResponseDto;
+import io.gaboja9.mockstock.domain.orders.dto.response.OrderResultMessage;
+import io.gaboja9.mockstock.domain.orders.exception.NotEnoughCashException;
+import io.gaboja9.mockstock.domain.orders.exception.NotOpenKoreanMarketException;
+import io.gaboja9.mockstock.domain.orders.exception.OrderQueueFullException;
+import io.gaboja9.mockstock.domain.orders.service.OrdersDispatcher;
+import io.gaboja9.mockstock.domain.orders.service.OrdersService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+@ExtendWith(MockitoExtension.class)
+class OrdersDispatcherTest {
+
+    @Mock private MemberAccountLedger memberAccountLedger;
+    @Mock private OrdersService ordersService;
+    @Mock private SimpMessagingTemplate messagingTemplate;
+
+    private OrdersDispatcher ordersDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        ordersDispatcher = new OrdersDispatcher(memberAccountLedger, ordersService, messagingTemplate);
+    }
+
+    @Test
+    void submit_접수번호를_바로_반환하고_처리결과를_개인큐로_전송한다() {
+        OrderResponseDto executed =
+                OrderResponseDto.builder().executed(true).message("시장가 매수 완료").price(70_000).build();
+        given(ordersService.openKoreanMarket()).willReturn(true);
+        given(memberAccountLedger.<OrderResponseDto>submit(eq(1L), any()))
+                .willReturn(CompletableFuture.completedFuture(executed));
+
+        OrderResponseDto accepted = ordersDispatcher.submit(1L, () -> executed);
+
+        assertThat(accepted.getRequestId()).isNotBlank();
+        assertThat(accepted.isExecuted()).isFalse();
+
+        ArgumentCaptor<OrderResultMessage> captor = ArgumentCaptor.forClass(OrderResultMessage.class);
+        verify(messagingTemplate).convertAndSendToUser(eq("1"), eq("/queue/orders"), captor.capture());
+        assertThat(captor.getValue().getRequestId()).isEqualTo(accepted.getRequestId());
+        assertThat(captor.getValue().isSuccess()).isTrue();
+        assertThat(captor.getValue().getPrice()).isEqualTo(70_000);
+    }
+
+    @Test
+    void submit_처리중_실패하면_에러코드를_전송한다() {
+        given(ordersService.openKoreanMarket()).willReturn(true);
+        given(memberAccountLedger.<OrderResponseDto>submit(eq(1L), any()))
+                .willReturn(CompletableFuture.failedFuture(new NotEnoughCashException(1_000)));
+
+        ordersDispatcher.submit(1L, () -> null);
+
+        ArgumentCaptor<OrderResultMessage> captor = ArgumentCaptor.forClass(OrderResultMessage.class);
+        verify(messagingTemplate).convertAndSendToUser(eq("1"), eq("/queue/orders"), captor.capture());
+        assertThat(captor.getValue().isSuccess()).isFalse();
+        assertThat(captor.getValue().getErrorCode()).isEqualTo("ORDER-002");
+    }
+
+    @Test
+    void submit_장이_닫혀있으면_접수하지_않는다() {
+        given(ordersService.openKoreanMarket()).willReturn(false);
+
+        assertThatThrownBy(() -> ordersDispatcher.submit(1L, () -> null))
+                .isInstanceOf(NotOpenKoreanMarketException.class);
+        verifyNoInteractions(memberAccountLedger);
+    }
+
+    @Test
+    void execute_대기열이_가득차면_예외() {
+        given(memberAccountLedger.<OrderResponseDto>execute(eq(1L), any()))
+                .willThrow(new RejectedExecutionException());
+
+        assertThatThrownBy(() -> ordersDispatcher.execute(1L, () -> null))
+                .isInstanceOf(OrderQueueFullException.class);
+    }
+}
@@ -3,9 +3,11 @@ package io.gaboja9.mockstock.domain.orders;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import io.gaboja9.mockstock.domain.calendar.service.TradingCalendar;
 import io.gaboja9.mockstock.domain.members.entity.Members;
 import io.gaboja9.mockstock.domain.members.repository.MembersRepository;
-import io.gaboja9.mockstock.domain.notifications.service.NotificationsService;
+import io.gaboja9.mockstock.domain.notifications.service.TradeNotificationOutboxService;
+import io.gaboja9.mockstock.domain.orders.book.LimitOrderBook;
 import io.gaboja9.mockstock.domain.orders.dto.request.OrdersMarketTypeRequestDto;
 import io.gaboja9.mockstock.domain.orders.dto.response.OrderResponseDto;
 import io.gaboja9.mockstock.domain.orders.entity.Orders;
@@ -19,7 +21,6 @@ import io.gaboja9.mockstock.domain.portfolios.repository.PortfoliosRepository;
 import io.gaboja9.mockstock.domain.portfolios.service.PortfoliosService;
 import io.gaboja9.mockstock.domain.trades.repository.TradesRepository;
 import io.gaboja9.mockstock.global.websocket.HantuWebSocketHandler;
-import io.gaboja9.mockstock.global.websocket.dto.StockPriceDto;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -45,7 +46,11 @@ class OrdersServiceTest {
 
     @Mock private HantuWebSocketHandler hantuWebSocketHandler;
 
-    @Mock private NotificationsService notificationsService;
+    @Mock private TradeNotificationOutboxService tradeNotificationOutboxService;
+
+    @Mock private LimitOrderBook limitOrderBook;
+
+    @Mock private TradingCalendar tradingCalendar;
 
     private OrdersService ordersService;
 
@@ -60,7 +65,9 @@ class OrdersServiceTest {
                                 portfoliosService,
                                 portfoliosRepository,
                                 hantuWebSocketHandler,
-                                notificationsService));
+                                tradeNotificationOutboxService,
+                                limitOrderBook,
+                                tradingCalendar));
 
         doReturn(true).when(ordersService).openKoreanMarket();
     }
@@ -87,11 +94,8 @@ class OrdersServiceTest {
                         .quantity(5)
                         .build();
 
-        StockPriceDto mockPrice =
-                StockPriceDto.builder().stockCode("AAPL").currentPrice(100_000).build();
-
-        when(membersRepository.findByIdWithLock(memberId)).thenReturn(Optional.of(member));
-        when(hantuWebSocketHandler.getLatestPrice("AAPL")).thenReturn(mockPrice);
+        when(membersRepository.findById(memberId)).thenReturn(Optional.of(member));
+        when(hantuWebSocketHandler.getCurrentPrice("AAPL")).thenReturn(100_000);
 
         OrderResponseDto response = ordersService.executeMarketBuyOrders(memberId, dto);
 
@@ -125,11 +129,8 @@ class OrdersServiceTest {
                         .quantity(2)
                         .build();
 
-        StockPriceDto mockPrice =
-                StockPriceDto.builder().stockCode("AAPL").currentPrice(100_000).build();
-
-        when(membersRepository.findByIdWithLock(memberId)).thenReturn(Optional.of(member));
-        when(hantuWebSocketHandler.getLatestPrice("AAPL")).thenReturn(mockPrice);
+        when(membersRepository.findById(memberId)).thenReturn(Optional.of(member));
+        when(hantuWebSocketHandler.getCurrentPrice("AAPL")).thenReturn(100_000);
 
         assertThatThrownBy(() -> ordersService.executeMarketBuyOrders(memberId, dto))
                 .isInstanceOf(NotEnoughCashException.class);
@@ -157,15 +158,12 @@ class OrdersServiceTest {
                         .quantity(3)
                         .build();
 
-        StockPriceDto mockPrice =
-                StockPriceDto.builder().stockCode("AAPL").currentPrice(100_000).build();
-
         Portfolios portfolio = new Portfolios("AAPL", "애플", 5, 100000, member);
 
-        when(membersRepository.findByIdWithLock(memberId)).thenReturn(Optional.of(member));
-        when(portfoliosRepository.findByMembersIdAndStockCodeWithLock(memberId, "AAPL"))
+        when(membersRepository.findById(memberId)).thenReturn(Optional.of(member));
+        when(portfoliosRepository.findByMembersIdAndStockCode(memberId, "AAPL"))
                 .thenReturn(Optional.of(portfolio));
-        when(hantuWebSocketHandler.getLatestPrice("AAPL")).thenReturn(mockPrice);
+        when(hantuWebSocketHandler.getCurrentPrice("AAPL")).thenReturn(100_000);
 
         OrderResponseDto response = ordersService.executeMarketSellOrders(memberId, dto);
 
@@ -200,8 +198,8 @@ class OrdersServiceTest {
 
         Portfolios portfolio = new Portfolios("AAPL", "애플", 5, 100000, member);
 
-        when(membersRepository.findByIdWithLock(memberId)).thenReturn(Optional.of(member));
-        when(portfoliosRepository.findByMembersIdAndStockCodeWithLock(memberId, "AAPL"))
+        when(membersRepository.findById(memberId)).thenReturn(Optional.of(member));
+        when(portfoliosRepository.findByMembersIdAndStockCode(memberId, "AAPL"))
                 .thenReturn(Optional.of(portfolio));
 
         assertThatThrownBy(() -> ordersService.executeMarketSellOrders(memberId, dto))
@@ -229,8 +227,8 @@ class OrdersServiceTest {
                         .quantity(3)
                         .build();
 
-        when(membersRepository.findByIdWithLock(memberId)).thenReturn(Optional.of(member));
-        when(portfoliosRepository.findByMembersIdAndStockCodeWithLock(memberId, "AAPL"))
+        when(membersRepository.findById(memberId)).thenReturn(Optional.of(member));
+        when(portfoliosRepository.findByMembersIdAndStockCode(memberId, "AAPL"))
                 .thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> ordersService.executeMarketSellOrders(memberId, dto))
@@ -0,0 +1,122 @@
+package io.gaboja9.mockstock.domain.payments.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.gaboja9.mockstock.domain.members.entity.Members;
+import io.gaboja9.mockstock.domain.members.ledger.MemberAccountLedger;
+import io.gaboja9.mockstock.domain.members.repository.MembersRepository;
+import io.gaboja9.mockstock.domain.payments.dto.KakaoPayApproveResponse;
+import io.gaboja9.mockstock.domain.payments.entity.PaymentHistory;
+import io.gaboja9.mockstock.domain.payments.entity.PaymentStatus;
+import io.gaboja9.mockstock.domain.payments.exception.PaymentException;
+import io.gaboja9.mockstock.domain.payments.repository.PaymentHistoryRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+@ExtendWith(MockitoExtension.class)
+class KakaoPayServiceTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final String TID = "T1234";
+
+    @InjectMocks private KakaoPayService kakaoPayService;
+
+    @Mock private RestTemplate restTemplate;
+
+    @Mock private PaymentHistoryRepository paymentHistoryRepository;
+
+    @Mock private MembersRepository membersRepository;
+
+    @Mock private MemberAccountLedger memberAccountLedger;
+
+    private PaymentHistory paymentHistory;
+
+    @BeforeEach
+    void setUp() {
+        paymentHistory =
+                PaymentHistory.builder()
+                        .members(member())
+                        .tid(TID)
+                        .partnerOrderId("ORDER_1")
+                        .amount(100_000)
+                        .status(PaymentStatus.READY)
+                        .build();
+        given(paymentHistoryRepository.findLatestTidByMemberAndStatusReady(MEMBER_ID))
+                .willReturn(Optional.of(TID));
+        given(paymentHistoryRepository.findByTidAndMembersId(TID, MEMBER_ID))
+                .willReturn(Optional.of(paymentHistory));
+        given(
+                        restTemplate.exchange(
+                                anyString(),
+                                eq(HttpMethod.POST),
+                                any(HttpEntity.class),
+                                eq(KakaoPayApproveResponse.class)))
+                .willReturn(ResponseEntity.ok(new KakaoPayApproveResponse()));
+    }
+
+    @Test
+    void 승인되면_회원_원장에서_다시_읽은_회원에_충전한다() {
+        Members member = member();
+        givenLedgerRunsMutation();
+        given(membersRepository.findById(MEMBER_ID)).willReturn(Optional.of(member));
+
+        kakaoPayService.paymentApprove("pg-token", MEMBER_ID);
+
+        assertThat(member.getCashBalance()).isEqualTo(1_100_000);
+        assertThat(member.getTotalInvestedAmount()).isEqualTo(100_000);
+        assertThat(paymentHistory.getStatus()).isEqualTo(PaymentStatus.APPROVED);
+        verify(memberAccountLedger).execute(eq(MEMBER_ID), any());
+        verify(membersRepository).save(member);
+    }
+
+    @Test
+    void 승인_후_충전_반영이_실패해도_결제_실패로_기록하지_않는다() {
+        given(memberAccountLedger.execute(eq(MEMBER_ID), any()))
+                .willThrow(new ObjectOptimisticLockingFailureException(Members.class, MEMBER_ID));
+
+        assertThatThrownBy(() -> kakaoPayService.paymentApprove("pg-token", MEMBER_ID))
+                .isInstanceOf(PaymentException.class);
+
+        assertThat(paymentHistory.getStatus()).isNotEqualTo(PaymentStatus.FAILED);
+        verify(paymentHistoryRepository, never()).save(paymentHistory);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenLedgerRunsMutation() {
+        given(memberAccountLedger.execute(eq(MEMBER_ID), any()))
+                .willAnswer(invocation -> ((Supplier<Object>) invocation.getArgument(1)).get());
+    }
+
+    private Members member() {
+        return new Members(
+                MEMBER_ID,
+                "test@example.com",
+                "testUser",
+                "google",
+                "test.png",
+                1_000_000,
+                0,
+                LocalDateTime.now());
+    }
+}
@@ -0,0 +1,136 @@
+package io.gaboja9.mockstock.domain.portfolios.live;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.gaboja9.mockstock.domain.members.entity.Members;
+import io.gaboja9.mockstock.domain.members.repository.MembersRepository;
+import io.gaboja9.mockstock.domain.portfolios.dto.response.PortfoliosResponseDto;
+import io.gaboja9.mockstock.domain.portfolios.entity.Portfolios;
+import io.gaboja9.mockstock.domain.portfolios.repository.PortfoliosRepository;
+import io.gaboja9.mockstock.domain.portfolios.service.PortfoliosService;
+import io.gaboja9.mockstock.global.websocket.dto.StockPriceDto;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@ExtendWith(MockitoExtension.class)
+class LivePortfolioPublisherTest {
+
+    @InjectMocks private LivePortfolioPublisher livePortfolioPublisher;
+
+    @Mock private PortfoliosService portfoliosService;
+    @Mock private PortfoliosRepository portfoliosRepository;
+    @Mock private MembersRepository membersRepository;
+    @Mock private SimpMessagingTemplate messagingTemplate;
+
+    private final Long memberId = 1L;
+
+    @BeforeEach
+    void setUp() {
+        Members member =
+                new Members(
+                        memberId,
+                        "test@example.com",
+                        "testUser",
+                        "LOCAL",
+                        "profile.png",
+                        30_000_000,
+                        0,
+                        LocalDateTime.now());
+        given(membersRepository.findById(memberId)).willReturn(Optional.of(member));
+        given(portfoliosRepository.findByMembersId(memberId))
+                .willReturn(List.of(new Portfolios("005930", "삼성전자", 10, 70_000, member)));
+        given(portfoliosService.buildResponse(anyList(), anyInt(), anyInt()))
+                .willReturn(PortfoliosResponseDto.builder().build());
+    }
+
+    @Test
+    void 구독하면_현재_포트폴리오를_바로_보낸다() {
+        livePortfolioPublisher.onSubscribe(subscribe("session-1", "sub-0"));
+
+        livePortfolioPublisher.publish();
+
+        verify(messagingTemplate)
+                .convertAndSendToUser(eq("1"), eq("/queue/portfolio"), any(Object.class));
+    }
+
+    @Test
+    void 보유_종목_틱이_여러번_와도_주기당_한번만_보낸다() {
+        livePortfolioPublisher.onSubscribe(subscribe("session-1", "sub-0"));
+        livePortfolioPublisher.publish();
+        clearInvocations(messagingTemplate);
+
+        livePortfolioPublisher.onStockPrice(price("005930", 71_000));
+        livePortfolioPublisher.onStockPrice(price("005930", 72_000));
+        livePortfolioPublisher.onStockPrice(price("000660", 200_000)); // 미보유 종목
+        livePortfolioPublisher.publish();
+        livePortfolioPublisher.publish();
+
+        verify(messagingTemplate, times(1))
+                .convertAndSendToUser(eq("1"), eq("/queue/portfolio"), any(Object.class));
+    }
+
+    @Test
+    void 구독을_해제하면_더_이상_보내지_않는다() {
+        livePortfolioPublisher.onSubscribe(subscribe("session-1", "sub-0"));
+        livePortfolioPublisher.publish();
+        clearInvocations(messagingTemplate);
+
+        livePortfolioPublisher.onUnsubscribe(unsubscribe("session-1", "sub-0"));
+        livePortfolioPublisher.onStockPrice(price("005930", 71_000));
+        livePortfolioPublisher.publish();
+
+        verify(messagingTemplate, never()).convertAndSendToUser(anyString(), anyString(), any());
+    }
+
+    private SessionSubscribeEvent subscribe(String sessionId, String subscriptionId) {
+        return new SessionSubscribeEvent(
+                this,
+                message(StompCommand.SUBSCRIBE, sessionId, subscriptionId),
+                new UsernamePasswordAuthenticationToken(String.valueOf(memberId), null, List.of()));
+    }
+
+    private SessionUnsubscribeEvent unsubscribe(String sessionId, String subscriptionId) {
+        return new SessionUnsubscribeEvent(
+                this, message(StompCommand.UNSUBSCRIBE, sessionId, subscriptionId));
+    }
+
+    private Message<byte[]> message(StompCommand command, String sessionId, String subscriptionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        if (command == StompCommand.SUBSCRIBE) {
+            accessor.setDestination("/user/queue/portfolio");
+        }
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private StockPriceDto price(String stockCode, int price) {
+        return StockPriceDto.builder().stockCode(stockCode).currentPrice(price).build();
+    }
+}
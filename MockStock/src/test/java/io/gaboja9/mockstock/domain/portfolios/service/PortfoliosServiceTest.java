@@ -183,7 +183,7 @@ class PortfoliosServiceTest {
         Portfolios portfolio = new Portfolios(stockCode, stockName, 10, 150, member);
 
         given(membersRepository.findById(memberId)).willReturn(Optional.of(member));
-        given(portfoliosRepository.findByMembersIdAndStockCodeWithLock(memberId, stockCode))
+        given(portfoliosRepository.findByMembersIdAndStockCode(memberId, stockCode))
                 .willReturn(Optional.of(portfolio));
 
         // when
@@ -216,7 +216,7 @@ class PortfoliosServiceTest {
                         LocalDateTime.now());
 
         given(membersRepository.findById(memberId)).willReturn(Optional.of(member));
-        given(portfoliosRepository.findByMembersIdAndStockCodeWithLock(memberId, stockCode))
+        given(portfoliosRepository.findByMembersIdAndStockCode(memberId, stockCode))
                 .willReturn(Optional.empty());
 
         // when
@@ -247,7 +247,7 @@ class PortfoliosServiceTest {
         Portfolios portfolio = new Portfolios(stockCode, "애플", 10, 150, member);
 
         given(membersRepository.findById(memberId)).willReturn(Optional.of(member));
-        given(portfoliosRepository.findByMembersIdAndStockCodeWithLock(memberId, stockCode))
+        given(portfoliosRepository.findByMembersIdAndStockCode(memberId, stockCode))
                 .willReturn(Optional.of(portfolio));
 
         // when
@@ -280,7 +280,7 @@ class PortfoliosServiceTest {
         Portfolios portfolio = new Portfolios(stockCode, "애플", 10, 150, member);
 
         given(membersRepository.findById(memberId)).willReturn(Optional.of(member));
-        given(portfoliosRepository.findByMembersIdAndStockCodeWithLock(memberId, stockCode))
+        given(portfoliosRepository.findByMembersIdAndStockCode(memberId, stockCode))
                 .willReturn(Optional.of(portfolio));
 
         // when
@@ -312,7 +312,7 @@ class PortfoliosServiceTest {
         when(membersRepository.findById(memberId)).thenReturn(Optional.of(member));
 
         // 포트폴리오는 없음
-        when(portfoliosRepository.findByMembersIdAndStockCodeWithLock(memberId, stockCode))
+        when(portfoliosRepository.findByMembersIdAndStockCode(memberId, stockCode))
                 .thenReturn(Optional.empty());
 
         // when & then
@@ -0,0 +1,167 @@
+package io.gaboja9.mockstock.domain.ranks.live;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.gaboja9.mockstock.domain.members.repository.MembersRepository;
+import io.gaboja9.mockstock.domain.portfolios.repository.PortfoliosRepository;
+import io.gaboja9.mockstock.domain.ranks.dto.RankingHoldingRow;
+import io.gaboja9.mockstock.domain.ranks.dto.RankingMemberRow;
+import io.gaboja9.mockstock.domain.ranks.dto.RanksDto;
+import io.gaboja9.mockstock.domain.ranks.repository.RankingRedisRepository;
+import io.gaboja9.mockstock.global.websocket.HantuWebSocketHandler;
+import io.gaboja9.mockstock.global.websocket.dto.StockPriceDto;
+import io.gaboja9.mockstock.global.websocket.dto.StockQuote;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@ExtendWith(MockitoExtension.class)
+class LiveValuationEngineTest {
+
+    @InjectMocks private LiveValuationEngine liveValuationEngine;
+
+    @Mock private MembersRepository membersRepository;
+    @Mock private PortfoliosRepository portfoliosRepository;
+    @Mock private RankingRedisRepository rankingRedisRepository;
+    @Mock private HantuWebSocketHandler hantuWebSocketHandler;
+
+    @Captor private ArgumentCaptor<List<RanksDto>> ranksCaptor;
+
+    @Test
+    void rebuild_회원별_총자산과_수익률을_계산한다() {
+        givenPrice("005930", 80_000);
+        givenPrice("000660", 200_000);
+
+        Map<Long, RanksDto> ranks = byMember(liveValuationEngine.rebuild(members(), holdings()));
+
+        // 1번: 현금 1,000만 + 주식 2,600만, 원금 3,500만
+        assertThat(ranks.get(1L).getTotalAsset()).isEqualTo(36_000_000);
+        assertThat(ranks.get(1L).getTotalInvestment()).isEqualTo(35_000_000);
+        assertThat(ranks.get(1L).getTotalProfit()).isEqualTo(1_000_000);
+        assertThat(ranks.get(1L).getReturnRate()).isEqualTo(2.86);
+        assertThat(ranks.get(2L).getTotalProfit()).isZero();
+        assertThat(ranks.get(2L).getBankruptcyCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 체결가가_바뀌면_해당_종목_보유자만_다시_반영한다() {
+        givenPrice("005930", 80_000);
+        givenPrice("000660", 200_000);
+        liveValuationEngine.rebuild(members(), holdings());
+
+        liveValuationEngine.onStockPrice(price("005930", 81_000));
+        liveValuationEngine.flush();
+
+        verify(rankingRedisRepository).updateMembers(ranksCaptor.capture());
+        assertThat(ranksCaptor.getValue()).hasSize(1);
+        RanksDto updated = ranksCaptor.getValue().get(0);
+        assertThat(updated.getMemberId()).isEqualTo(1L);
+        // 300주 x 1,000원 상승
+        assertThat(updated.getTotalAsset()).isEqualTo(36_300_000);
+    }
+
+    @Test
+    void 보유하지_않은_종목_틱은_무시한다() {
+        givenPrice("005930", 80_000);
+        givenPrice("000660", 200_000);
+        liveValuationEngine.rebuild(members(), holdings());
+
+        liveValuationEngine.onStockPrice(price("035720", 50_000));
+        liveValuationEngine.flush();
+
+        verify(rankingRedisRepository, never()).updateMembers(anyList());
+    }
+
+    @Test
+    void 포지션이_바뀐_회원은_DB에서_다시_읽어_반영한다() {
+        givenPrice("005930", 80_000);
+        givenPrice("000660", 200_000);
+        liveValuationEngine.rebuild(members(), holdings());
+        given(membersRepository.findRankingRowsByIdIn(Set.of(2L)))
+                .willReturn(List.of(new RankingMemberRow(2L, "현금왕", 22_000_000, 0, 1)));
+        given(portfoliosRepository.findRankingHoldingsByMemberIdIn(Set.of(2L)))
+                .willReturn(List.of(new RankingHoldingRow(2L, "005930", 100)));
+
+        liveValuationEngine.onPositionChanged(2L);
+        liveValuationEngine.flush();
+        liveValuationEngine.onStockPrice(price("005930", 79_000));
+        liveValuationEngine.flush();
+
+        verify(rankingRedisRepository, times(2)).updateMembers(ranksCaptor.capture());
+        Map<Long, RanksDto> afterTick = byMember(ranksCaptor.getAllValues().get(1));
+        // 새로 산 100주도 체결가 하락을 반영합니다.
+        assertThat(afterTick.get(2L).getTotalAsset()).isEqualTo(22_000_000 + 100 * 79_000);
+        assertThat(afterTick.get(1L).getTotalAsset()).isEqualTo(36_000_000 - 300 * 1_000);
+    }
+
+    @Test
+    void 보유자가_없어진_종목은_다음_보유자를_새_가격으로_평가한다() {
+        givenPrice("005930", 80_000);
+        given(hantuWebSocketHandler.getQuote("000660"))
+                .willReturn(
+                        new StockQuote("000660", 200_000, 0L, false),
+                        new StockQuote("000660", 210_000, 0L, false));
+        liveValuationEngine.rebuild(members(), holdings());
+
+        // 1번이 000660을 모두 팔아 보유자가 없어진 뒤 가격이 오릅니다.
+        given(membersRepository.findRankingRowsByIdIn(Set.of(1L)))
+                .willReturn(List.of(new RankingMemberRow(1L, "투자왕", 12_000_000, 5_000_000, 0)));
+        given(portfoliosRepository.findRankingHoldingsByMemberIdIn(Set.of(1L)))
+                .willReturn(List.of(new RankingHoldingRow(1L, "005930", 300)));
+        liveValuationEngine.onPositionChanged(1L);
+        liveValuationEngine.flush();
+        liveValuationEngine.onStockPrice(price("000660", 210_000));
+
+        given(membersRepository.findRankingRowsByIdIn(Set.of(2L)))
+                .willReturn(List.of(new RankingMemberRow(2L, "현금왕", 27_900_000, 0, 1)));
+        given(portfoliosRepository.findRankingHoldingsByMemberIdIn(Set.of(2L)))
+                .willReturn(List.of(new RankingHoldingRow(2L, "000660", 10)));
+        liveValuationEngine.onPositionChanged(2L);
+        liveValuationEngine.flush();
+
+        verify(rankingRedisRepository, times(2)).updateMembers(ranksCaptor.capture());
+        RanksDto buyer = byMember(ranksCaptor.getAllValues().get(1)).get(2L);
+        assertThat(buyer.getTotalAsset()).isEqualTo(27_900_000 + 10 * 210_000);
+    }
+
+    private List<RankingMemberRow> members() {
+        return List.of(
+                new RankingMemberRow(1L, "투자왕", 10_000_000, 5_000_000, 0),
+                new RankingMemberRow(2L, "현금왕", 30_000_000, 0, 1));
+    }
+
+    private List<RankingHoldingRow> holdings() {
+        return List.of(
+                new RankingHoldingRow(1L, "005930", 300), new RankingHoldingRow(1L, "000660", 10));
+    }
+
+    private void givenPrice(String stockCode, int price) {
+        given(hantuWebSocketHandler.getQuote(stockCode))
+                .willReturn(new StockQuote(stockCode, price, 0L, false));
+    }
+
+    private StockPriceDto price(String stockCode, int price) {
+        return StockPriceDto.builder().stockCode(stockCode).currentPrice(price).build();
+    }
+
+    private Map<Long, RanksDto> byMember(List<RanksDto> ranks) {
+        Map<Long, RanksDto> byMember = new HashMap<>();
+        ranks.forEach(dto -> byMember.put(dto.getMemberId(), dto));
+        return byMember;
+    }
+}
@@ -0,0 +1,151 @@
+package io.gaboja9.mockstock.domain.ranks.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import io.gaboja9.mockstock.domain.members.repository.MembersRepository;
+import io.gaboja9.mockstock.domain.portfolios.repository.PortfoliosRepository;
+import io.gaboja9.mockstock.domain.ranks.dto.RankingRequest;
+import io.gaboja9.mockstock.domain.ranks.dto.RankingResponse;
+import io.gaboja9.mockstock.domain.ranks.dto.RanksDto;
+import io.gaboja9.mockstock.domain.ranks.entity.RanksType;
+import io.gaboja9.mockstock.domain.ranks.live.LiveValuationEngine;
+import io.gaboja9.mockstock.domain.ranks.repository.RankingRedisRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@ExtendWith(MockitoExtension.class)
+class RanksServiceTest {
+
+    @InjectMocks private RanksService ranksService;
+
+    @Mock private MembersRepository membersRepository;
+
+    @Mock private PortfoliosRepository portfoliosRepository;
+
+    @Mock private LiveValuationEngine liveValuationEngine;
+
+    @Mock private RankingRedisRepository rankingRedisRepository;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(ranksService, "staleAfter", Duration.ofMinutes(40));
+    }
+
+    @Test
+    void getRankingWithPagination_요청한_페이지만_읽고_순위를_채운다() {
+        RanksType type = RanksType.RETURN_RATE;
+        given(rankingRedisRepository.count(type)).willReturn(12L);
+        given(rankingRedisRepository.findMemberIds(type, 0, 4))
+                .willReturn(List.of(1L, 2L, 3L, 4L, 5L));
+        given(rankingRedisRepository.findMemberIds(type, 5, 9))
+                .willReturn(List.of(6L, 7L, 8L, 9L, 10L));
+        given(rankingRedisRepository.findRank(type, 8L)).willReturn(8);
+        given(rankingRedisRepository.findDetails(anyCollection())).willReturn(details(1, 10));
+        given(rankingRedisRepository.findLastUpdated())
+                .willReturn(LocalDateTime.now().minusMinutes(10));
+
+        RankingResponse response =
+                ranksService.getRankingWithPagination(8L, RankingRequest.of(type, 1, 5));
+
+        assertThat(response.getTopRankers()).extracting(RanksDto::getRank)
+                .containsExactly(1, 2, 3, 4, 5);
+        assertThat(response.getRankers()).extracting(RanksDto::getMemberId)
+                .containsExactly(6L, 7L, 8L, 9L, 10L);
+        assertThat(response.getRankers()).extracting(RanksDto::getRank)
+                .containsExactly(6, 7, 8, 9, 10);
+        assertThat(response.getMyRanking().getRank()).isEqualTo(8);
+        assertThat(response.getPagination().getTotalElements()).isEqualTo(12);
+        assertThat(response.getPagination().getTotalPages()).isEqualTo(3);
+        assertThat(response.getPagination().isHasNext()).isTrue();
+        assertThat(response.isStale()).isFalse();
+        verify(rankingRedisRepository, never()).replaceAll(anyList());
+    }
+
+    @Test
+    void getRankingWithPagination_갱신주기가_지난_랭킹은_stale로_표시한다() {
+        RanksType type = RanksType.PROFIT;
+        given(rankingRedisRepository.count(type)).willReturn(1L);
+        given(rankingRedisRepository.findMemberIds(type, 0, 4)).willReturn(List.of(1L));
+        given(rankingRedisRepository.findDetails(anyCollection())).willReturn(details(1, 1));
+        given(rankingRedisRepository.findLastUpdated())
+                .willReturn(LocalDateTime.now().minusHours(2));
+
+        RankingResponse response =
+                ranksService.getRankingWithPagination(1L, RankingRequest.of(type, 0, 5));
+
+        assertThat(response.isStale()).isTrue();
+        assertThat(response.getTopRankers()).hasSize(1);
+        // 저장된 랭킹을 먼저 돌려주고 재계산은 백그라운드에서 한 번만 실행합니다.
+        verify(rankingRedisRepository, timeout(1_000)).tryLockRefresh(anyString(), any());
+    }
+
+    @Test
+    void getRankingWithPagination_랭킹이_없으면_기다리지_않고_빈_결과를_stale로_돌려준다() {
+        RanksType type = RanksType.RETURN_RATE;
+        given(rankingRedisRepository.count(type)).willReturn(0L);
+        given(rankingRedisRepository.findMemberIds(type, 0, 4)).willReturn(List.of());
+        given(rankingRedisRepository.findDetails(anyCollection())).willReturn(Map.of());
+        given(rankingRedisRepository.tryLockRefresh(anyString(), any())).willReturn(true);
+
+        RankingResponse response =
+                ranksService.getRankingWithPagination(1L, RankingRequest.of(type, 0, 5));
+
+        assertThat(response.isStale()).isTrue();
+        assertThat(response.getRankers()).isEmpty();
+        assertThat(response.getPagination().getTotalElements()).isZero();
+        verify(rankingRedisRepository, timeout(1_000)).replaceAll(anyList());
+    }
+
+    @Test
+    void getMemberReturnRateRank_랭킹이_없으면_null을_돌려주고_백그라운드에서_계산한다() {
+        given(rankingRedisRepository.findRank(RanksType.RETURN_RATE, 1L)).willReturn(null);
+        given(rankingRedisRepository.count(RanksType.RETURN_RATE)).willReturn(0L);
+        given(rankingRedisRepository.tryLockRefresh(anyString(), any())).willReturn(true);
+
+        Integer rank = ranksService.getMemberReturnRateRank(1L);
+
+        assertThat(rank).isNull();
+        verify(rankingRedisRepository, timeout(1_000)).replaceAll(anyList());
+        verify(rankingRedisRepository, timeout(1_000)).unlockRefresh(anyString());
+    }
+
+    @Test
+    void updateAndCacheRanks_다른_서버가_계산중이면_기다리지_않고_넘어간다() {
+        given(rankingRedisRepository.tryLockRefresh(anyString(), any())).willReturn(false);
+
+        ranksService.updateAndCacheRanks();
+
+        verify(rankingRedisRepository, never()).replaceAll(anyList());
+        verify(rankingRedisRepository, never()).unlockRefresh(anyString());
+        verifyNoInteractions(membersRepository);
+    }
+
+    private Map<Long, RanksDto> details(long from, long to) {
+        Map<Long, RanksDto> details = new HashMap<>();
+        for (long id = from; id <= to; id++) {
+            details.put(id, RanksDto.builder().memberId(id).nickname("user" + id).build());
+        }
+        return details;
+    }
+}
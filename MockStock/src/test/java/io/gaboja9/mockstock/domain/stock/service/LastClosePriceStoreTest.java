@@ -0,0 +1,61 @@
+package io.gaboja9.mockstock.domain.stock.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import io.gaboja9.mockstock.domain.stock.measurement.DailyStockPrice;
+import io.gaboja9.mockstock.domain.stock.repository.StocksDailyRepository;
+import io.gaboja9.mockstock.global.websocket.dto.StockQuote;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+class LastClosePriceStoreTest {
+
+    @InjectMocks private LastClosePriceStore lastClosePriceStore;
+
+    @Mock private StocksDailyRepository stocksDailyRepository;
+
+    private final Instant closedAt = Instant.parse("2025-07-23T00:00:00Z");
+
+    @Test
+    void 종목별_마지막_종가를_stale로_돌려준다() {
+        given(stocksDailyRepository.findLatestDailyPricesOfAllStocks())
+                .willReturn(List.of(daily("005930", 61_400L), daily("000660", null)));
+
+        lastClosePriceStore.reload();
+
+        assertThat(lastClosePriceStore.getQuote("005930"))
+                .isEqualTo(new StockQuote("005930", 61_400, closedAt.toEpochMilli(), true));
+        // 종가가 없는 일봉은 건너뜁니다.
+        assertThat(lastClosePriceStore.getQuote("000660").hasPrice()).isFalse();
+        assertThat(lastClosePriceStore.getQuote("035720").stale()).isTrue();
+    }
+
+    @Test
+    void 다시_읽다_실패하면_이전_종가를_유지한다() {
+        given(stocksDailyRepository.findLatestDailyPricesOfAllStocks())
+                .willReturn(List.of(daily("005930", 61_400L)))
+                .willThrow(new IllegalStateException("influx down"));
+
+        lastClosePriceStore.reload();
+        lastClosePriceStore.reload();
+
+        assertThat(lastClosePriceStore.getQuote("005930").price()).isEqualTo(61_400);
+    }
+
+    private DailyStockPrice daily(String stockCode, Long closePrice) {
+        DailyStockPrice price = new DailyStockPrice();
+        price.setStockCode(stockCode);
+        price.setClosePrice(closePrice);
+        price.setTimestamp(closedAt);
+        return price;
+    }
+}
@@ -0,0 +1,67 @@
+package io.gaboja9.mockstock.global.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.gaboja9.mockstock.global.config.IdSequenceInitializer.IdSequence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.UUID;
+
+class IdSequenceInitializerTest {
+
+    private static final IdSequence ORDERS = new IdSequence("orders", "orders_seq");
+
+    private JdbcTemplate jdbcTemplate;
+    private IdSequenceInitializer initializer;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource =
+                new DriverManagerDataSource(
+                        "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table orders (id bigint primary key)");
+        initializer = new IdSequenceInitializer(jdbcTemplate);
+    }
+
+    @Test
+    void 새로_만든_시퀀스_테이블을_기존_최대_ID_뒤로_올린다() {
+        jdbcTemplate.update("insert into orders (id) values (1), (2), (1234)");
+        // ddl-auto가 만든 직후 상태
+        jdbcTemplate.execute("create table orders_seq (next_val bigint)");
+        jdbcTemplate.update("insert into orders_seq (next_val) values (1)");
+
+        initializer.seed(ORDERS);
+
+        assertThat(nextVal()).isEqualTo(1234 + IdSequenceInitializer.ALLOCATION_SIZE + 1);
+    }
+
+    @Test
+    void 이미_충분히_크면_그대로_둔다() {
+        jdbcTemplate.update("insert into orders (id) values (10)");
+        jdbcTemplate.execute("create table orders_seq (next_val bigint)");
+        jdbcTemplate.update("insert into orders_seq (next_val) values (5000)");
+
+        initializer.seed(ORDERS);
+        initializer.seed(ORDERS);
+
+        assertThat(nextVal()).isEqualTo(5000);
+    }
+
+    @Test
+    void 시퀀스_테이블이_없으면_만들고_채운다() {
+        initializer.seed(ORDERS);
+
+        assertThat(nextVal()).isEqualTo(IdSequenceInitializer.ALLOCATION_SIZE + 1);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from orders_seq", Long.class))
+                .isEqualTo(1L);
+    }
+
+    private long nextVal() {
+        return jdbcTemplate.queryForObject("select next_val from orders_seq", Long.class);
+    }
+}
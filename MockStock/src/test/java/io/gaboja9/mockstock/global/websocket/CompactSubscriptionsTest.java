@@ -0,0 +1,75 @@
+package io.gaboja9.mockstock.global.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+class CompactSubscriptionsTest {
+
+    private final CompactSubscriptions compactSubscriptions = new CompactSubscriptions();
+
+    @Test
+    void 압축_토픽과_format_헤더_구독만_센다() {
+        compactSubscriptions.onSubscribe(subscribe("c1", "s1", "/topic/stock/005930", null));
+        compactSubscriptions.onSubscribe(subscribe("c1", "s2", "/topic/stock-slow/005930", null));
+        assertThat(compactSubscriptions.hasSubscribers("005930")).isFalse();
+
+        compactSubscriptions.onSubscribe(
+                subscribe("c1", "s3", "/topic/stock-compact/005930", null));
+        compactSubscriptions.onSubscribe(subscribe("c2", "s1", "/topic/stock/000660", "compact"));
+
+        assertThat(compactSubscriptions.hasSubscribers("005930")).isTrue();
+        assertThat(compactSubscriptions.hasSubscribers("000660")).isTrue();
+    }
+
+    @Test
+    void 마지막_구독자가_해제하거나_끊기면_구독자가_없다() {
+        compactSubscriptions.onSubscribe(subscribe("c1", "s1", "/topic/stock/005930", "compact"));
+        compactSubscriptions.onSubscribe(
+                subscribe("c2", "s1", "/topic/stock-compact/005930", null));
+
+        compactSubscriptions.onUnsubscribe(unsubscribe("c1", "s1"));
+        assertThat(compactSubscriptions.hasSubscribers("005930")).isTrue();
+
+        compactSubscriptions.onDisconnect(
+                new SessionDisconnectEvent(this, disconnect("c2"), "c2", CloseStatus.NORMAL));
+        assertThat(compactSubscriptions.hasSubscribers("005930")).isFalse();
+    }
+
+    private SessionSubscribeEvent subscribe(
+            String sessionId, String subscriptionId, String destination, String format) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        if (format != null) {
+            accessor.setNativeHeader(StockTopics.FORMAT_HEADER, format);
+        }
+        return new SessionSubscribeEvent(this, message(accessor));
+    }
+
+    private SessionUnsubscribeEvent unsubscribe(String sessionId, String subscriptionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.UNSUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        return new SessionUnsubscribeEvent(this, message(accessor));
+    }
+
+    private Message<byte[]> disconnect(String sessionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+        accessor.setSessionId(sessionId);
+        return message(accessor);
+    }
+
+    private Message<byte[]> message(StompHeaderAccessor accessor) {
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,215 @@
+package io.gaboja9.mockstock.global.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.gaboja9.mockstock.domain.orders.book.LimitOrderBook;
+import io.gaboja9.mockstock.domain.portfolios.repository.PortfoliosRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.List;
+import java.util.Set;
+
+@ExtendWith(MockitoExtension.class)
+class HantuSubscriptionManagerTest {
+
+    @Mock private HantuWebSocketHandler hantuWebSocketHandler;
+    @Mock private HantuWebSocketSessionManager sessionManager;
+    @Mock private PortfoliosRepository portfoliosRepository;
+    @Mock private LimitOrderBook limitOrderBook;
+    @Mock private WebSocketSession first;
+    @Mock private WebSocketSession second;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(first.getId()).thenReturn("hantu-1");
+        lenient().when(second.getId()).thenReturn("hantu-2");
+        lenient().when(hantuWebSocketHandler.subscribeStockPrice(any(), anyString()))
+                .thenReturn(true);
+        lenient().when(portfoliosRepository.findHeldStockCodes()).thenReturn(List.of());
+        lenient().when(limitOrderBook.getStockCodes()).thenReturn(Set.of());
+    }
+
+    @Test
+    void 주문_보유_구독_고정_종목을_모두_등록한다() {
+        given(sessionManager.getOpenSessions()).willReturn(List.of(first));
+        given(limitOrderBook.getStockCodes()).willReturn(Set.of("000660", "035720"));
+        given(limitOrderBook.size("000660")).willReturn(1);
+        given(limitOrderBook.size("035720")).willReturn(0); // 주문이 모두 빠진 호가창
+        given(portfoliosRepository.findHeldStockCodes()).willReturn(List.of("005380"));
+        HantuSubscriptionManager manager = manager(List.of("005930"), 40, 60_000);
+        manager.onSubscribe(subscribe("client-1", "sub-0", "/topic/stock/068270"));
+
+        manager.reconcile();
+
+        assertThat(manager.getSubscribedStockCodes())
+                .containsExactlyInAnyOrder("000660", "005380", "068270", "005930");
+        verify(hantuWebSocketHandler, never()).subscribeStockPrice(first, "035720");
+    }
+
+    @Test
+    void 같은_종목을_여러명이_구독해도_한번만_등록하고_모두_해제되면_내린다() {
+        given(sessionManager.getOpenSessions()).willReturn(List.of(first));
+        HantuSubscriptionManager manager = manager(List.of(), 40, 0);
+        manager.onSubscribe(subscribe("client-1", "sub-0", "/topic/stock/068270"));
+        manager.onSubscribe(subscribe("client-2", "sub-0", "/topic/stock-slow/068270"));
+        manager.reconcile();
+
+        manager.onUnsubscribe(unsubscribe("client-1", "sub-0"));
+        manager.reconcile();
+
+        verify(hantuWebSocketHandler, times(1)).subscribeStockPrice(first, "068270");
+        verify(hantuWebSocketHandler, never()).unsubscribeStockPrice(any(), anyString());
+
+        manager.onDisconnect(
+                new SessionDisconnectEvent(this, disconnect(), "client-2", CloseStatus.NORMAL));
+        manager.reconcile();
+
+        verify(hantuWebSocketHandler).unsubscribeStockPrice(first, "068270");
+        assertThat(manager.getSubscribedStockCodes()).isEmpty();
+    }
+
+    @Test
+    void 유예_시간_동안은_구독이_없어도_유지한다() {
+        given(sessionManager.getOpenSessions()).willReturn(List.of(first));
+        HantuSubscriptionManager manager = manager(List.of(), 40, 60_000);
+        manager.onSubscribe(subscribe("client-1", "sub-0", "/topic/stock/068270"));
+        manager.reconcile();
+
+        manager.onUnsubscribe(unsubscribe("client-1", "sub-0"));
+        manager.reconcile();
+
+        verify(hantuWebSocketHandler, never()).unsubscribeStockPrice(any(), anyString());
+        assertThat(manager.getSubscribedStockCodes()).containsExactly("068270");
+    }
+
+    @Test
+    void 세션당_한도를_넘으면_다른_세션에_나눠_등록한다() {
+        given(sessionManager.getOpenSessions()).willReturn(List.of(first, second));
+        HantuSubscriptionManager manager =
+                manager(List.of("005930", "000660", "035420", "035720"), 2, 60_000);
+
+        manager.reconcile();
+
+        verify(hantuWebSocketHandler, times(2)).subscribeStockPrice(eq(first), anyString());
+        verify(hantuWebSocketHandler, times(2)).subscribeStockPrice(eq(second), anyString());
+    }
+
+    @Test
+    void 한도가_차면_유예_중인_종목을_먼저_내린다() {
+        given(sessionManager.getOpenSessions()).willReturn(List.of(first));
+        HantuSubscriptionManager manager = manager(List.of(), 1, 60_000);
+        manager.onSubscribe(subscribe("client-1", "sub-0", "/topic/stock/068270"));
+        manager.reconcile();
+
+        manager.onUnsubscribe(unsubscribe("client-1", "sub-0"));
+        manager.onSubscribe(subscribe("client-1", "sub-1", "/topic/stock/005930"));
+        manager.reconcile();
+
+        verify(hantuWebSocketHandler).unsubscribeStockPrice(first, "068270");
+        assertThat(manager.getSubscribedStockCodes()).containsExactly("005930");
+    }
+
+    @Test
+    void 한도가_차도_새_주문_종목은_보기만_하는_종목을_내리고_등록한다() {
+        given(sessionManager.getOpenSessions()).willReturn(List.of(first));
+        given(limitOrderBook.getStockCodes()).willReturn(Set.of(), Set.of("000660"));
+        given(limitOrderBook.size("000660")).willReturn(1);
+        HantuSubscriptionManager manager = manager(List.of("005930"), 2, 60_000);
+        manager.onSubscribe(subscribe("client-1", "sub-0", "/topic/stock/068270"));
+        manager.reconcile();
+
+        manager.reconcile();
+
+        // 고정 종목이 보기만 하는 종목보다 뒤에 있으므로 먼저 내립니다.
+        verify(hantuWebSocketHandler).unsubscribeStockPrice(first, "005930");
+        assertThat(manager.getSubscribedStockCodes()).containsExactlyInAnyOrder("000660", "068270");
+    }
+
+    @Test
+    void 세션이_끊기면_남은_세션에_다시_등록한다() {
+        given(sessionManager.getOpenSessions())
+                .willReturn(List.of(first, second), List.of(second));
+        HantuSubscriptionManager manager = manager(List.of("005930", "000660"), 2, 60_000);
+        manager.reconcile();
+
+        manager.reconcile();
+
+        assertThat(manager.getSubscribedStockCodes()).hasSize(2);
+        verify(hantuWebSocketHandler, times(2)).subscribeStockPrice(eq(second), anyString());
+    }
+
+    @Test
+    void 포지션이_바뀌면_보유_종목을_다시_읽는다() {
+        given(sessionManager.getOpenSessions()).willReturn(List.of(first));
+        given(portfoliosRepository.findHeldStockCodes())
+                .willReturn(List.of(), List.of("005380"));
+        HantuSubscriptionManager manager = manager(List.of(), 40, 60_000);
+        manager.reconcile();
+
+        manager.onPositionChanged(1L);
+        manager.reconcile();
+
+        verify(hantuWebSocketHandler).subscribeStockPrice(first, "005380");
+    }
+
+    private HantuSubscriptionManager manager(
+            List<String> pinned, int maxPerSession, long lingerMillis) {
+        return new HantuSubscriptionManager(
+                hantuWebSocketHandler,
+                sessionManager,
+                portfoliosRepository,
+                limitOrderBook,
+                pinned,
+                maxPerSession,
+                lingerMillis,
+                300_000);
+    }
+
+    private SessionSubscribeEvent subscribe(
+            String sessionId, String subscriptionId, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        return new SessionSubscribeEvent(this, message(accessor));
+    }
+
+    private SessionUnsubscribeEvent unsubscribe(String sessionId, String subscriptionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.UNSUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        return new SessionUnsubscribeEvent(this, message(accessor));
+    }
+
+    private Message<byte[]> disconnect() {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+        accessor.setSessionId("client-2");
+        return message(accessor);
+    }
+
+    private Message<byte[]> message(StompHeaderAccessor accessor) {
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
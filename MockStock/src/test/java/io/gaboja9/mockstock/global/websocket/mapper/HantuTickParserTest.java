@@ -0,0 +1,105 @@
+package io.gaboja9.mockstock.global.websocket.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+class HantuTickParserTest {
+
+    private static final String PAYLOAD =
+            "0|H0STCNT0|001|005930^093015^71500^5^-1500^-2.14^71000.00^70500^72000^70000"
+                    + "^71600^71500^100^1234567^88^1";
+
+    private final HantuTickFrame frame = new HantuTickFrame();
+
+    @Test
+    void 필요한_필드만_골라_채운다() {
+        int count = HantuTickParser.parseFrame(PAYLOAD, frame);
+
+        assertThat(count).isEqualTo(1);
+        HantuTick tick = frame.get(0);
+        assertThat(tick.getStockCode()).isEqualTo("005930");
+        assertThat(tick.getTradeTime()).isEqualTo("093015");
+        assertThat(tick.getCurrentPrice()).isEqualTo(71_500);
+        assertThat(tick.getDayOverDayPercent()).isEqualTo(-2.14);
+        assertThat(tick.getHighPrice()).isEqualTo(72_000);
+        assertThat(tick.getLowPrice()).isEqualTo(70_000);
+        assertThat(tick.getTradeVolume()).isEqualTo(100);
+        assertThat(tick.getCumulativeVolume()).isEqualTo(1_234_567);
+    }
+
+    @Test
+    void 같은_종목코드는_같은_문자열을_재사용한다() {
+        HantuTickParser.parseFrame(PAYLOAD, frame);
+        String stockCode = frame.get(0).getStockCode();
+
+        HantuTickParser.parseFrame(PAYLOAD, frame);
+
+        assertThat(frame.get(0).getStockCode()).isSameAs(stockCode);
+    }
+
+    @Test
+    void 숫자가_아닌_값은_0으로_처리한다() {
+        String payload = "0|H0STCNT0|001|005930^093015^abc^5^0^1.2.3^0^0^0^0^0^0^1e3^13";
+
+        int count = HantuTickParser.parseFrame(payload, frame);
+
+        assertThat(count).isEqualTo(1);
+        HantuTick tick = frame.get(0);
+        assertThat(tick.getCurrentPrice()).isZero();
+        assertThat(tick.getDayOverDayPercent()).isZero();
+        assertThat(tick.getTradeVolume()).isZero();
+        assertThat(tick.getCumulativeVolume()).isEqualTo(13);
+    }
+
+    @Test
+    void 필드가_모자라거나_체결가_메시지가_아니면_false를_반환한다() {
+        assertThat(HantuTickParser.parseFrame("0|H0STCNT0|001|005930^093015^71500", frame))
+                .isZero();
+        assertThat(HantuTickParser.parseFrame("{\"header\":{\"tr_id\":\"PINGPONG\"}}", frame))
+                .isZero();
+    }
+
+    @Test
+    void 여러_건이_묶인_메시지는_모든_체결을_읽는다() {
+        String payload =
+                "0|H0STCNT0|003|"
+                        + String.join("^", record("005930", 71_500, 10))
+                        + "^"
+                        + String.join("^", record("000660", 201_000, 3))
+                        + "^"
+                        + String.join("^", record("005930", 71_600, 7));
+
+        int count = HantuTickParser.parseFrame(payload, frame);
+
+        assertThat(count).isEqualTo(3);
+        assertThat(frame.get(1).getStockCode()).isEqualTo("000660");
+        assertThat(frame.get(1).getCurrentPrice()).isEqualTo(201_000);
+        assertThat(frame.get(2).getCurrentPrice()).isEqualTo(71_600);
+        assertThat(frame.get(2).getTradeVolume()).isEqualTo(7);
+    }
+
+    @Test
+    void 건수보다_많은_레코드와_끊긴_레코드는_버린다() {
+        String records =
+                String.join("^", record("005930", 71_500, 10))
+                        + "^"
+                        + String.join("^", record("000660", 201_000, 3));
+
+        assertThat(HantuTickParser.parseFrame("0|H0STCNT0|001|" + records, frame)).isEqualTo(1);
+        assertThat(HantuTickParser.parseFrame("0|H0STCNT0|003|" + records + "^035720^0930", frame))
+                .isEqualTo(2);
+    }
+
+    private static String[] record(String stockCode, int price, int volume) {
+        String[] fields = new String[HantuTickParser.FIELDS_PER_RECORD];
+        Arrays.fill(fields, "0");
+        fields[0] = stockCode;
+        fields[1] = "093015";
+        fields[2] = String.valueOf(price);
+        fields[12] = String.valueOf(volume);
+        return fields;
+    }
+}
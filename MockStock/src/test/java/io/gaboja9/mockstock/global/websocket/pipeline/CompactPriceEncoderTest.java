@@ -0,0 +1,68 @@
+package io.gaboja9.mockstock.global.websocket.pipeline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.gaboja9.mockstock.global.websocket.dto.StockPriceDto;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class CompactPriceEncoderTest {
+
+    private final CompactPriceEncoder encoder = new CompactPriceEncoder(3);
+
+    @Test
+    void 첫_프레임은_전체_값을_담은_키프레임이다() {
+        List<Object> frame = encoder.encode(price("093000", 71_000, 100));
+
+        assertThat(frame)
+                .containsExactly(0xFF, 1L, "093000", 71_000, 1.5, 72_000, 70_000, 100L, 1_000L);
+    }
+
+    @Test
+    void 이후_프레임은_바뀐_필드만_담는다() {
+        encoder.encode(price("093000", 71_000, 100));
+
+        List<Object> frame = encoder.encode(price("093001", 71_000, 200));
+
+        int flags = CompactPriceEncoder.TRADE_TIME | CompactPriceEncoder.TRADE_VOLUME;
+        assertThat(frame).containsExactly(flags, 2L, "093001", 200L);
+    }
+
+    @Test
+    void 정해진_간격마다_키프레임을_보낸다() {
+        encoder.encode(price("093000", 71_000, 100));
+        encoder.encode(price("093001", 71_000, 100));
+        encoder.encode(price("093002", 71_000, 100));
+
+        List<Object> frame = encoder.encode(price("093003", 71_000, 100));
+
+        assertThat((int) frame.get(0) & CompactPriceEncoder.KEYFRAME).isNotZero();
+        assertThat(frame).hasSize(9);
+    }
+
+    @Test
+    void 새_구독자가_오면_다음_프레임을_키프레임으로_보낸다() {
+        encoder.encode(price("093000", 71_000, 100));
+
+        encoder.requestKeyframe("005930");
+        List<Object> frame = encoder.encode(price("093000", 71_000, 100));
+
+        assertThat(frame.get(0)).isEqualTo(0xFF);
+        assertThat(encoder.encode(price("093000", 71_000, 100))).containsExactly(0, 3L);
+    }
+
+    private StockPriceDto price(String tradeTime, int currentPrice, int tradeVolume) {
+        return StockPriceDto.builder()
+                .stockCode("005930")
+                .tradeTime(tradeTime)
+                .currentPrice(currentPrice)
+                .dayOverDayPercent(1.5)
+                .highPrice(72_000)
+                .lowPrice(70_000)
+                .tradeVolume(tradeVolume)
+                .cumulativeVolume(1_000L)
+                .build();
+    }
+}
@@ -0,0 +1,111 @@
+package io.gaboja9.mockstock.global.websocket.pipeline;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.gaboja9.mockstock.global.websocket.CompactSubscriptions;
+import io.gaboja9.mockstock.global.websocket.dto.StockPriceDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+class ConflatingBroadcasterTest {
+
+    @Mock private SimpMessagingTemplate messagingTemplate;
+
+    @Mock private CompactSubscriptions compactSubscriptions;
+
+    private ConflatingBroadcaster conflatingBroadcaster;
+
+    @BeforeEach
+    void setUp() {
+        conflatingBroadcaster =
+                new ConflatingBroadcaster(
+                        messagingTemplate,
+                        new CompactPriceEncoder(25),
+                        compactSubscriptions,
+                        new SimpleMeterRegistry());
+    }
+
+    @Test
+    void 주기_사이의_체결은_종목별_마지막_것만_보낸다() {
+        StockPriceDto last = price("005930", 71_200);
+        conflatingBroadcaster.offer(List.of(price("005930", 71_000), price("000660", 200_000)));
+        conflatingBroadcaster.offer(List.of(price("005930", 71_100), last));
+
+        conflatingBroadcaster.flushFast();
+
+        verify(messagingTemplate).convertAndSend("/topic/stock/005930", last);
+        verify(messagingTemplate).convertAndSend(eq("/topic/stock/000660"), any(Object.class));
+        verify(messagingTemplate, times(2))
+                .convertAndSend(startsWith("/topic/stock/"), any(Object.class));
+    }
+
+    @Test
+    void 새_체결이_없으면_보내지_않는다() {
+        conflatingBroadcaster.offer(List.of(price("005930", 71_000)));
+        conflatingBroadcaster.flushFast();
+
+        conflatingBroadcaster.flushFast();
+
+        verify(messagingTemplate, times(1))
+                .convertAndSend(startsWith("/topic/stock/"), any(Object.class));
+    }
+
+    @Test
+    void 기본_토픽과_같은_주기로_압축_프레임도_보낸다() {
+        given(compactSubscriptions.hasSubscribers("005930")).willReturn(true);
+        conflatingBroadcaster.offer(List.of(price("005930", 71_000)));
+
+        conflatingBroadcaster.flushFast();
+
+        verify(messagingTemplate)
+                .convertAndSend(eq("/topic/stock-compact/005930"), any(Object.class));
+        verify(messagingTemplate, times(2)).convertAndSend(anyString(), any(Object.class));
+    }
+
+    @Test
+    void 압축_구독자가_없는_종목은_압축_프레임을_만들지_않는다() {
+        given(compactSubscriptions.hasSubscribers("005930")).willReturn(false);
+        conflatingBroadcaster.offer(List.of(price("005930", 71_000)));
+
+        conflatingBroadcaster.flushFast();
+
+        verify(messagingTemplate, never())
+                .convertAndSend(startsWith("/topic/stock-compact/"), any(Object.class));
+        verify(messagingTemplate).convertAndSend(eq("/topic/stock/005930"), any(Object.class));
+    }
+
+    @Test
+    void 느린_토픽은_자기_주기에만_보낸다() {
+        conflatingBroadcaster.offer(List.of(price("005930", 71_000)));
+
+        conflatingBroadcaster.flushFast();
+
+        verify(messagingTemplate, never())
+                .convertAndSend(eq("/topic/stock-slow/005930"), any(Object.class));
+
+        conflatingBroadcaster.flushSlow();
+
+        verify(messagingTemplate)
+                .convertAndSend(eq("/topic/stock-slow/005930"), any(Object.class));
+    }
+
+    private StockPriceDto price(String stockCode, int price) {
+        return StockPriceDto.builder().stockCode(stockCode).currentPrice(price).build();
+    }
+}
@@ -0,0 +1,96 @@
+package io.gaboja9.mockstock.global.websocket.pipeline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.gaboja9.mockstock.global.websocket.dto.StockPriceDto;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class LatestPriceTableTest {
+
+    @Test
+    void 종목마다_순서대로_번호를_붙이고_한도를_넘으면_거절한다() {
+        SymbolRegistry symbols = new SymbolRegistry(2);
+
+        assertThat(symbols.idOf("005930")).isZero();
+        assertThat(symbols.idOf("000660")).isEqualTo(1);
+        assertThat(symbols.idOf("005930")).isZero();
+        assertThat(symbols.idOf("035720")).isEqualTo(SymbolRegistry.UNKNOWN);
+        assertThat(symbols.find("035720")).isEqualTo(SymbolRegistry.UNKNOWN);
+        assertThat(symbols.codeOf(1)).isEqualTo("000660");
+    }
+
+    @Test
+    void 체결을_받기_전에는_가격이_없다() {
+        LatestPriceTable table = new LatestPriceTable(4);
+
+        assertThat(table.currentPrice(0)).isEqualTo(LatestPriceTable.NO_PRICE);
+        assertThat(table.snapshot(0, "005930")).isNull();
+        assertThat(table.updatedAt(0)).isZero();
+    }
+
+    @Test
+    void 기록한_체결을_그대로_읽는다() {
+        LatestPriceTable table = new LatestPriceTable(4);
+        StockPriceDto price =
+                StockPriceDto.builder()
+                        .stockCode("005930")
+                        .currentPrice(71_000)
+                        .dayOverDayPercent(1.5)
+                        .tradeTime("093000")
+                        .tradeVolume(100)
+                        .highPrice(72_000)
+                        .lowPrice(70_000)
+                        .cumulativeVolume(1_000)
+                        .build();
+
+        table.update(2, price, 1_000L);
+
+        assertThat(table.currentPrice(2)).isEqualTo(71_000);
+        assertThat(table.snapshot(2, "005930")).isEqualTo(price);
+        assertThat(table.updatedAt(2)).isEqualTo(1_000L);
+    }
+
+    @Test
+    void 쓰는_중에_읽어도_한_체결의_필드가_섞이지_않는다() throws InterruptedException {
+        LatestPriceTable table = new LatestPriceTable(1);
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger torn = new AtomicInteger();
+
+        Thread reader =
+                new Thread(
+                        () -> {
+                            while (running.get()) {
+                                StockPriceDto read = table.snapshot(0, "005930");
+                                if (read != null
+                                        && (read.getHighPrice() != read.getCurrentPrice()
+                                                || read.getLowPrice() != read.getCurrentPrice()
+                                                || read.getCumulativeVolume()
+                                                        != read.getCurrentPrice())) {
+                                    torn.incrementAndGet();
+                                }
+                            }
+                        });
+        reader.start();
+
+        for (int i = 1; i <= 200_000; i++) {
+            table.update(
+                    0,
+                    StockPriceDto.builder()
+                            .currentPrice(i)
+                            .highPrice(i)
+                            .lowPrice(i)
+                            .cumulativeVolume(i)
+                            .build(),
+                    i);
+        }
+        running.set(false);
+        reader.join();
+
+        assertThat(torn).hasValue(0);
+        assertThat(table.currentPrice(0)).isEqualTo(200_000);
+    }
+}
@@ -0,0 +1,180 @@
+package io.gaboja9.mockstock.global.websocket.pipeline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import io.gaboja9.mockstock.global.websocket.StockPriceListener;
+import io.gaboja9.mockstock.global.websocket.dto.StockPriceDto;
+import io.gaboja9.mockstock.global.websocket.service.CandleMakerService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+class MarketDataPipelineTest {
+
+    private final CandleMakerService candleMakerService = mock(CandleMakerService.class);
+    private final ConflatingBroadcaster conflatingBroadcaster = mock(ConflatingBroadcaster.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Integer> triggered = new CopyOnWriteArrayList<>();
+    private final AtomicInteger staleReads = new AtomicInteger();
+
+    private MarketDataPipeline pipeline;
+
+    @AfterEach
+    void tearDown() {
+        pipeline.stop();
+    }
+
+    @Test
+    void 리스너는_최신가가_반영된_뒤_순서대로_체결을_받는다() throws InterruptedException {
+        start(1024);
+
+        for (int price = 1; price <= 5_000; price++) {
+            pipeline.publish(List.of(price("005930", price)));
+        }
+
+        waitUntil(() -> triggered.size() == 5_000);
+        assertThat(triggered).isSorted();
+        assertThat(staleReads).hasValue(0);
+        assertThat(pipeline.getLatestPrice("005930").getCurrentPrice()).isEqualTo(5_000);
+    }
+
+    @Test
+    void 브로드캐스트가_막혀도_주문_트리거는_밀리지_않는다() throws InterruptedException {
+        CountDownLatch blocked = new CountDownLatch(1);
+        doAnswer(
+                        invocation -> {
+                            blocked.await();
+                            return null;
+                        })
+                .when(conflatingBroadcaster)
+                .offer(anyList());
+        start(8);
+
+        // 링 버퍼 크기보다 훨씬 많이 넣어도 생산자가 멈추지 않습니다.
+        for (int price = 1; price <= 1_000; price++) {
+            pipeline.publish(List.of(price("005930", price)));
+        }
+
+        waitUntil(() -> triggered.size() == 1_000);
+        blocked.countDown();
+        waitUntil(() -> gauge("market_data.pipeline.lag", "broadcast") == 0);
+        assertThat(meterRegistry.get("market_data.pipeline.dropped").tag("stage", "broadcast")
+                        .functionCounter().count())
+                .isPositive();
+        assertThat(gauge("market_data.pipeline.lag", "order-trigger")).isZero();
+    }
+
+    @Test
+    void 한동안_체결이_없어_잠든_단계도_새_체결을_순서대로_처리한다() throws InterruptedException {
+        start(1024);
+        pipeline.publish(List.of(price("005930", 1)));
+        waitUntil(() -> triggered.size() == 1);
+
+        // 짧은 park 단계를 지나 모든 단계가 잠들 때까지 기다립니다.
+        Thread.sleep(500);
+        for (int price = 2; price <= 100; price++) {
+            pipeline.publish(List.of(price("005930", price)));
+        }
+
+        waitUntil(() -> triggered.size() == 100);
+        assertThat(triggered).isSorted();
+        assertThat(staleReads).hasValue(0);
+        assertThat(gauge("market_data.pipeline.lag", "order-trigger")).isZero();
+    }
+
+    @Test
+    void 평가_리스너가_막혀도_주문_트리거는_밀리지_않는다() throws InterruptedException {
+        CountDownLatch blocked = new CountDownLatch(1);
+        AtomicInteger valued = new AtomicInteger();
+        StockPriceListener valuation =
+                new StockPriceListener() {
+                    @Override
+                    public void onStockPrice(StockPriceDto price) {
+                        try {
+                            blocked.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        valued.incrementAndGet();
+                    }
+
+                    @Override
+                    public boolean isConflating() {
+                        return true;
+                    }
+                };
+        start(8, valuation);
+
+        for (int price = 1; price <= 1_000; price++) {
+            pipeline.publish(List.of(price("005930", price)));
+        }
+
+        // 평가 리스너는 주문 트리거 단계에서 호출되지 않고, 막혀 있어도 생산자와 주문 트리거를 붙잡지 않습니다.
+        waitUntil(() -> triggered.size() == 1_000);
+        assertThat(triggered).isSorted();
+        assertThat(gauge("market_data.pipeline.lag", "order-trigger")).isZero();
+
+        blocked.countDown();
+        waitUntil(() -> gauge("market_data.pipeline.lag", "valuation") == 0);
+        assertThat(valued.get()).isPositive().isLessThan(1_000);
+    }
+
+    private void start(int ringSize) {
+        start(ringSize, null);
+    }
+
+    private void start(int ringSize, StockPriceListener conflatingListener) {
+        StockPriceListener listener =
+                price -> {
+                    StockPriceDto latest = pipeline.getLatestPrice(price.getStockCode());
+                    if (latest == null || latest.getCurrentPrice() < price.getCurrentPrice()) {
+                        staleReads.incrementAndGet();
+                    }
+                    triggered.add(price.getCurrentPrice());
+                };
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("listener", listener);
+        if (conflatingListener != null) {
+            beanFactory.addBean("conflatingListener", conflatingListener);
+        }
+
+        pipeline =
+                new MarketDataPipeline(
+                        candleMakerService,
+                        conflatingBroadcaster,
+                        beanFactory.getBeanProvider(StockPriceListener.class),
+                        meterRegistry,
+                        ringSize,
+                        64,
+                        16);
+        pipeline.start();
+    }
+
+    private double gauge(String name, String stage) {
+        return meterRegistry.get(name).tag("stage", stage).gauge().value();
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("대기 시간 초과").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private StockPriceDto price(String stockCode, int price) {
+        return StockPriceDto.builder().stockCode(stockCode).currentPrice(price).build();
+    }
+}
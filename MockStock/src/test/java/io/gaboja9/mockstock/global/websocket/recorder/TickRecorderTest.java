@@ -0,0 +1,119 @@
+package io.gaboja9.mockstock.global.websocket.recorder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.gaboja9.mockstock.global.exception.BaseException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+class TickRecorderTest {
+
+    @TempDir Path dir;
+
+    @Test
+    void 기록한_프레임을_순서대로_재생한다() throws Exception {
+        TickRecorder recorder = new TickRecorder(true, dir.toString(), 1024);
+        recorder.append("0|H0STCNT0|001|005930^093000^71400", 1_000L);
+        recorder.append("0|H0STCNT0|001|000660^093001^128000", 2_000L);
+        recorder.close();
+
+        List<String> replayed = new ArrayList<>();
+        long count = new TickReplayer(dir.toString()).replay(0, replayed::add);
+
+        assertThat(count).isEqualTo(2);
+        assertThat(replayed)
+                .containsExactly(
+                        "0|H0STCNT0|001|005930^093000^71400",
+                        "0|H0STCNT0|001|000660^093001^128000");
+    }
+
+    @Test
+    void 세그먼트가_차면_다음_파일로_넘어간다() throws Exception {
+        TickRecorder recorder = new TickRecorder(true, dir.toString(), 64);
+        for (int i = 0; i < 5; i++) {
+            recorder.append("frame-" + i + "-" + "x".repeat(20), i);
+        }
+        recorder.close();
+
+        assertThat(TickRecorder.segments(dir)).hasSize(5);
+
+        List<String> replayed = new ArrayList<>();
+        new TickReplayer(dir.toString()).replay(0, replayed::add);
+        assertThat(replayed).hasSize(5);
+        assertThat(replayed.get(0)).startsWith("frame-0-");
+    }
+
+    @Test
+    void 재시작하면_기존_세그먼트_다음_번호부터_쓴다() throws Exception {
+        TickRecorder first = new TickRecorder(true, dir.toString(), 1024);
+        first.append("first", 1L);
+        first.close();
+
+        TickRecorder second = new TickRecorder(true, dir.toString(), 1024);
+        second.append("second", 2L);
+        second.close();
+
+        assertThat(TickRecorder.segments(dir))
+                .extracting(path -> path.getFileName().toString())
+                .containsExactly("ticks-000001.log", "ticks-000002.log");
+
+        List<String> replayed = new ArrayList<>();
+        new TickReplayer(dir.toString()).replay(0, replayed::add);
+        assertThat(replayed).containsExactly("first", "second");
+    }
+
+    @Test
+    void 배속에_맞춰_기록된_간격을_지킨다() throws Exception {
+        TickRecorder recorder = new TickRecorder(true, dir.toString(), 1024);
+        recorder.append("a", 0L);
+        recorder.append("b", 200_000_000L); // 200ms 뒤
+        recorder.close();
+
+        long startedAt = System.nanoTime();
+        new TickReplayer(dir.toString()).replay(2.0, frame -> {});
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(100);
+    }
+
+    @Test
+    void 기록이_꺼져_있으면_파일을_만들지_않는다() {
+        new TickRecorder(false, dir.toString(), 1024).record("frame");
+
+        assertThat(TickRecorder.segments(dir)).isEmpty();
+    }
+
+    @Test
+    void 재생_중에는_다시_시작할_수_없다() throws Exception {
+        TickRecorder recorder = new TickRecorder(true, dir.toString(), 1024);
+        recorder.append("0|H0STCNT0|001|005930^093000^71400", 1_000L);
+        recorder.close();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        TickReplayer replayer = new TickReplayer(dir.toString());
+
+        replayer.start(
+                0,
+                frame -> {
+                    started.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> replayer.start(0, frame -> {}))
+                .isInstanceOf(BaseException.class);
+        release.countDown();
+    }
+}
@@ -0,0 +1,86 @@
+package io.gaboja9.mockstock.global.websocket.simulator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.gaboja9.mockstock.global.websocket.mapper.HantuTick;
+import io.gaboja9.mockstock.global.websocket.mapper.HantuTickFrame;
+import io.gaboja9.mockstock.global.websocket.mapper.HantuTickParser;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+class SimulatedFeedTest {
+
+    private static final long TEN_MILLIS = 10_000_000L;
+
+    @Test
+    void 만든_프레임을_한투_파서가_그대로_읽는다() {
+        SimulatedFeed feed = new SimulatedFeed(42, code -> 71_400, 1_000, Map.of(), 5);
+        List<String> frames = new ArrayList<>();
+
+        int ticks = feed.emit("005930", TEN_MILLIS, "093000", frames);
+
+        HantuTickFrame frame = new HantuTickFrame();
+        int parsed = 0;
+        for (String message : frames) {
+            assertThat(HantuTickParser.isTick(message)).isTrue();
+            int count = HantuTickParser.parseFrame(message, frame);
+            assertThat(count).isBetween(1, 5);
+            for (int i = 0; i < count; i++) {
+                HantuTick tick = frame.get(i);
+                assertThat(tick.getStockCode()).isEqualTo("005930");
+                assertThat(tick.getTradeTime()).isEqualTo("093000");
+                assertThat(tick.getCurrentPrice()).isPositive();
+                assertThat(tick.getTradeVolume()).isPositive();
+            }
+            parsed += count;
+        }
+        assertThat(ticks).isEqualTo(10);
+        assertThat(parsed).isEqualTo(ticks);
+    }
+
+    @Test
+    void 종목별_초당_체결_수를_지킨다() {
+        SimulatedFeed feed =
+                new SimulatedFeed(42, code -> 10_000, 100, Map.of("000660", 1_000), 5);
+        int samsung = 0;
+        int hynix = 0;
+
+        for (int i = 0; i < 100; i++) {
+            samsung += feed.emit("005930", TEN_MILLIS, "093000", new ArrayList<>());
+            hynix += feed.emit("000660", TEN_MILLIS, "093000", new ArrayList<>());
+        }
+
+        assertThat(samsung).isEqualTo(100);
+        assertThat(hynix).isEqualTo(1_000);
+    }
+
+    @Test
+    void 가격은_호가_단위로_움직이고_가격제한폭을_넘지_않는다() {
+        SimulatedFeed feed = new SimulatedFeed(7, code -> 71_400, 10_000, Map.of(), 5);
+        HantuTickFrame frame = new HantuTickFrame();
+
+        for (int i = 0; i < 200; i++) {
+            List<String> frames = new ArrayList<>();
+            feed.emit("005930", TEN_MILLIS, "093000", frames);
+            for (String message : frames) {
+                int count = HantuTickParser.parseFrame(message, frame);
+                for (int j = 0; j < count; j++) {
+                    int price = frame.get(j).getCurrentPrice();
+                    assertThat(price % SimulatedFeed.tickSize(price)).isZero();
+                    assertThat(price).isBetween(50_000, 92_800);
+                }
+            }
+        }
+    }
+
+    @Test
+    void 종목별_rates_설정을_읽고_잘못된_항목은_건너뛴다() {
+        assertThat(HantuFeedSimulator.parseRates("005930:500, 000660:100,bad,035720:x"))
+                .containsExactlyInAnyOrderEntriesOf(Map.of("005930", 500, "000660", 100));
+        assertThat(HantuFeedSimulator.parseRates("")).isEmpty();
+    }
+}